@@ -0,0 +1,45 @@
+package com.tutoroo.config;
+
+import com.tutoroo.util.GatedDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * [기능: DB 동시 사용 게이트 적용]
+ * 설명: 모든 Hikari 커넥션 풀(기본 DataSource, 복제본 구성 시 primary/replica 각각)을 GatedDataSource로 감쌉니다.
+ * 작동원리:
+ * 1. 풀 설정(spring.datasource.hikari.*)이 바인딩된 뒤 감싸므로 허가 수 = 그 풀의 maximum-pool-size
+ * 2. app.datasource.gate.max-concurrency로 풀보다 작게 제한 가능 (0이면 풀 크기)
+ * 3. Hikari 메트릭/헬스 체크는 DelegatingDataSource를 풀어서 원래 풀을 그대로 찾음
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.gate.enabled", havingValue = "true", matchIfMissing = true)
+public class DbConcurrencyGateConfig {
+
+    // static: 다른 빈보다 먼저 만들어져야 하는 BeanPostProcessor
+    @Bean
+    public static BeanPostProcessor dbConcurrencyGatePostProcessor(ObjectProvider<MeterRegistry> meterRegistry, Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) return bean;
+
+                int configured = environment.getProperty("app.datasource.gate.max-concurrency", Integer.class, 0);
+                int maxConcurrency = configured > 0 ? Math.min(configured, hikari.getMaximumPoolSize()) : hikari.getMaximumPoolSize();
+                long acquireTimeoutMs = environment.getProperty("app.datasource.gate.acquire-timeout-ms", Long.class, 10_000L);
+                String pool = hikari.getPoolName() != null ? hikari.getPoolName() : beanName;
+
+                log.info("🚦 DB 게이트 적용 - pool: {}, 동시 사용 한도: {}, 대기 한도: {}ms", pool, maxConcurrency, acquireTimeoutMs);
+                return new GatedDataSource(hikari, pool, maxConcurrency, acquireTimeoutMs, meterRegistry.getObject());
+            }
+        };
+    }
+}
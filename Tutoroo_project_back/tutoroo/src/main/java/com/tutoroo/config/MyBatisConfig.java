@@ -14,13 +14,14 @@ public class MyBatisConfig {
      * 작동원리:
      * 1. mapUnderscoreToCamelCase를 활성화하여 DB 컬럼명과 Java 필드명을 자동 매칭합니다.
      * 2. null 값이 들어올 때의 처리 방식을 정의합니다.
+     * (fetch size는 지정하지 않음: MySQL 드라이버는 useCursorFetch 없이는 무시하고, 켜면 모든 조회가 서버 커서가 되어 오히려 느려짐.
+     *  대량 조회는 모두 LIMIT 청크로 끊어 읽음)
      */
     @Bean
     public ConfigurationCustomizer configurationCustomizer() {
         return configuration -> {
             configuration.setMapUnderscoreToCamelCase(true); // user_name -> userName
             configuration.setJdbcTypeForNull(org.apache.ibatis.type.JdbcType.NULL);
-            configuration.setDefaultFetchSize(100); // 대량 데이터 조회 시 성능 최적화
         };
     }
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.tutoroo.config;
+
+import com.tutoroo.util.ReadYourWritesTracker;
+import com.tutoroo.util.ReplicaLagMonitor;
+import com.tutoroo.util.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * [기능: 읽기 전용 복제본 DataSource 구성]
+ * 설명: app.datasource.replica.enabled=true일 때만 동작하며, 꺼져 있으면 기존처럼 spring.datasource 하나만 사용합니다.
+ * 작동원리:
+ * 1. primary: spring.datasource.* (+ spring.datasource.hikari.*) 그대로
+ * 2. replica: app.datasource.replica.* (계정을 비우면 primary 계정 사용), 커넥션을 read-only로 열어 실수로 쓰지 않도록 함
+ *    드라이버 설정(spring.datasource.hikari.data-source-properties)은 primary와 같게 적용
+ * 3. 애플리케이션이 쓰는 DataSource = LazyConnectionDataSourceProxy(ReplicaRoutingDataSource)
+ *    -> MyBatis, 트랜잭션 매니저, Flyway가 모두 이 하나를 사용 (Flyway는 트랜잭션 밖이라 항상 primary)
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${app.datasource.replica.url}") String url,
+                                              @Value("${app.datasource.replica.username:}") String username,
+                                              @Value("${app.datasource.replica.password:}") String password,
+                                              @Value("${app.datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+                                              Environment environment) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username.isBlank() ? properties.determineUsername() : username)
+                .password(username.isBlank() ? properties.determinePassword() : password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        // 드라이버 설정(문장 캐시 등)은 primary와 동일하게
+        Binder.get(environment)
+                .bind("spring.datasource.hikari.data-source-properties", Bindable.mapOf(String.class, String.class))
+                .ifBound(driverProperties -> driverProperties.forEach(dataSource::addDataSourceProperty));
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replica,
+                                               @Value("${app.datasource.replica.max-lag-seconds:3}") long maxLagSeconds,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replica, maxLagSeconds, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaLagMonitor lagMonitor,
+                                 ReadYourWritesTracker readYourWritesTracker,
+                                 MeterRegistry meterRegistry) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                primary, replica, lagMonitor::isReplicaAvailable, readYourWritesTracker::isPinned, meterRegistry);
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -78,6 +78,13 @@ public class SecurityConfig {
                                 "/api/practice/**"       // [NEW] 실전 무한 테스트 (여기 추가됨!)
                         ).hasAnyRole("USER", "ADMIN")
 
+                        // [Admin Only] 운영 현황 조회
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
+
+                        // [Admin Only] Actuator 메트릭 (엔드포인트별 트래픽, 커넥션 풀/게이트, 배치 작업 상태), health만 로그인 사용자에게 허용
+                        .requestMatchers("/actuator/health", "/actuator/health/**").authenticated()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                         // 그 외 모든 요청은 인증 필요
                         .anyRequest().authenticated()
                 )
@@ -1,5 +1,6 @@
 package com.tutoroo.config;
 
+import com.tutoroo.filter.AiRateLimitInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
@@ -9,6 +10,7 @@ import org.springframework.format.FormatterRegistry;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -22,14 +24,27 @@ import java.util.List;
  * - 정적 파일 경로 매핑 (이미지, 오디오) -> 절대 경로로 개선됨
  * - JSON 메시지 컨버터 설정 (UTF-8, Octet-Stream 지원)
  * - Enum 대소문자 무시 설정 (Custom Converter 적용)
+ * - AI API 호출 제한 인터셉터 등록
  */
 @Configuration
 @RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final AiRateLimitInterceptor aiRateLimitInterceptor;
+
     @Value("${file.upload-root:./uploads/}")
     private String uploadRoot;
 
+    /**
+     * [인터셉터 등록]
+     * @RateLimited가 붙은 API만 검사하므로 /api/** 전체에 걸어도 다른 API에는 영향 없음
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(aiRateLimitInterceptor)
+                .addPathPatterns("/api/**");
+    }
+
     /**
      * [정적 리소스 매핑 개선]
      * 기존 상대 경로("./uploads")를 시스템 절대 경로("file:///D:/Projects/...")로 변환합니다.
@@ -0,0 +1,34 @@
+package com.tutoroo.controller;
+
+import com.tutoroo.dto.JobRunDTO;
+import com.tutoroo.service.JobMonitorService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/jobs")
+@RequiredArgsConstructor
+@Tag(name = "Admin Job", description = "예약 작업 실행 현황 (관리자 전용)")
+public class AdminJobController {
+
+    private final JobMonitorService jobMonitorService;
+
+    @GetMapping
+    @Operation(summary = "작업별 최근 실행", description = "예약 작업마다 가장 최근 실행의 상태, 소요 시간, 처리/실패 건수, 마지막 오류를 반환합니다.")
+    public ResponseEntity<List<JobRunDTO.Run>> getLatestRuns() {
+        return ResponseEntity.ok(jobMonitorService.getLatestRuns());
+    }
+
+    @GetMapping("/{jobName}/runs")
+    @Operation(summary = "작업 실행 이력", description = "특정 작업의 최근 실행 이력을 최신순으로 반환합니다. (최대 100건)")
+    public ResponseEntity<List<JobRunDTO.Run>> getRunHistory(
+            @PathVariable String jobName,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(jobMonitorService.getRunHistory(jobName, size));
+    }
+}
@@ -0,0 +1,23 @@
+package com.tutoroo.controller;
+
+import com.tutoroo.service.ReferenceDataCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/reference-data")
+@RequiredArgsConstructor
+@Tag(name = "Admin Reference Data", description = "참조 데이터(펫 성장 규칙, 펫 스킬, 프롬프트) 메모리 캐시 (관리자 전용)")
+public class AdminReferenceDataController {
+
+    private final ReferenceDataCache referenceDataCache;
+
+    @PostMapping("/reload")
+    @Operation(summary = "참조 데이터 다시 읽기", description = "DB에서 참조 데이터를 고친 뒤 호출합니다. 버전을 올려 모든 서버가 다음 확인 주기에 다시 읽게 하고, 올린 버전을 반환합니다.")
+    public ResponseEntity<Long> reload() {
+        return ResponseEntity.ok(referenceDataCache.publishChange());
+    }
+}
@@ -3,6 +3,7 @@ package com.tutoroo.controller;
 import com.tutoroo.dto.AssessmentDTO;
 import com.tutoroo.exception.ErrorCode;
 import com.tutoroo.exception.TutorooException;
+import com.tutoroo.filter.RateLimited;
 import com.tutoroo.security.CustomUserDetails;
 import com.tutoroo.service.AssessmentService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -26,6 +27,7 @@ public class AssessmentController {
      * - 프론트엔드는 응답의 isFinished=true가 될 때까지 이 API를 반복 호출해야 합니다.
      */
     @PostMapping("/consult")
+    @RateLimited
     @Operation(summary = "심층 상담 진행", description = "AI와 대화를 주고받으며 수준을 파악합니다. isFinished=true가 될 때까지 반복 호출하세요.")
     public ResponseEntity<AssessmentDTO.ConsultResponse> consult(
             @RequestBody AssessmentDTO.ConsultRequest request
@@ -39,6 +41,7 @@ public class AssessmentController {
      * - 엔드포인트 명 변경: /generate -> /submit (제출 및 생성의 의미 강화)
      */
     @PostMapping("/submit")
+    @RateLimited(cost = 2)
     @Operation(summary = "상담 결과 제출 및 로드맵 생성", description = "상담이 종료되면 호출하여 최종 학습 로드맵을 생성합니다.")
     public ResponseEntity<AssessmentDTO.AssessmentResultResponse> submitAssessment(
             @AuthenticationPrincipal CustomUserDetails user,
@@ -51,6 +54,7 @@ public class AssessmentController {
     // --- 기타 기능 (레벨 테스트 및 로드맵 재생성) ---
 
     @PostMapping("/test/start")
+    @RateLimited
     @Operation(summary = "간편 레벨 테스트 시작", description = "5지선다형 테스트 문제를 생성합니다.")
     public ResponseEntity<AssessmentDTO.LevelTestResponse> startLevelTest(
             @RequestBody AssessmentDTO.LevelTestRequest request
@@ -59,6 +63,7 @@ public class AssessmentController {
     }
 
     @PostMapping("/test/submit")
+    @RateLimited
     @Operation(summary = "레벨 테스트 제출", description = "테스트 답안을 채점하고 결과를 반환합니다.")
     public ResponseEntity<AssessmentDTO.AssessmentResult> submitLevelTest(
             @AuthenticationPrincipal CustomUserDetails user,
@@ -69,6 +74,7 @@ public class AssessmentController {
     }
 
     @PostMapping("/roadmap/regenerate")
+    @RateLimited(cost = 2)
     @Operation(summary = "로드맵 재생성", description = "기존 플랜이 마음에 들지 않을 경우 상담 내용을 바탕으로 다시 생성합니다.")
     public ResponseEntity<AssessmentDTO.AssessmentResultResponse> regenerateRoadmap(
             @AuthenticationPrincipal CustomUserDetails user,
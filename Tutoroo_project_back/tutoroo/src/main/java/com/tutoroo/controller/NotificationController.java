@@ -22,17 +22,21 @@ public class NotificationController {
 
     // 1. SSE 구독 (기존 유지)
     @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    @Operation(summary = "실시간 알림 구독 (SSE)", description = "로그인 직후 이 API를 연결해야 실시간 알림을 받을 수 있습니다.")
-    public SseEmitter subscribe(@AuthenticationPrincipal CustomUserDetails user) {
-        return notificationService.subscribe(user.getId());
+    @Operation(summary = "실시간 알림 구독 (SSE)", description = "로그인 직후 이 API를 연결해야 실시간 알림을 받을 수 있습니다. 재연결 시 Last-Event-ID 이후의 알림을 다시 받습니다.")
+    public SseEmitter subscribe(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return notificationService.subscribe(user.getId(), lastEventId);
     }
 
     // 2. [추가] 내 알림 목록 조회
     @GetMapping
-    @Operation(summary = "알림 보관함 조회", description = "지난 알림 내역과 안 읽은 알림 개수를 반환합니다.")
+    @Operation(summary = "알림 보관함 조회", description = "지난 알림 내역과 안 읽은 알림 개수를 반환합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달하세요.")
     public ResponseEntity<NotificationDTO.Response> getNotifications(
-            @AuthenticationPrincipal CustomUserDetails user) {
-        return ResponseEntity.ok(notificationService.getMyNotifications(user.getId()));
+            @AuthenticationPrincipal CustomUserDetails user,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(notificationService.getMyNotifications(user.getId(), cursor, size));
     }
 
     // 3. [추가] 알림 읽음 처리
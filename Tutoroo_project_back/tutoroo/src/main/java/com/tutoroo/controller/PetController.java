@@ -75,15 +75,4 @@ public class PetController {
     public ResponseEntity<List<PetDTO.PetDiaryResponse>> getDiaries(@AuthenticationPrincipal CustomUserDetails user) {
         return ResponseEntity.ok(petService.getMyDiaries(user.getId()));
     }
-
-//-------------------------------------------------------------------
-//    @GetMapping("/test/diary")
-//    public ResponseEntity<String> testDiary(@AuthenticationPrincipal CustomUserDetails user) {
-//        try {
-//            petService.writeMidnightDiary(user.getId());
-//            return ResponseEntity.ok("✅ 테스트 성공! DB의 pet_diary 테이블을 확인해보세요.");
-//        } catch (Exception e) {
-//            return ResponseEntity.ok("❌ 실패: " + e.getMessage());
-//        }
-//    }
 }
@@ -1,6 +1,7 @@
 package com.tutoroo.controller;
 
 import com.tutoroo.dto.PracticeDTO;
+import com.tutoroo.filter.RateLimited;
 import com.tutoroo.security.CustomUserDetails;
 import com.tutoroo.service.PracticeService;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +18,7 @@ public class PracticeController {
 
     // 1. 무한 실전 테스트 생성 (일반 모드 / 약점 모드)
     @PostMapping("/generate")
+    @RateLimited(cost = 2)
     public ResponseEntity<PracticeDTO.TestResponse> generateTest(
             @AuthenticationPrincipal CustomUserDetails user,
             @RequestBody PracticeDTO.GenerateRequest request
@@ -26,6 +28,7 @@ public class PracticeController {
 
     // 2. 테스트 제출 및 AI 채점
     @PostMapping("/submit")
+    @RateLimited
     public ResponseEntity<PracticeDTO.GradingResponse> submitTest(
             @AuthenticationPrincipal CustomUserDetails user,
             @RequestBody PracticeDTO.SubmitRequest request
@@ -3,9 +3,9 @@ package com.tutoroo.controller;
 import com.tutoroo.dto.StudyDTO;
 import com.tutoroo.exception.ErrorCode;
 import com.tutoroo.exception.TutorooException;
+import com.tutoroo.filter.RateLimited;
 import com.tutoroo.security.CustomUserDetails;
 import com.tutoroo.service.StudyService;
-import com.tutoroo.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -22,7 +22,6 @@ import java.util.List;
 public class StudyController {
 
     private final StudyService studyService;
-    private final UserService userService;
 
     // =================================================================================
     // 1. 조회 API (상태, 상세, 목록, 캘린더)
@@ -99,13 +98,14 @@ public class StudyController {
     }
 
     @PostMapping("/logs")
-    @Operation(summary = "학습 로그 저장", description = "오늘의 학습 내용, 점수, 소감을 저장하고 포인트를 지급합니다.")
+    @Operation(summary = "학습 로그 저장", description = "오늘의 학습 내용, 점수, 소감을 저장하고 포인트를 지급합니다. 재시도할 때는 같은 Idempotency-Key 헤더를 보내면 한 번만 저장됩니다.")
     public ResponseEntity<String> saveStudyLog(
             @AuthenticationPrincipal CustomUserDetails user,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody StudyDTO.StudyLogRequest request
     ) {
         if (user == null) throw new TutorooException(ErrorCode.UNAUTHORIZED_ACCESS);
-        studyService.saveSimpleLog(user.getId(), request);
+        studyService.saveSimpleLog(user.getId(), request, idempotencyKey);
         return ResponseEntity.ok("학습 기록이 저장되었습니다.");
     }
 
@@ -127,6 +127,7 @@ public class StudyController {
     // =================================================================================
 
     @PostMapping("/chat/simple")
+    @RateLimited
     @Operation(summary = "학습 관련 AI 채팅", description = "로드맵 컨텍스트가 주입된 AI 선생님과 실시간으로 대화합니다.")
     public ResponseEntity<StudyDTO.ChatResponse> sendChatMessage(
             @AuthenticationPrincipal CustomUserDetails user,
@@ -141,6 +142,7 @@ public class StudyController {
     }
 
     @PostMapping("/plans/{planId}/ai-feedback")
+    @RateLimited
     @Operation(summary = "AI 상세 피드백 생성", description = "최신 학습 로그를 바탕으로 AI 선생님의 상세한 피드백을 생성합니다.")
     public ResponseEntity<String> generateAiFeedback(
             @AuthenticationPrincipal CustomUserDetails user,
@@ -152,7 +154,6 @@ public class StudyController {
         studyService.getPlanDetail(user.getId(), planId);
 
         String feedback = studyService.generateAiFeedbackByPlanId(planId);
-        userService.evictDashboardCache(user.getUsername()); // 대시보드 갱신
 
         return ResponseEntity.ok(feedback);
     }
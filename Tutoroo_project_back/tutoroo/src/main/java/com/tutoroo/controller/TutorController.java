@@ -1,6 +1,7 @@
 package com.tutoroo.controller;
 
 import com.tutoroo.dto.TutorDTO;
+import com.tutoroo.filter.RateLimited;
 import com.tutoroo.security.CustomUserDetails;
 import com.tutoroo.service.TutorService;
 import com.tutoroo.service.UserService;
@@ -21,6 +22,7 @@ public class TutorController {
 
     // 1. 수업 시작 (오프닝 + 스케줄 생성)
     @PostMapping("/class/start")
+    @RateLimited
     public ResponseEntity<TutorDTO.ClassStartResponse> startClass(
             @AuthenticationPrincipal CustomUserDetails user,
             @RequestBody TutorDTO.ClassStartRequest request
@@ -30,6 +32,7 @@ public class TutorController {
 
     // 2. [New] 세션(모드) 변경 시 AI 멘트 요청 (BREAK, TEST 등)
     @PostMapping("/session/start")
+    @RateLimited
     public ResponseEntity<TutorDTO.SessionStartResponse> startSession(
             @AuthenticationPrincipal CustomUserDetails user,
             @RequestBody TutorDTO.SessionStartRequest request
@@ -39,6 +42,7 @@ public class TutorController {
 
     // 3. 데일리 테스트 문제 생성
     @GetMapping("/test/generate")
+    @RateLimited
     public ResponseEntity<TutorDTO.DailyTestResponse> generateTest(
             @AuthenticationPrincipal CustomUserDetails user,
             @RequestParam Long planId,
@@ -49,8 +53,10 @@ public class TutorController {
 
     // 4. 테스트 제출 및 채점
     @PostMapping(value = "/test/submit", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @RateLimited
     public ResponseEntity<TutorDTO.TestFeedbackResponse> submitTest(
             @AuthenticationPrincipal CustomUserDetails user,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestPart("data") TutorDTO.TestSubmitRequest request,
             @RequestPart(value = "image", required = false) MultipartFile image
     ) {
@@ -58,12 +64,14 @@ public class TutorController {
                 user.getId(),
                 request.planId(),
                 request.textAnswer(),
-                image
+                image,
+                idempotencyKey
         ));
     }
 
     // 5. AI와 채팅 (커리큘럼 조정 및 질의응답) - 이미지 지원 추가
     @PostMapping(value = "/feedback/chat", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @RateLimited
     public ResponseEntity<TutorDTO.FeedbackChatResponse> chatWithTutor(
             @AuthenticationPrincipal CustomUserDetails user,
             @RequestPart("data") TutorDTO.FeedbackChatRequest request,
@@ -87,6 +95,7 @@ public class TutorController {
 
     // 7. 주간/월간 시험 생성
     @GetMapping("/exam/generate")
+    @RateLimited(cost = 2)
     public ResponseEntity<TutorDTO.ExamGenerateResponse> generateExam(
             @AuthenticationPrincipal CustomUserDetails user,
             @RequestParam Long planId,
@@ -98,6 +107,7 @@ public class TutorController {
 
     // 8. 시험 제출
     @PostMapping("/exam/submit")
+    @RateLimited
     public ResponseEntity<TutorDTO.ExamResultResponse> submitExam(
             @AuthenticationPrincipal CustomUserDetails user,
             @RequestBody TutorDTO.ExamSubmitRequest request
@@ -107,6 +117,7 @@ public class TutorController {
 
     // 9. STT (음성 -> 텍스트 변환)
     @PostMapping(value = "/stt", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @RateLimited
     public ResponseEntity<String> convertSpeechToText(@RequestPart("audio") MultipartFile audio) {
         return ResponseEntity.ok(tutorService.convertSpeechToText(audio));
     }
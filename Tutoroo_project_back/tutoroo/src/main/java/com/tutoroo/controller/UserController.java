@@ -36,7 +36,7 @@ public class UserController {
     @Operation(summary = "대시보드 조회", description = "메인 화면의 학습 현황 및 요약 정보를 반환합니다.")
     public ResponseEntity<UserDTO.DashboardDTO> getDashboard(@AuthenticationPrincipal CustomUserDetails user) {
         if (user == null) throw new TutorooException(ErrorCode.UNAUTHORIZED_ACCESS);
-        return ResponseEntity.ok(userService.getAdvancedDashboard(user.getUsername()));
+        return ResponseEntity.ok(userService.getAdvancedDashboard(user.getId()));
     }
 
     // 3. 회원 정보 수정
@@ -0,0 +1,41 @@
+package com.tutoroo.dto;
+
+import com.tutoroo.entity.JobRunEntity;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+public class JobRunDTO {
+
+    // 예약 작업 실행 1건
+    @Builder
+    public record Run(
+            String jobName,
+            String runKey,
+            String status,            // RUNNING, COMPLETED, FAILED
+            LocalDateTime startedAt,
+            LocalDateTime finishedAt,
+            Long durationMs,
+            int totalCount,           // 처리한 항목 수
+            int succeededCount,
+            int failedCount,
+            Long checkpointId,        // 청크 작업의 재개 지점
+            String errorMessage       // 마지막 오류 (성공 시 null)
+    ) {
+        public static Run from(JobRunEntity entity) {
+            return Run.builder()
+                    .jobName(entity.getJobName())
+                    .runKey(entity.getRunKey())
+                    .status(entity.getStatus())
+                    .startedAt(entity.getStartedAt())
+                    .finishedAt(entity.getFinishedAt())
+                    .durationMs(entity.getDurationMs())
+                    .totalCount(entity.getTotalCount())
+                    .succeededCount(entity.getSucceededCount())
+                    .failedCount(entity.getFailedCount())
+                    .checkpointId(entity.getCheckpointId())
+                    .errorMessage(entity.getErrorMessage())
+                    .build();
+        }
+    }
+}
@@ -9,7 +9,9 @@ public class NotificationDTO {
     @Builder
     public record Response(
             List<NotificationItem> notifications,
-            long unreadCount
+            long unreadCount,
+            Long nextCursor,  // 다음 페이지 요청 시 cursor로 전달 (마지막 항목 id)
+            boolean hasNext
     ) {}
 
     // 개별 알림 항목
@@ -0,0 +1,28 @@
+package com.tutoroo.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobRunEntity {
+    private Long id;
+    private String jobName;
+    private String runKey;          // 같은 작업의 실행 구분자 (예: 대상 날짜)
+    private String status;          // RUNNING, COMPLETED, FAILED
+    private long fencingToken;      // 현재 실행을 소유한 분산 잠금 번호
+    private Long checkpointId;      // 여기까지 처리 완료 (재개 시 이 ID 이후부터)
+    private int totalCount;
+    private int succeededCount;
+    private int failedCount;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private Long durationMs;
+    private String errorMessage;
+}
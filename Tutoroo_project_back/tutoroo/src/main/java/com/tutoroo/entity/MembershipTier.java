@@ -7,7 +7,7 @@ import java.util.Set;
 
 /**
  * [기능: 멤버십 등급 정의]
- * 설명: 등급별 혜택(선택 가능한 펫, TTS 품질, 졸업 보상, 최대 학습 목표 수)을 관리합니다.
+ * 설명: 등급별 혜택(선택 가능한 펫, TTS 품질, 졸업 보상, 최대 학습 목표 수, AI 호출 한도)을 관리합니다.
  */
 @Getter
 @RequiredArgsConstructor
@@ -17,6 +17,7 @@ public enum MembershipTier {
     // - 펫: 3종 (호랑이, 토끼, 거북이)
     // - 보상: 졸업 알 1개
     // - 학습 목표: 최대 1개 동시 진행 가능
+    // - AI 호출: 순간 10회, 분당 10회
     BASIC(
             1,
             "tts-1",
@@ -24,13 +25,16 @@ public enum MembershipTier {
             "SIMPLE",
             Set.of(PetType.TIGER, PetType.RABBIT, PetType.TURTLE),
             1,
-            1 // [New] maxActiveGoals
+            1, // [New] maxActiveGoals
+            10,
+            10
     ),
 
     // 2. STANDARD (유료 - 9,900원)
     // - 펫: 7종 (Basic + 오소리, 쿼카, 캥거루, 동양용)
     // - 보상: 졸업 알 2개
     // - 학습 목표: 최대 3개 동시 진행 가능
+    // - AI 호출: 순간 20회, 분당 30회
     STANDARD(
             3,
             "tts-1",
@@ -39,13 +43,16 @@ public enum MembershipTier {
             Set.of(PetType.TIGER, PetType.RABBIT, PetType.TURTLE,
                     PetType.HONEY_BADGER, PetType.QUOKKA, PetType.KANGAROO, PetType.EASTERN_DRAGON),
             2,
-            3 // [New] maxActiveGoals
+            3, // [New] maxActiveGoals
+            20,
+            30
     ),
 
     // 3. PREMIUM (유료 - 29,900원)
     // - 펫: 모든 펫 (10종)
     // - 보상: 졸업 알 3개
     // - 학습 목표: 최대 10개 (사실상 무제한) 동시 진행 가능
+    // - AI 호출: 순간 40회, 분당 60회
     PREMIUM(
             5,
             "tts-1",
@@ -53,7 +60,9 @@ public enum MembershipTier {
             "DAILY",
             Set.of(PetType.values()), // 모든 펫
             3,
-            10 // [New] maxActiveGoals
+            10, // [New] maxActiveGoals
+            40,
+            60
     );
 
     private final int tierLevel;          // 등급 레벨 (높을수록 좋음)
@@ -63,4 +72,6 @@ public enum MembershipTier {
     private final Set<PetType> allowedPets; // 입양 가능한 펫 목록
     private final int graduationEggCount; // 졸업 시 보상 알 개수
     private final int maxActiveGoals;     // [필수] 동시 진행 가능한 최대 학습 목표 수
+    private final int aiBurstCapacity;    // AI 호출 토큰 버킷 크기 (순간 최대 호출 수)
+    private final int aiRequestsPerMinute; // AI 호출 토큰 충전 속도 (분당)
 }
\ No newline at end of file
@@ -40,6 +40,9 @@ public class PetInfoEntity {
     private LocalDateTime lastPlayedAt;
     private LocalDateTime lastCleanedAt;
     private LocalDateTime lastSleptAt;
+    private LocalDateTime decayAppliedAt; // fullness/intimacy 기준 시각 (현재 값 = 기준값 - 경과 시간 * 감소량)
+    private LocalDateTime runawayAt;      // 방치 시 가출 예정 시각 (쓰기 시점에 계산)
+    private LocalDateTime ranAwayAt;      // 가출 처리 시각
     private LocalDateTime birthDate;
     private LocalDateTime createdAt;
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.tutoroo.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * [기능: 로드맵 일자별 커리큘럼 엔티티]
+ * 설명: AI 로드맵의 detailedCurriculum 한 칸(N일차)을 한 행으로 저장합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoadmapDayEntity {
+    private Long planId;
+    private int day;            // N번째 수업 (커리큘럼 순서, 1부터)
+    private String dayLabel;    // 원래 일차 표기 "1일차"
+    private String week;        // "1주차"
+    private String topic;       // "변수 선언법"
+    private String method;      // "강의 수강"
+    private String material;    // "1장 교재"
+}
@@ -0,0 +1,27 @@
+package com.tutoroo.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * [기능: 일별 학습 요약 엔티티]
+ * 설명: 유저의 하루치 학습 로그를 한 행으로 합친 결과입니다. (달력, 연속 학습일 계산용)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyDailySummaryEntity {
+    private Long userId;
+    private LocalDate studyDate;
+    private int logCount;           // 그날 저장된 학습 로그 수
+    private boolean isDone;         // 완료한 학습이 하나라도 있는지
+    private Integer bestScore;      // 그날 최고 점수 (점수 없는 로그만 있으면 null)
+    private String topics;          // 그날 학습 주제 모음
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,48 @@
+package com.tutoroo.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * [기능: 학습 완료 이벤트 Outbox]
+ * 설명: 학습 로그 저장과 같은 트랜잭션에서 기록되는 보상 처리 요청입니다.
+ * StudyEventRelay가 비동기로 읽어 포인트/랭킹/펫 경험치/알림을 처리합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyEventOutboxEntity {
+    public static final String TYPE_STUDY_COMPLETED = "STUDY_COMPLETED";
+
+    private Long id;
+    private String eventType;
+    private Long studyLogId;
+    private Long userId;
+    private int score;
+    private int pointChange;        // 지급할 포인트
+    private int petExp;             // 지급할 펫 경험치
+    private String status;          // PENDING, PROCESSING, DONE, FAILED
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+    private String claimedBy;
+    private LocalDateTime claimedAt;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime processedAt;
+
+    public static StudyEventOutboxEntity studyCompleted(StudyLogEntity log, Long userId, int petExp) {
+        return StudyEventOutboxEntity.builder()
+                .eventType(TYPE_STUDY_COMPLETED)
+                .studyLogId(log.getId())
+                .userId(userId)
+                .score(log.getTestScore() != null ? log.getTestScore() : 0)
+                .pointChange(log.getPointChange() != null ? log.getPointChange() : 0)
+                .petExp(petExp)
+                .build();
+    }
+}
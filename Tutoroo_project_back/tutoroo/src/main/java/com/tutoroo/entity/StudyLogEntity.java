@@ -1,5 +1,7 @@
 package com.tutoroo.entity;
 
+import com.tutoroo.exception.ErrorCode;
+import com.tutoroo.exception.TutorooException;
 import lombok.*;
 import java.time.LocalDateTime;
 
@@ -16,8 +18,10 @@ import java.time.LocalDateTime;
 public class StudyLogEntity {
     private Long id;                // 로그 PK
     private Long planId;            // 학습 플랜 FK
+    private Long userId;            // 플랜 소유자 (유저 단위 조회용 비정규화 컬럼)
     private LocalDateTime studyDate;// 학습 일시
     private Integer dayCount;       // N일차 표시
+    private String idempotencyKey;  // 클라이언트가 보낸 멱등 키 (같은 요청 재시도 시 중복 저장 방지)
 
     private String contentSummary;  // 학습 내용 요약
     private String dailySummary;    // ★ 별표시가 포함된 상세 요약본 (복습용)
@@ -31,4 +35,16 @@ public class StudyLogEntity {
 
     private Integer pointChange;    // 획득 포인트
     private Boolean isCompleted;    // 학습 완료 여부
+
+    public static final int IDEMPOTENCY_KEY_MAX_LENGTH = 64;
+
+    // Idempotency-Key 헤더 정리 (비어 있으면 null, 컬럼 길이를 넘으면 잘못된 요청)
+    public static String normalizeIdempotencyKey(String key) {
+        if (key == null || key.isBlank()) return null;
+        String trimmed = key.trim();
+        if (trimmed.length() > IDEMPOTENCY_KEY_MAX_LENGTH) {
+            throw new TutorooException("Idempotency-Key는 " + IDEMPOTENCY_KEY_MAX_LENGTH + "자 이하여야 합니다.", ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return trimmed;
+    }
 }
\ No newline at end of file
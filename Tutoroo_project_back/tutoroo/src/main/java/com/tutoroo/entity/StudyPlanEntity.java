@@ -25,7 +25,7 @@ public class StudyPlanEntity {
     private String customTutorName; // 사용자가 지어준 선생님 애칭
     private String customOption;
     // --- [AI 진단 & 로드맵 (핵심)] ---
-    // MySQL: LONGTEXT, Postgres: TEXT (매우 긴 JSON 데이터 저장)
+    // 요약/목차/시험 일정 JSON (일자별 커리큘럼은 roadmap_days, 플랜 조회 시에는 읽지 않아 null)
     private String roadmapJson;
 
     private String currentLevel;    // AI가 진단한 현재 레벨 (BEGINNER 등)
@@ -37,6 +37,8 @@ public class StudyPlanEntity {
 
     // [수정] null 안전성을 위해 double -> Double 변경
     private Double progressRate;
+    private Integer lastDayCount;   // 마지막으로 기록한 N일차 (학습 로그 저장 시 원자적으로 증가)
+    private String lastLogKey;      // 마지막 학습 로그 요청의 멱등 키 (재시도 판별용)
 
     // --- [상태 관리] ---
     private Boolean isPaid;         // 유료 멤버십 플랜 여부
@@ -67,6 +67,10 @@ public class UserEntity {
 
     // 1. 이름 마스킹 (김철수 -> 김*수, James -> J*s)
     public String getMaskedName() {
+        return maskName(name);
+    }
+
+    public static String maskName(String name) {
         if (name == null || name.length() < 2) {
             return name;
         }
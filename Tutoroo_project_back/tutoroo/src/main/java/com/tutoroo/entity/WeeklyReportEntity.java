@@ -0,0 +1,33 @@
+package com.tutoroo.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * [기능: 주간 학부모 리포트 발송 기록]
+ * 설명: 학생별/주차별 리포트 발송 결과와 발송 당시의 주간 학습 통계를 저장합니다.
+ * (user_id, week_start)가 유일하므로 재실행 시 이미 처리된 학생은 건너뜁니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeeklyReportEntity {
+    private Long id;
+    private Long userId;
+    private LocalDate weekStart;    // 리포트 대상 주의 월요일
+    private String status;          // SENT, SKIPPED
+
+    // --- [주간 통계 (SQL 집계)] ---
+    private int logCount;           // 주간 학습 로그 수
+    private int studyDays;          // 공부한 날 수
+    private Integer avgScore;       // 평균 점수 (점수 기록이 없으면 null)
+
+    private String message;         // 발송한 알림톡 내용
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,234 @@
+package com.tutoroo.event;
+
+import com.tutoroo.entity.StudyEventOutboxEntity;
+import com.tutoroo.entity.UserEntity;
+import com.tutoroo.mapper.StudyEventOutboxMapper;
+import com.tutoroo.mapper.UserMapper;
+import com.tutoroo.scheduler.BatchJobRunner;
+import com.tutoroo.service.NotificationService;
+import com.tutoroo.service.PetService;
+import com.tutoroo.service.RankingService;
+import com.tutoroo.util.DistributedJobLock;
+import com.tutoroo.util.ReadYourWritesTracker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * [기능: 학습 완료 이벤트 중계기 (Outbox Relay)]
+ * 설명: study_event_outbox에 쌓인 학습 완료 이벤트를 묶음 단위로 읽어 보상(포인트, 펫 경험치, 랭킹, 알림)을 처리합니다.
+ * 작동원리:
+ * 1. 학습 로그 저장 트랜잭션에서 이벤트 행을 함께 기록 -> 요청 스레드는 보상 처리를 기다리지 않음
+ * 2. 폴러가 batchSize개씩 claimed_by로 선점 (서버 여러 대여도 UPDATE 행 잠금으로 한 서버만 가져감)
+ * 3. 포인트/펫 경험치 반영과 DONE 표시를 한 트랜잭션에서 처리 -> 커밋되면 함께 반영, 실패하면 함께 롤백 (정확히 한 번)
+ * 4. 같은 유저의 이벤트는 묶음 안에서 합산해 UPDATE 1번으로 반영
+ * 5. 묶음이 실패하면 건별로 다시 처리하고, 그래도 실패한 건만 지수 백오프로 재시도 (maxAttempts 초과 시 FAILED)
+ * 6. 랭킹(ZADD 최종값 덮어쓰기)과 알림은 커밋 이후 실행 (재실행돼도 결과가 같음), 그 전에 유저를 잠시 primary에 고정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyEventRelay {
+
+    private static final String STATUS_PENDING = "PENDING";
+    private static final String STATUS_FAILED = "FAILED";
+    private static final String CLEANUP_JOB_NAME = "study-outbox-cleanup";
+
+    private final StudyEventOutboxMapper outboxMapper;
+    private final UserMapper userMapper;
+    private final PetService petService;
+    private final RankingService rankingService;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+    private final DistributedJobLock jobLock;
+    private final BatchJobRunner batchJobRunner;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<ReadYourWritesTracker> readYourWritesTracker; // 복제본 구성일 때만 존재
+
+    @Value("${app.outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.outbox.max-batches-per-poll:10}")
+    private int maxBatchesPerPoll;
+
+    @Value("${app.outbox.lease-seconds:60}")
+    private int leaseSeconds;
+
+    @Value("${app.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${app.outbox.backoff-base-ms:1000}")
+    private long backoffBaseMs;
+
+    @Value("${app.outbox.retention-days:7}")
+    private int retentionDays;
+
+    // 이 서버의 선점 표식 (재시작하면 새 이름, 이전 선점분은 임대 만료 후 다시 처리)
+    private final String relayId = "relay-" + UUID.randomUUID();
+
+    private Timer lagTimer;
+
+    @PostConstruct
+    void initMetrics() {
+        lagTimer = Timer.builder("outbox.relay.lag")
+                .description("학습 완료 이벤트 기록부터 보상 반영까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        if (!enabled) return;
+        try {
+            for (int i = 0; i < maxBatchesPerPoll; i++) {
+                int claimed = outboxMapper.claimBatch(relayId, leaseSeconds, batchSize);
+                if (claimed == 0) return;
+                process(outboxMapper.findClaimed(relayId));
+                if (claimed < batchSize) return;
+            }
+        } catch (Exception e) {
+            // 예외가 밖으로 나가도 다음 주기에 다시 실행되지만, 로그는 한 곳에서 남김
+            log.error("❌ [Outbox] 학습 이벤트 중계 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 처리 완료된 이벤트 정리 (매일 새벽 4시 20분, 실행 기록은 관리자 작업 현황에 표시)
+     */
+    @Scheduled(cron = "0 20 4 * * *")
+    public void purgeProcessedEvents() {
+        String runKey = LocalDate.now().toString();
+        jobLock.runExclusive(CLEANUP_JOB_NAME, Duration.ofMinutes(5), lease ->
+                batchJobRunner.runTracked(CLEANUP_JOB_NAME, runKey, lease.fencingToken(), () -> {
+                    LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+                    int total = 0;
+                    int deleted;
+                    do {
+                        deleted = outboxMapper.deleteDoneBefore(before, 1000);
+                        total += deleted;
+                    } while (deleted > 0 && lease.isValid());
+                    log.info("🧹 [Outbox] 처리 완료된 학습 이벤트 {}건 정리", total);
+                    return total;
+                }));
+    }
+
+    // --- 내부 메서드 ---
+
+    private void process(List<StudyEventOutboxEntity> events) {
+        if (events.isEmpty()) return;
+
+        try {
+            if (Boolean.TRUE.equals(transactionTemplate.execute(status -> applyRewards(events, status)))) {
+                afterCommit(events);
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ [Outbox] 묶음 처리 실패 ({}건) - 건별 처리로 전환: {}", events.size(), e.getMessage());
+        }
+
+        // 묶음 실패 시 문제 있는 건만 골라내기 위해 건별 트랜잭션으로 처리
+        for (StudyEventOutboxEntity event : events) {
+            try {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> applyRewards(List.of(event), status)))) {
+                    afterCommit(List.of(event));
+                }
+            } catch (Exception e) {
+                scheduleRetry(event, e);
+            }
+        }
+    }
+
+    // DONE 표시 + 보상 반영 (같은 트랜잭션), 선점을 잃은 행이 섞여 있으면 롤백
+    private Boolean applyRewards(List<StudyEventOutboxEntity> events, TransactionStatus status) {
+        List<Long> ids = events.stream().map(StudyEventOutboxEntity::getId).toList();
+        if (outboxMapper.markDone(ids, relayId) != ids.size()) {
+            status.setRollbackOnly();
+            return false;
+        }
+
+        for (Map.Entry<Long, int[]> entry : sumByUser(events).entrySet()) {
+            Long userId = entry.getKey();
+            int points = entry.getValue()[0];
+            int petExp = entry.getValue()[1];
+            if (points > 0) userMapper.earnPoints(userId, points);
+            if (petExp > 0) petService.gainExp(userId, petExp);
+        }
+        return true;
+    }
+
+    private void afterCommit(List<StudyEventOutboxEntity> events) {
+        LocalDateTime now = LocalDateTime.now();
+        for (StudyEventOutboxEntity event : events) {
+            if (event.getCreatedAt() != null) {
+                lagTimer.record(Duration.between(event.getCreatedAt(), now));
+            }
+        }
+        meterRegistry.counter("outbox.events", "outcome", "done").increment(events.size());
+
+        sumByUser(events).forEach((userId, reward) -> {
+            // 알림을 받고 바로 새로고침해도 복제 지연으로 이전 값이 다시 캐시되지 않도록 먼저 primary에 고정
+            readYourWritesTracker.ifAvailable(tracker -> tracker.pin(userId));
+            try {
+                // DB의 최종 포인트로 덮어쓰므로 여러 번 실행돼도 결과가 같음
+                UserEntity user = userMapper.findById(userId);
+                if (user != null) {
+                    rankingService.updateUserScore(userId, user.getTotalPoint());
+                }
+                eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
+                notificationService.send(userId, "📚 학습 보상으로 " + reward[0] + "P를 받았어요!");
+            } catch (Exception e) {
+                log.warn("⚠️ [Outbox] 보상 후처리 실패 (User: {}): {}", userId, e.getMessage());
+            }
+        });
+    }
+
+    private void scheduleRetry(StudyEventOutboxEntity event, Exception e) {
+        int attempt = event.getAttempts() + 1;
+        boolean giveUp = attempt >= maxAttempts;
+        // Full Jitter 백오프
+        long maxBackoff = backoffBaseMs << Math.min(attempt - 1, 10);
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plusNanos(
+                ThreadLocalRandom.current().nextLong(maxBackoff + 1) * 1_000_000);
+        String error = e.getMessage() != null && e.getMessage().length() > 500 ? e.getMessage().substring(0, 500) : e.getMessage();
+
+        outboxMapper.markRetry(event.getId(), relayId, giveUp ? STATUS_FAILED : STATUS_PENDING, nextAttemptAt, error);
+        meterRegistry.counter("outbox.events", "outcome", giveUp ? "failed" : "retry").increment();
+        if (giveUp) {
+            log.error("❌ [Outbox] 학습 이벤트 처리 포기 (ID: {}, Log: {}, {}회 시도): {}",
+                    event.getId(), event.getStudyLogId(), attempt, error);
+        }
+    }
+
+    // 유저별 [포인트 합, 펫 경험치 합]
+    private Map<Long, int[]> sumByUser(List<StudyEventOutboxEntity> events) {
+        Map<Long, int[]> sums = new LinkedHashMap<>();
+        for (StudyEventOutboxEntity event : events) {
+            int[] sum = sums.computeIfAbsent(event.getUserId(), k -> new int[2]);
+            sum[0] += event.getPointChange();
+            sum[1] += event.getPetExp();
+        }
+        return sums;
+    }
+}
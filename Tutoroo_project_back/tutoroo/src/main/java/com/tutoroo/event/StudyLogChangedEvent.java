@@ -0,0 +1,7 @@
+package com.tutoroo.event;
+
+/**
+ * [이벤트: 학습 로그 변경]
+ * 설명: 학습 로그 저장, AI 피드백 갱신 시 발행됩니다. (대시보드 점수 추이/최근 피드백 조각 무효화)
+ */
+public record StudyLogChangedEvent(Long planId) {}
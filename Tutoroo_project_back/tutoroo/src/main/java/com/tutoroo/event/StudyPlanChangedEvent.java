@@ -0,0 +1,7 @@
+package com.tutoroo.event;
+
+/**
+ * [이벤트: 학습 플랜 변경]
+ * 설명: 플랜 생성/삭제, 목표·선생님·진도율 변경 시 발행됩니다. (대시보드 플랜 목록 조각 무효화)
+ */
+public record StudyPlanChangedEvent(Long userId) {}
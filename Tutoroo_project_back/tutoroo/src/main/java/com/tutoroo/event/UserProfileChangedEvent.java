@@ -0,0 +1,7 @@
+package com.tutoroo.event;
+
+/**
+ * [이벤트: 유저 프로필 변경]
+ * 설명: 학습 보상 포인트 적립, 이름 등 회원 정보 변경 시 발행됩니다. (대시보드 프로필 조각 무효화)
+ */
+public record UserProfileChangedEvent(Long userId) {}
@@ -14,6 +14,7 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C003", "서버 내부 오류가 발생했습니다."),
     FILE_UPLOAD_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C004", "파일 업로드 중 오류가 발생했습니다."),
     FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "C005", "요청하신 파일을 찾을 수 없습니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "C006", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     // --- [User: 사용자 및 인증 (U)] ---
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "U001", "사용자를 찾을 수 없습니다."),
@@ -33,6 +34,7 @@ public enum ErrorCode {
     MULTIPLE_PLANS_REQUIRED_PAYMENT(HttpStatus.PAYMENT_REQUIRED, "L003", "추가 목표 설정은 유료 멤버십 기능입니다."),
     INSUFFICIENT_POINTS(HttpStatus.BAD_REQUEST, "L004", "보유 포인트가 부족합니다."),
     STT_PROCESSING_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "L005", "음성 인식(STT) 처리 중 오류가 발생했습니다."),
+    DUPLICATE_STUDY_LOG(HttpStatus.CONFLICT, "L006", "이미 저장된 학습 기록입니다."),
 
     // --- [Pet: 펫/다마고치 (P)] ---
     PET_NOT_FOUND(HttpStatus.NOT_FOUND, "P001", "육성 중인 펫 정보를 찾을 수 없습니다."),
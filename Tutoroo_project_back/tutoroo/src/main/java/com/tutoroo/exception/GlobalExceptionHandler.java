@@ -1,6 +1,7 @@
 package com.tutoroo.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -18,6 +19,16 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(ErrorResponse.of(errorCode), errorCode.getStatus());
     }
 
+    // 호출 한도 초과: 클라이언트가 언제 재시도하면 되는지 Retry-After 헤더로 알려줌
+    @ExceptionHandler(RateLimitExceededException.class)
+    protected ResponseEntity<ErrorResponse> handleRateLimitExceededException(RateLimitExceededException e) {
+        log.debug("Rate Limited: {}", e.getMessage());
+        ErrorCode errorCode = e.getErrorCode();
+        return ResponseEntity.status(errorCode.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ErrorResponse.of(errorCode));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     protected ResponseEntity<ErrorResponse> handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
         log.warn("Validation Error: {}", e.getMessage());
@@ -0,0 +1,19 @@
+package com.tutoroo.exception;
+
+import lombok.Getter;
+
+/**
+ * [기능: 호출 한도 초과 예외]
+ * 설명: 토큰 버킷이 비어 요청을 거절할 때 던집니다.
+ * 작동원리: GlobalExceptionHandler가 429 응답과 함께 Retry-After 헤더(초)를 내려줍니다.
+ */
+@Getter
+public class RateLimitExceededException extends TutorooException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message, ErrorCode.TOO_MANY_REQUESTS);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
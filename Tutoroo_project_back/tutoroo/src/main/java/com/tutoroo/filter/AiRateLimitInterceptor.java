@@ -0,0 +1,74 @@
+package com.tutoroo.filter;
+
+import com.tutoroo.entity.MembershipTier;
+import com.tutoroo.exception.RateLimitExceededException;
+import com.tutoroo.security.CustomUserDetails;
+import com.tutoroo.util.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * [기능: AI API 호출 제한 인터셉터]
+ * 설명: @RateLimited가 붙은 API에 대해 유저(비로그인은 IP)별 토큰 버킷을 검사합니다.
+ * 작동원리:
+ * 1. 컨트롤러 진입 전(요청 본문 파싱, DB 조회, 모델 호출 전)에 실행
+ * 2. 한도는 MembershipTier의 aiBurstCapacity / aiRequestsPerMinute를 따름
+ * 3. 토큰 부족 시 RateLimitExceededException -> 429 + Retry-After
+ * 4. 엔드포인트/등급/결과별 카운터를 Micrometer로 기록 (ai.ratelimit.requests)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiRateLimitInterceptor implements HandlerInterceptor {
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled || !(handler instanceof HandlerMethod handlerMethod)) return true;
+
+        RateLimited rateLimited = handlerMethod.getMethodAnnotation(RateLimited.class);
+        if (rateLimited == null) return true;
+
+        MembershipTier tier = MembershipTier.BASIC;
+        String subject = "ip:" + request.getRemoteAddr();
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof CustomUserDetails user) {
+            tier = user.userEntity().getEffectiveTier();
+            subject = "user:" + user.getId();
+        }
+
+        // 메트릭 태그 폭증 방지: 실제 URI 대신 매핑 패턴 사용 (/api/study/plans/{planId}/...)
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = pattern != null ? pattern.toString() : request.getRequestURI();
+
+        TokenBucketRateLimiter.Decision decision = rateLimiter.tryConsume(subject, tier, rateLimited.cost());
+        meterRegistry.counter("ai.ratelimit.requests",
+                "endpoint", endpoint,
+                "tier", tier.name(),
+                "outcome", decision.allowed() ? "allowed" : "rejected").increment();
+
+        if (!decision.allowed()) {
+            long retryAfterSeconds = Math.max(1, (decision.retryAfterMs() + 999) / 1000);
+            log.info("AI 호출 한도 초과 - {} [{}] {} (재시도 {}초 후)", subject, tier, endpoint, retryAfterSeconds);
+            throw new RateLimitExceededException("AI 호출 한도 초과: " + endpoint, retryAfterSeconds);
+        }
+
+        response.setHeader("X-RateLimit-Remaining", String.valueOf(decision.remaining()));
+        return true;
+    }
+}
@@ -0,0 +1,39 @@
+package com.tutoroo.filter;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * [기능: 요청당 SQL 실행 횟수 집계 (MyBatis 플러그인)]
+ * 설명: 실제로 DB에 보낸 SQL 문장 수를 요청 속성에 누적합니다. (RequestLoggingFilter가 요청 종료 시 메트릭으로 기록)
+ * 작동원리: StatementHandler.prepare는 MyBatis 1차 캐시에 걸리지 않고 DB로 나가는 문장마다 한 번 호출됨
+ */
+@Component
+@Intercepts(@Signature(type = StatementHandler.class, method = "prepare", args = {Connection.class, Integer.class}))
+public class QueryCountInterceptor implements Interceptor {
+
+    public static final String ATTRIBUTE = QueryCountInterceptor.class.getName();
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            Object counter = attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (counter == null) {
+                counter = new AtomicInteger();
+                attributes.setAttribute(ATTRIBUTE, counter, RequestAttributes.SCOPE_REQUEST);
+            }
+            ((AtomicInteger) counter).incrementAndGet();
+        }
+        return invocation.proceed();
+    }
+}
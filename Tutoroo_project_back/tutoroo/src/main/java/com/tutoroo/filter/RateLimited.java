@@ -0,0 +1,19 @@
+package com.tutoroo.filter;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * [기능: AI 호출 한도 적용 표시]
+ * 설명: 이 어노테이션이 붙은 컨트롤러 메서드는 AiRateLimitInterceptor가 멤버십 등급별 토큰 버킷으로 호출을 제한합니다.
+ * 사용법: 모델을 여러 번 호출하거나 긴 응답을 생성하는 API는 cost를 높게 지정합니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+
+    // 1회 호출 시 소모할 토큰 수
+    int cost() default 1;
+}
@@ -0,0 +1,32 @@
+package com.tutoroo.filter;
+
+import com.tutoroo.util.ReadYourWritesTracker;
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * [기능: 쓰기 SQL 감지 (MyBatis 플러그인)]
+ * 설명: INSERT/UPDATE/DELETE가 실행될 때 ReadYourWritesTracker에 알려, 그 유저의 읽기를 잠시 primary에 고정합니다.
+ * 작동원리: MyBatis는 모든 쓰기 문장을 Executor.update로 실행함 (읽기 전용 복제본 구성일 때만 등록)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+@Intercepts(@Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}))
+public class ReadYourWritesInterceptor implements Interceptor {
+
+    private final ReadYourWritesTracker tracker;
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        tracker.recordWrite();
+        return invocation.proceed();
+    }
+}
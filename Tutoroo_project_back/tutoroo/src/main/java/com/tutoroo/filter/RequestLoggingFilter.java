@@ -1,24 +1,33 @@
 package com.tutoroo.filter;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * [기능: 요청 로깅 및 성능 모니터링 필터]
- * 설명: 모든 API 요청의 URL, 처리 시간, 응답 상태 코드를 로깅하여 시스템 모니터링을 지원합니다.
- * 작동원리: 요청 시작 시각과 종료 시각을 계산하여 응답과 함께 로그를 기록합니다.
+ * 설명: 모든 API 요청의 URL, 처리 시간, 응답 상태 코드, 실행한 SQL 수를 로깅하여 시스템 모니터링을 지원합니다.
+ * 작동원리: 요청 시작 시각과 종료 시각을 계산하여 응답과 함께 로그를 기록하고,
+ * QueryCountInterceptor가 누적한 SQL 수를 db.queries.per.request 메트릭으로 남깁니다.
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class RequestLoggingFilter extends OncePerRequestFilter {
 
+    private final MeterRegistry meterRegistry;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
@@ -32,9 +41,26 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
         } finally {
             long duration = System.currentTimeMillis() - startTime;
             int status = response.getStatus();
+            int queries = recordQueryCount(request, method);
 
             // 상업적 운영 시 중요한 데이터: 성능 이슈가 있는 API를 즉각 파악 가능
-            log.info("API Log - [{} {}] status: {} duration: {}ms", method, path, status, duration);
+            log.info("API Log - [{} {}] status: {} duration: {}ms queries: {}", method, path, status, duration, queries);
         }
     }
-}
\ No newline at end of file
+
+    private int recordQueryCount(HttpServletRequest request, String method) {
+        Object counter = request.getAttribute(QueryCountInterceptor.ATTRIBUTE);
+        int queries = (counter instanceof AtomicInteger count) ? count.get() : 0;
+
+        // 실제 URI 대신 매핑 패턴(/api/study/plans/{planId})으로 태그를 달아 메트릭 종류가 늘어나지 않도록 함
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder("db.queries.per.request")
+                .description("요청 1건이 실행한 SQL 문장 수")
+                .tag("method", method)
+                .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(queries);
+        return queries;
+    }
+}
@@ -0,0 +1,28 @@
+package com.tutoroo.mapper;
+
+import com.tutoroo.entity.JobRunEntity;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface JobRunMapper {
+    JobRunEntity findByJobNameAndRunKey(@Param("jobName") String jobName, @Param("runKey") String runKey);
+    void save(JobRunEntity run);
+    int claim(@Param("id") Long id, @Param("fencingToken") long fencingToken);
+    int updateProgress(@Param("id") Long id,
+                       @Param("fencingToken") long fencingToken,
+                       @Param("checkpointId") Long checkpointId,
+                       @Param("totalCount") int totalCount,
+                       @Param("succeededCount") int succeededCount,
+                       @Param("failedCount") int failedCount);
+    int finish(JobRunEntity run);
+
+    // 지금까지 기록된 가장 큰 fencing token (잠금 카운터가 초기화됐을 때 이어서 발급하기 위한 기준값)
+    long findMaxFencingToken();
+
+    // --- [관리자 조회] ---
+    List<JobRunEntity> findLatestPerJob();
+    List<JobRunEntity> findRecentRuns(@Param("jobName") String jobName, @Param("limit") int limit);
+}
@@ -3,13 +3,34 @@ package com.tutoroo.mapper;
 import com.tutoroo.entity.NotificationEntity;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
 public interface NotificationMapper {
     void save(NotificationEntity notification);
+    void saveAll(List<NotificationEntity> notifications); // 배치 저장 (multi-row INSERT)
     List<NotificationEntity> findAllByUserId(Long userId);
     long countUnreadByUserId(Long userId);
-    void markAsRead(@Param("userId") Long userId, @Param("notificationId") Long notificationId);
+    int markAsRead(@Param("userId") Long userId, @Param("notificationId") Long notificationId);
     void markAllAsRead(Long userId);
-}
\ No newline at end of file
+
+    // --- [보관함 키셋 페이지네이션] ---
+    // cursor(마지막으로 받은 id)보다 작은 id를 최신순으로 limit개 조회 (cursor가 null이면 첫 페이지)
+    List<NotificationEntity> findPageByUserId(@Param("userId") Long userId,
+                                              @Param("cursor") Long cursor,
+                                              @Param("limit") int limit);
+
+    // --- [청크 단위 읽음 처리] ---
+    // 한 번에 limit건만 갱신하여 긴 행 잠금을 피함 (반환값: 변경된 행 수)
+    int markAllAsReadChunk(@Param("userId") Long userId, @Param("limit") int limit);
+
+    // --- [아카이빙] ---
+    List<ArchiveTarget> findArchiveTargets(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+    int copyToArchive(@Param("ids") List<Long> ids);
+    int deleteByIds(@Param("ids") List<Long> ids);
+
+    // 아카이빙 대상 (id + 카운터 무효화용 user_id)
+    record ArchiveTarget(Long id, Long userId) {}
+}
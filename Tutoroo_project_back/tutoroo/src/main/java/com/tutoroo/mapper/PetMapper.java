@@ -5,19 +5,41 @@ import com.tutoroo.entity.PetInfoEntity;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
 public interface PetMapper {
     PetInfoEntity findByUserId(Long userId);
+    // 읽은 뒤 전체 컬럼을 다시 쓰는 경우 (상호작용) 행 잠금
+    PetInfoEntity findByUserIdForUpdate(Long userId);
     List<PetInfoEntity> findAllByUserId(Long userId);
     PetInfoEntity findById(Long petId);
     List<PetInfoEntity> findAllActivePets();
+    int markRunaways(@Param("now") LocalDateTime now, @Param("limit") int limit);
+    List<Long> findRanAwayUserIds(@Param("ranAwayAt") LocalDateTime ranAwayAt);
     void createPet(PetInfoEntity pet);
     void updatePet(PetInfoEntity pet);
-    Integer findRequiredExpForNextStage(int stage);
+    // 경험치 원자적 증가 + 다음 단계 경험치를 채우면 한 단계 승급 (변경된 행 수 반환)
+    int addExp(@Param("userId") Long userId, @Param("amount") int amount);
     void saveDiary(PetDiaryEntity diary);
-    Double findSkillEffect(@Param("petType") String petType, @Param("skillCode") String skillCode);
     void deleteByUserId(Long userId);
     List<PetDiaryEntity> findAllDiariesByUserId(Long userId);
+    List<Long> findActivePetUserIdsAfter(@Param("afterUserId") long afterUserId,
+                                         @Param("untilUserId") Long untilUserId,
+                                         @Param("limit") int limit);
+    boolean existsDiary(@Param("petId") Long petId, @Param("date") LocalDate date);
+
+    // --- [다이어리 시간 분산 큐] ---
+    // [fromUserId, toUserId) 구간의 일기 대상을 해시 슬롯과 함께 큐에 적재, 적재한 행 수 반환
+    int enqueueDiaryTargets(@Param("diaryDate") LocalDate diaryDate,
+                            @Param("slots") int slots,
+                            @Param("fromUserId") long fromUserId,
+                            @Param("toUserId") long toUserId);
+    List<Long> findQueuedDiaryUserIds(@Param("diaryDate") LocalDate diaryDate,
+                                      @Param("slot") int slot,
+                                      @Param("afterUserId") long afterUserId,
+                                      @Param("limit") int limit);
+    int deleteDiaryQueueBefore(@Param("diaryDate") LocalDate diaryDate, @Param("limit") int limit);
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.tutoroo.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * [기능: 탈퇴 회원 영구 삭제 전용 매퍼]
+ * 설명: 회원 하위 데이터를 테이블별로 limit건씩 나눠 삭제합니다.
+ * 모든 delete는 삭제한 행 수를 반환하며, 0이 될 때까지 반복 호출합니다.
+ */
+@Mapper
+public interface PurgeMapper {
+
+    // 회원이 업로드한 파일 URL (프로필 이미지, 펫 커스텀 이미지)
+    List<String> findUploadedFiles(@Param("userId") Long userId);
+
+    // 주어진 파일 URL 중 아직 행이 참조하는 것 (업로드 폴더 고아 정리용)
+    List<String> findReferencedFiles(@Param("fileUrls") List<String> fileUrls);
+
+    // --- [플랜 하위 (plan_id 기준)] ---
+    int deleteChatMessages(@Param("userId") Long userId, @Param("limit") int limit);
+    int deleteStudentFeedbacks(@Param("userId") Long userId, @Param("limit") int limit);
+    int deleteStudyLogs(@Param("userId") Long userId, @Param("limit") int limit);
+    int deleteDuplicateStudyLogs(@Param("userId") Long userId, @Param("limit") int limit);
+    int deleteDailySummaries(@Param("userId") Long userId, @Param("limit") int limit);
+    int deleteRoadmapDays(@Param("userId") Long userId, @Param("limit") int limit);
+
+    // --- [펫 하위 (pet_id 기준)] ---
+    int deletePetDiaries(@Param("userId") Long userId, @Param("limit") int limit);
+
+    // --- [회원 직속 (user_id 기준)] ---
+    int deletePracticeLogs(@Param("userId") Long userId, @Param("limit") int limit);
+    int deleteNotifications(@Param("userId") Long userId, @Param("limit") int limit);
+    int deleteArchivedNotifications(@Param("userId") Long userId, @Param("limit") int limit);
+}
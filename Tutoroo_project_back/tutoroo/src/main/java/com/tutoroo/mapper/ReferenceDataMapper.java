@@ -0,0 +1,24 @@
+package com.tutoroo.mapper;
+
+import com.tutoroo.entity.PromptEntity;
+import org.apache.ibatis.annotations.Mapper;
+
+import java.util.List;
+
+/**
+ * [기능: 참조 데이터 조회]
+ * 설명: 거의 바뀌지 않는 테이블(pet_growth_rule, pet_skills, prompts)을 통째로 읽습니다.
+ * ReferenceDataCache가 기동 시와 버전이 바뀌었을 때만 호출합니다.
+ */
+@Mapper
+public interface ReferenceDataMapper {
+    Long findVersion();
+    int increaseVersion();
+    List<GrowthRule> findAllGrowthRules();
+    List<SkillEffect> findAllSkillEffects();
+    List<PromptEntity> findAllPrompts();
+
+    record GrowthRule(int stage, Integer requiredExp) {}
+
+    record SkillEffect(String petType, String skillCode, Double effectValue) {}
+}
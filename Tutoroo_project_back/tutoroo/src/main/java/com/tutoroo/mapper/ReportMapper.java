@@ -0,0 +1,27 @@
+package com.tutoroo.mapper;
+
+import com.tutoroo.entity.WeeklyReportEntity;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Mapper
+public interface ReportMapper {
+
+    // --- [1. 주간 통계] ---
+    // [from, to) 구간의 학습 로그를 DB에서 집계 (로그 전체를 메모리에 올리지 않음)
+    WeeklyReportEntity aggregateWeek(@Param("userId") Long userId,
+                                     @Param("from") LocalDate from,
+                                     @Param("to") LocalDate to);
+
+    List<String> findWeekFeedbacks(@Param("userId") Long userId,
+                                   @Param("from") LocalDate from,
+                                   @Param("to") LocalDate to,
+                                   @Param("limit") int limit);
+
+    // --- [2. 발송 기록] ---
+    boolean existsDelivery(@Param("userId") Long userId, @Param("weekStart") LocalDate weekStart);
+    int saveDelivery(WeeklyReportEntity report);
+}
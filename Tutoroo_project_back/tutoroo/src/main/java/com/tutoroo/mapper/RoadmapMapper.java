@@ -0,0 +1,22 @@
+package com.tutoroo.mapper;
+
+import com.tutoroo.entity.RoadmapDayEntity;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface RoadmapMapper {
+
+    void saveDays(@Param("days") List<RoadmapDayEntity> days);
+
+    // 플랜 상세 화면용 전체 일정 (커리큘럼 순서)
+    List<RoadmapDayEntity> findDaysByPlanId(@Param("planId") Long planId);
+
+    // 수업/테스트용 그날 주제 (PK 조회)
+    String findTopic(@Param("planId") Long planId, @Param("day") int day);
+
+    // 요약/목차/시험 일정 JSON (study_plans.roadmap_json)
+    String findOutlineJson(@Param("planId") Long planId);
+}
@@ -0,0 +1,30 @@
+package com.tutoroo.mapper;
+
+import com.tutoroo.entity.StudyEventOutboxEntity;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface StudyEventOutboxMapper {
+
+    void save(StudyEventOutboxEntity event);
+
+    // 처리할 이벤트를 claimedBy 이름으로 선점 (임대가 만료된 PROCESSING 행도 다시 가져옴), 선점한 행 수 반환
+    int claimBatch(@Param("claimedBy") String claimedBy,
+                   @Param("leaseSeconds") int leaseSeconds,
+                   @Param("limit") int limit);
+    List<StudyEventOutboxEntity> findClaimed(@Param("claimedBy") String claimedBy);
+
+    // 선점한 본인만 완료 처리 가능 (보상 반영과 같은 트랜잭션에서 호출)
+    int markDone(@Param("ids") List<Long> ids, @Param("claimedBy") String claimedBy);
+    int markRetry(@Param("id") Long id,
+                  @Param("claimedBy") String claimedBy,
+                  @Param("status") String status,
+                  @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                  @Param("lastError") String lastError);
+
+    int deleteDoneBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
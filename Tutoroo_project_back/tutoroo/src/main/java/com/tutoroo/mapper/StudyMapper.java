@@ -20,6 +20,8 @@ public interface StudyMapper {
     void updateProgress(StudyPlanEntity plan);
     void updatePlan(StudyPlanEntity plan);
     void deletePlan(Long id); // [New] 삭제 메서드 추가
+    // N일차 카운터를 1 올리고 새 값을 log.dayCount에 채움 (직전 요청과 같은 멱등 키면 0 반환)
+    int advanceDayCount(StudyLogEntity log);
 
     // --- [2. 학습 로그] ---
     void saveLog(StudyLogEntity log);
@@ -38,12 +40,9 @@ public interface StudyMapper {
 
     void updateAiFeedbackFailed(@Param("logId") Long logId);
     StudyLogEntity findLatestLogByPlanId(@Param("planId") Long planId);
+    // 최근 limit개 로그의 점수 (day_count 오름차순, 대시보드 점수 추이용)
+    List<Integer> findRecentScoresByPlanId(@Param("planId") Long planId, @Param("limit") int limit);
     // --- [3. 펫 다마고치 연동] ---
     List<StudyLogEntity> findLogsByUserIdAndDate(@Param("userId") Long userId,
                                                  @Param("date") LocalDate date);
-    // --- [4. (New) 캘린더 조회용] ---
-    // 유저의 모든 플랜에 대한 특정 월의 로그 조회
-    List<StudyLogEntity> findLogsByUserIdAndMonth(@Param("userId") Long userId,
-                                                  @Param("year") int year,
-                                                  @Param("month") int month);
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.tutoroo.mapper;
+
+import com.tutoroo.entity.StudyDailySummaryEntity;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Mapper
+public interface StudySummaryMapper {
+
+    // 로그 1건을 그날 요약에 반영 (없으면 생성)
+    void upsertDaily(@Param("userId") Long userId,
+                     @Param("studyDate") LocalDate studyDate,
+                     @Param("isDone") boolean isDone,
+                     @Param("score") Integer score,
+                     @Param("topic") String topic);
+
+    // [from, to) 기간 요약 (PK 범위 조회)
+    List<StudyDailySummaryEntity> findByUserIdBetween(@Param("userId") Long userId,
+                                                      @Param("from") LocalDate from,
+                                                      @Param("to") LocalDate to);
+
+    // 최근 학습일 (내림차순, 연속 학습일 계산용)
+    List<LocalDate> findRecentStudyDates(@Param("userId") Long userId, @Param("limit") int limit);
+
+    // --- [백필] ---
+    List<Long> findLoggedUserIdsAfter(@Param("afterUserId") long afterUserId, @Param("limit") int limit);
+
+    // 유저들의 로그 전체를 다시 집계해 덮어쓰기
+    int rebuildForUsers(@Param("userIds") List<Long> userIds);
+}
@@ -4,6 +4,7 @@ import com.tutoroo.entity.UserEntity;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Mapper
@@ -32,12 +33,30 @@ public interface UserMapper {
     void resetRankingPoints();
 
     // --- [랭킹 & 라이벌] ---
-    List<UserEntity> getRankingList(@Param("gender") String gender, @Param("ageGroup") Integer ageGroup);
-    List<UserEntity> findAllByOrderByTotalPointDesc();
-    UserEntity findPotentialRival(@Param("myId") Long myId, @Param("myPoint") int myPoint);
+    List<UserSummary> getRankingList(@Param("gender") String gender, @Param("ageGroup") Integer ageGroup);
+    List<UserSummary> findSummariesByIds(@Param("ids") List<Long> ids);
+    UserSummary findPotentialRival(@Param("myId") Long myId, @Param("myPoint") int myPoint);
 
     // --- [관리/스케줄러] ---
-    List<UserEntity> findUsersForWeeklyReport();
-    List<UserEntity> findWithdrawnUsersForPurge();
+    // 주간 리포트 대상(학부모 연락처 + 진행 중 플랜) 학생 ID를 id 순으로 끊어 읽기
+    List<Long> findWeeklyReportUserIdsAfter(@Param("afterUserId") long afterUserId, @Param("limit") int limit);
+    // 탈퇴 후 보존 기간이 지난 회원 ID를 id 순으로 끊어 읽기
+    List<Long> findPurgeTargetIdsAfter(@Param("afterUserId") long afterUserId,
+                                       @Param("retentionDays") int retentionDays,
+                                       @Param("limit") int limit);
     void deleteUserPermanently(Long id);
+
+    // 연속 학습일: 어제 공부했으면 +1, 오늘 이미 반영됐으면 유지, 그 외에는 1부터 다시
+    void advanceStreak(@Param("userId") Long userId, @Param("studyDate") LocalDate studyDate);
+    void updateStreak(@Param("userId") Long userId,
+                      @Param("streak") int streak,
+                      @Param("lastStudyDate") LocalDate lastStudyDate);
+    Long findMaxUserId();
+
+    // 랭킹/라이벌 화면용 공개 정보 (비밀번호, 연락처 등은 조회하지 않음)
+    record UserSummary(Long id, String name, String profileImage, Integer totalPoint, Integer age) {
+        public String maskedName() {
+            return UserEntity.maskName(name);
+        }
+    }
 }
\ No newline at end of file
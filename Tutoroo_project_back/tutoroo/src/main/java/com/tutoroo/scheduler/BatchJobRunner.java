@@ -0,0 +1,294 @@
+package com.tutoroo.scheduler;
+
+import com.tutoroo.entity.JobRunEntity;
+import com.tutoroo.mapper.JobRunMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * [기능: 청크 단위 배치 작업 실행기]
+ * 설명: 대상 ID를 청크 단위로 읽어 가상 스레드에서 병렬 처리하되, 동시 실행 수를 제한하고 진행 상황을 DB에 남깁니다.
+ * 작동원리:
+ * 1. IdPageLoader로 (마지막 ID 이후, limit) 키셋 조회 -> 전체 대상을 메모리에 올리지 않음
+ * 2. Semaphore로 동시 실행 수 제한 (AI API 호출이 한 번에 몰리지 않도록)
+ * 3. 항목별 실패 시 지수 백오프 + 지터로 재시도, 최종 실패는 건수만 집계하고 다음 항목 진행
+ * 4. 청크가 끝날 때마다 batch_job_runs에 체크포인트 저장 -> 서버가 죽어도 마지막 청크부터 재개
+ * 5. 같은 (jobName, runKey)가 이미 COMPLETED면 다시 실행하지 않음
+ * 6. 모든 기록은 분산 잠금의 fencing token이 일치할 때만 반영 -> 임대를 잃은 서버는 다음 청크 전에 중단
+ * 7. 각 청크의 작업이 모두 끝나야 다음 청크로 진행하므로, COMPLETED는 모든 항목이 실제로 끝났다는 뜻
+ * 8. 종료 시 batch.job.duration 타이머와 batch.job.items 카운터에 기록 (관리자 API로 실행 이력 조회)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchJobRunner {
+
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    private final JobRunMapper jobRunMapper;
+    private final MeterRegistry meterRegistry;
+
+    // AsyncConfig에서 정의한 가상 스레드 실행기 (Virtual Threads)
+    private final AsyncTaskExecutor taskExecutor;
+
+    // 같은 서버에서 같은 실행이 중복으로 돌지 않도록 방지
+    private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 배치 작업 실행 (호출 스레드에서 끝날 때까지 블로킹)
+     * @param fencingToken DistributedJobLock에서 받은 잠금 번호
+     * @return 실행 결과 요약 (이미 실행 중이거나 소유권을 얻지 못하면 null)
+     */
+    public JobRunEntity run(String jobName, String runKey, long fencingToken, JobOptions options,
+                            IdPageLoader loader, ItemProcessor processor) {
+        return runGrouped(jobName, runKey, fencingToken, options, 1, loader, ids -> {
+            processor.process(ids.get(0));
+            return 0;
+        });
+    }
+
+    /**
+     * 묶음 단위 배치 작업 실행 (여러 항목을 한 번에 처리하는 것이 유리한 경우, 예: AI 묶음 생성)
+     * 청크를 groupSize개씩 나눠 한 묶음을 하나의 작업으로 실행하며, 동시 실행 수/재시도는 묶음 단위로 적용됩니다.
+     * @param groupSize 한 번에 processor로 넘길 최대 항목 수
+     */
+    public JobRunEntity runGrouped(String jobName, String runKey, long fencingToken, JobOptions options,
+                                   int groupSize, IdPageLoader loader, GroupProcessor processor) {
+        String lockKey = jobName + ":" + runKey;
+        if (!runningJobs.add(lockKey)) {
+            log.warn("⏭️ [배치] 이미 실행 중인 작업입니다: {}", lockKey);
+            return null;
+        }
+        try {
+            return execute(jobName, runKey, fencingToken, options, Math.max(1, groupSize), loader, processor);
+        } finally {
+            runningJobs.remove(lockKey);
+        }
+    }
+
+    /**
+     * 단발성 작업 실행 기록 (청크/체크포인트 없이 시작~종료, 처리 건수, 오류만 남김)
+     * 용도: 가출 확인, 알림 아카이빙처럼 한 번의 호출로 끝나는 예약 작업
+     * @return 실행 결과 요약 (이미 실행 중이거나 완료됐거나 소유권을 얻지 못하면 null)
+     */
+    public JobRunEntity runTracked(String jobName, String runKey, long fencingToken, TrackedJob job) {
+        String lockKey = jobName + ":" + runKey;
+        if (!runningJobs.add(lockKey)) {
+            log.warn("⏭️ [배치] 이미 실행 중인 작업입니다: {}", lockKey);
+            return null;
+        }
+        try {
+            JobRunEntity run = jobRunMapper.findByJobNameAndRunKey(jobName, runKey);
+            if (run != null && STATUS_COMPLETED.equals(run.getStatus())) return null;
+            run = startOrClaim(run, jobName, runKey, fencingToken);
+            if (run == null) return null;
+
+            try {
+                int processed = job.execute();
+                return finish(run, STATUS_COMPLETED, processed, processed, 0, null);
+            } catch (Exception e) {
+                log.error("❌ [배치] {}:{} 작업 실패: {}", jobName, runKey, e.getMessage());
+                return finish(run, STATUS_FAILED, 0, 0, 0, e.getMessage());
+            }
+        } finally {
+            runningJobs.remove(lockKey);
+        }
+    }
+
+    /**
+     * 완료되지 않은 실행이 남아있는지 확인 (서버 재시작 후 재개 판단용)
+     */
+    public boolean isUnfinished(String jobName, String runKey) {
+        JobRunEntity run = jobRunMapper.findByJobNameAndRunKey(jobName, runKey);
+        return run != null && !STATUS_COMPLETED.equals(run.getStatus());
+    }
+
+    public boolean isCompleted(String jobName, String runKey) {
+        JobRunEntity run = jobRunMapper.findByJobNameAndRunKey(jobName, runKey);
+        return run != null && STATUS_COMPLETED.equals(run.getStatus());
+    }
+
+    // --- 내부 메서드 ---
+
+    private JobRunEntity execute(String jobName, String runKey, long fencingToken, JobOptions options,
+                                 int groupSize, IdPageLoader loader, GroupProcessor processor) {
+        JobRunEntity run = jobRunMapper.findByJobNameAndRunKey(jobName, runKey);
+        if (run != null && STATUS_COMPLETED.equals(run.getStatus())) {
+            log.info("⏭️ [배치] 이미 완료된 작업입니다: {}:{}", jobName, runKey);
+            return run;
+        }
+        run = startOrClaim(run, jobName, runKey, fencingToken);
+        if (run == null) return null;
+
+        Semaphore permits = new Semaphore(options.maxConcurrency());
+        AtomicInteger succeeded = new AtomicInteger(run.getSucceededCount());
+        AtomicInteger failed = new AtomicInteger(run.getFailedCount());
+        int total = run.getTotalCount();
+        long cursor = run.getCheckpointId() != null ? run.getCheckpointId() : 0L;
+
+        try {
+            while (true) {
+                List<Long> ids = loader.load(cursor, options.chunkSize());
+                if (ids.isEmpty()) break;
+
+                List<CompletableFuture<Void>> futures = new ArrayList<>();
+                for (int from = 0; from < ids.size(); from += groupSize) {
+                    List<Long> group = ids.subList(from, Math.min(from + groupSize, ids.size()));
+                    // 빈 자리가 날 때까지 다음 작업 제출을 대기
+                    permits.acquire();
+                    futures.add(CompletableFuture.runAsync(() -> {
+                        try {
+                            int groupFailed = processWithRetry(jobName, group, options, processor);
+                            succeeded.addAndGet(group.size() - groupFailed);
+                            failed.addAndGet(groupFailed);
+                        } finally {
+                            permits.release();
+                        }
+                    }, taskExecutor));
+                }
+                // 청크 내 작업이 모두 끝나야 체크포인트를 앞으로 옮김
+                CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+                cursor = ids.get(ids.size() - 1);
+                total += ids.size();
+                if (jobRunMapper.updateProgress(run.getId(), fencingToken, cursor, total, succeeded.get(), failed.get()) == 0) {
+                    // 임대를 잃고 다른 서버가 이어받음 - 더 진행하면 중복 처리
+                    log.warn("⛔ [배치] {}:{} 소유권 상실 - 체크포인트 ID {}에서 중단합니다.", jobName, runKey, cursor);
+                    return null;
+                }
+
+                if (ids.size() < options.chunkSize()) break;
+            }
+            return finish(run, STATUS_COMPLETED, total, succeeded.get(), failed.get(), null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return finish(run, STATUS_FAILED, total, succeeded.get(), failed.get(), "interrupted");
+        } catch (Exception e) {
+            log.error("❌ [배치] {}:{} 작업 중단: {}", jobName, runKey, e.getMessage());
+            return finish(run, STATUS_FAILED, total, succeeded.get(), failed.get(), e.getMessage());
+        }
+    }
+
+    // 새 실행이면 기록을 만들고, 기존 실행이면 fencing token으로 소유권을 가져옴 (실패 시 null)
+    private JobRunEntity startOrClaim(JobRunEntity run, String jobName, String runKey, long fencingToken) {
+        if (run == null) {
+            run = JobRunEntity.builder()
+                    .jobName(jobName)
+                    .runKey(runKey)
+                    .status(STATUS_RUNNING)
+                    .fencingToken(fencingToken)
+                    .checkpointId(0L)
+                    .startedAt(LocalDateTime.now())
+                    .build();
+            jobRunMapper.save(run);
+            return run;
+        }
+
+        if (jobRunMapper.claim(run.getId(), fencingToken) == 0) {
+            log.warn("⛔ [배치] {}:{} 더 최신 잠금 번호로 실행 중이므로 중단합니다. (token: {})", jobName, runKey, fencingToken);
+            return null;
+        }
+        log.info("🔁 [배치] {}:{} 작업을 체크포인트(ID {}) 이후부터 재개합니다.", jobName, runKey, run.getCheckpointId());
+        run.setFencingToken(fencingToken);
+        return run;
+    }
+
+    // 묶음 처리 + 재시도, 실패한 항목 수를 반환 (최종 실패 시 묶음 전체가 실패)
+    private int processWithRetry(String jobName, List<Long> ids, JobOptions options, GroupProcessor processor) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return Math.min(processor.process(ids), ids.size());
+            } catch (Exception e) {
+                if (attempt >= options.maxAttempts()) {
+                    log.error("❌ [배치] {} 처리 실패 (ID: {}, {}회 시도): {}", jobName, ids, attempt, e.getMessage());
+                    return ids.size();
+                }
+                // Full Jitter: 0 ~ base * 2^(attempt-1) 사이에서 무작위 대기 (재시도가 한 시점에 몰리지 않도록)
+                long maxBackoff = options.backoffBaseMs() << Math.min(attempt - 1, 10);
+                try {
+                    Thread.sleep(ThreadLocalRandom.current().nextLong(maxBackoff + 1));
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return ids.size();
+                }
+            }
+        }
+    }
+
+    private JobRunEntity finish(JobRunEntity run, String status, int total, int succeeded, int failed, String errorMessage) {
+        LocalDateTime finishedAt = LocalDateTime.now();
+        run.setStatus(status);
+        run.setTotalCount(total);
+        run.setSucceededCount(succeeded);
+        run.setFailedCount(failed);
+        run.setFinishedAt(finishedAt);
+        run.setDurationMs(Duration.between(run.getStartedAt(), finishedAt).toMillis());
+        run.setErrorMessage(errorMessage != null && errorMessage.length() > 500 ? errorMessage.substring(0, 500) : errorMessage);
+        if (jobRunMapper.finish(run) == 0) {
+            log.warn("⛔ [배치] {}:{} 소유권 상실 - 결과를 기록하지 않습니다.", run.getJobName(), run.getRunKey());
+            return run;
+        }
+
+        Timer.builder("batch.job.duration")
+                .description("예약/배치 작업 실행 소요 시간")
+                .tags("job", run.getJobName(), "status", status)
+                .register(meterRegistry)
+                .record(run.getDurationMs(), TimeUnit.MILLISECONDS);
+        meterRegistry.counter("batch.job.items", "job", run.getJobName(), "outcome", "succeeded").increment(succeeded);
+        meterRegistry.counter("batch.job.items", "job", run.getJobName(), "outcome", "failed").increment(failed);
+
+        log.info("📊 [배치] {}:{} {} - 대상 {}건 (성공 {} / 실패 {}), 소요 {}ms",
+                run.getJobName(), run.getRunKey(), status, total, succeeded, failed, run.getDurationMs());
+        return run;
+    }
+
+    /**
+     * 배치 실행 옵션
+     * @param chunkSize      한 번에 조회/체크포인트할 ID 수
+     * @param maxConcurrency 동시에 처리할 최대 항목 수
+     * @param maxAttempts    항목별 최대 시도 횟수
+     * @param backoffBaseMs  재시도 대기 기본값 (지수 증가)
+     */
+    public record JobOptions(int chunkSize, int maxConcurrency, int maxAttempts, long backoffBaseMs) {}
+
+    // afterId 이후의 ID를 오름차순으로 최대 limit개 반환
+    @FunctionalInterface
+    public interface IdPageLoader {
+        List<Long> load(long afterId, int limit);
+    }
+
+    @FunctionalInterface
+    public interface ItemProcessor {
+        void process(Long id) throws Exception;
+    }
+
+    // 여러 항목을 한 번에 처리, 개별적으로 실패한 항목 수를 반환 (예외 시 묶음 전체 재시도)
+    @FunctionalInterface
+    public interface GroupProcessor {
+        int process(List<Long> ids) throws Exception;
+    }
+
+    // 단발성 작업 본문, 처리한 건수를 반환
+    @FunctionalInterface
+    public interface TrackedJob {
+        int execute() throws Exception;
+    }
+}
@@ -1,16 +1,35 @@
 package com.tutoroo.scheduler;
 
-import com.tutoroo.entity.UserEntity;
+import com.tutoroo.mapper.PetMapper;
+import com.tutoroo.mapper.StudySummaryMapper;
 import com.tutoroo.mapper.UserMapper;
 import com.tutoroo.service.NotificationService;
 import com.tutoroo.service.PetService;
+import com.tutoroo.service.StudySummaryService;
+import com.tutoroo.service.UserPurgeService;
+import com.tutoroo.service.WeeklyReportService;
+import com.tutoroo.util.DistributedJobLock;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Component
@@ -24,32 +43,303 @@ public class TutorooScheduler {
     // AsyncConfig에서 정의한 가상 스레드 실행기 (Virtual Threads)
     private final AsyncTaskExecutor taskExecutor;
 
+    private final BatchJobRunner batchJobRunner;
+    private final PetMapper petMapper;
+    private final DistributedJobLock jobLock;
+
+    private final WeeklyReportService weeklyReportService;
+    private final UserPurgeService userPurgeService;
+    private final StudySummaryService studySummaryService;
+    private final StudySummaryMapper studySummaryMapper;
+
+    private static final String DIARY_JOB_NAME = "midnight-diary";
+    private static final String DIARY_ENQUEUE_JOB_NAME = "diary-enqueue";
+    private static final String DIARY_MODE_MIDNIGHT = "midnight";
+    private static final String DIARY_MODE_SPREAD = "spread";
+    private static final int DIARY_QUEUE_RETENTION_DAYS = 7;
+    private static final String WEEKLY_REPORT_JOB_NAME = "weekly-report";
+    private static final String PURGE_JOB_NAME = "purge-withdrawn-users";
+    private static final String UPLOAD_SWEEP_JOB_NAME = "upload-orphan-sweep";
+    private static final String RUNAWAY_JOB_NAME = "runaway-check";
+    private static final String ARCHIVE_JOB_NAME = "notification-archive";
+    private static final String SUMMARY_BACKFILL_JOB_NAME = "daily-summary-backfill";
+    // 요약 집계 방식이나 원본 로그가 일괄 변경되어 다시 채워야 하면 이 값을 올림 (v2: V13 중복 로그 정리)
+    private static final String SUMMARY_BACKFILL_RUN_KEY = "v2";
+
+    // 작업이 길어지면 watchdog이 TTL/3마다 연장하므로 서버가 죽었을 때 다른 서버가 이어받기까지의 최대 시간
+    private static final Duration JOB_LOCK_TTL = Duration.ofMinutes(5);
+
+    @Value("${app.job.diary.mode:spread}")
+    private String diaryMode;
+
+    @Value("${app.job.diary.window-start-hour:0}")
+    private int diaryWindowStartHour;
+
+    @Value("${app.job.diary.window-hours:6}")
+    private int diaryWindowHours;
+
+    @Value("${app.job.diary.slots:72}")
+    private int diarySlots;
+
+    @Value("${app.job.diary.enqueue-chunk-size:5000}")
+    private int diaryEnqueueChunkSize;
+
+    // 틱이 겹치지 않도록 방지 + 그날 처리가 끝났으면 남은 틱은 바로 종료
+    private final AtomicBoolean diaryTicking = new AtomicBoolean(false);
+    private volatile LocalDate diaryDoneDate;
+
+    @Value("${app.job.diary.shards:4}")
+    private int diaryShards;
+
+    @Value("${app.job.diary.chunk-size:200}")
+    private int diaryChunkSize;
+
+    @Value("${app.job.diary.max-concurrency:8}")
+    private int diaryMaxConcurrency;
+
+    @Value("${app.job.diary.max-attempts:3}")
+    private int diaryMaxAttempts;
+
+    @Value("${app.job.diary.backoff-base-ms:1000}")
+    private long diaryBackoffBaseMs;
+
+    @Value("${app.job.diary.batch-size:10}")
+    private int diaryBatchSize;
+
+    @Value("${app.job.weekly-report.chunk-size:200}")
+    private int reportChunkSize;
+
+    @Value("${app.job.weekly-report.max-concurrency:8}")
+    private int reportMaxConcurrency;
+
+    @Value("${app.job.weekly-report.max-attempts:3}")
+    private int reportMaxAttempts;
+
+    @Value("${app.job.weekly-report.backoff-base-ms:1000}")
+    private long reportBackoffBaseMs;
+
+    @Value("${app.job.weekly-report.batch-size:10}")
+    private int reportBatchSize;
+
+    @Value("${app.job.purge.retention-days:90}")
+    private int purgeRetentionDays;
+
+    @Value("${app.job.purge.chunk-size:100}")
+    private int purgeChunkSize;
+
+    @Value("${app.job.purge.max-concurrency:1}")
+    private int purgeMaxConcurrency;
+
+    @Value("${app.job.purge.max-attempts:3}")
+    private int purgeMaxAttempts;
+
+    @Value("${app.job.purge.backoff-base-ms:5000}")
+    private long purgeBackoffBaseMs;
+
+    @Value("${app.notification.archive.retention-days:90}")
+    private int notificationRetentionDays;
+
+    @Value("${app.notification.archive.chunk-size:1000}")
+    private int notificationArchiveChunkSize;
+
+    @Value("${app.job.daily-summary-backfill.chunk-size:500}")
+    private int summaryBackfillChunkSize;
+
+    @Value("${app.job.daily-summary-backfill.batch-size:50}")
+    private int summaryBackfillBatchSize;
+
+    @Value("${app.job.daily-summary-backfill.max-concurrency:1}")
+    private int summaryBackfillMaxConcurrency;
+
+    @Value("${app.job.daily-summary-backfill.max-attempts:3}")
+    private int summaryBackfillMaxAttempts;
+
+    @Value("${app.job.daily-summary-backfill.backoff-base-ms:1000}")
+    private long summaryBackfillBackoffBaseMs;
+
     /**
      * [1. 미드나잇 다이어리 작성]
      * 동작 시간: 매일 밤 자정 (00:00:00)
-     * 기능: 모든 활동 유저의 펫이 오늘 하루를 회상하며 AI 그림 일기를 작성합니다.
-     * 최적화: 가상 스레드를 사용하여 수천 명의 요청을 병렬로 처리합니다.
+     * 기능: 활성 펫을 가진 유저의 펫이 방금 끝난 하루를 회상하며 AI 그림 일기를 작성합니다.
+     * 최적화: BatchJobRunner로 유저를 청크 단위로 읽고, AI 동시 호출 수를 제한하며, 중단 시 체크포인트부터 재개합니다.
+     * 분산: user_id 구간을 샤드로 나누고 샤드마다 잠금을 잡으므로, 서버가 여러 대면 샤드를 나눠서 처리합니다.
+     * (app.job.diary.mode=midnight 일 때만 동작, 기본값은 아래의 시간 분산 모드)
      */
     @Scheduled(cron = "0 0 0 * * *")
 //    @Scheduled(fixedRate = 60000)
     public void runMidnightDiaryRoutine() {
-        log.info("🌙 [스케줄러] 펫들의 한밤중 일기 쓰기 시작...");
-
-        // 활동 중인 모든 유저 조회 (탈퇴자 제외)
-        List<UserEntity> activeUsers = userMapper.findAllByOrderByTotalPointDesc();
-
-        for (UserEntity user : activeUsers) {
-            // 메인 스레드를 차단하지 않고, 각 유저별 작업을 가상 스레드에 위임
-            taskExecutor.execute(() -> {
-                try {
-                    petService.writeMidnightDiary(user.getId());
-                } catch (Exception e) {
-                    log.error("❌ 일기 작성 실패 (User: {}): {}", user.getId(), e.getMessage());
-                }
+        // 시간 분산 모드에서는 tickDiarySlots가 처리
+        if (!DIARY_MODE_MIDNIGHT.equals(diaryMode)) return;
+
+        // 자정에 실행되므로 일기 대상은 '어제' 하루
+        LocalDate diaryDate = LocalDate.now().minusDays(1);
+        // 스케줄러 스레드를 오래 점유하지 않도록 작업 전체를 가상 스레드에서 실행
+        taskExecutor.execute(() -> runDiaryShards(diaryDate));
+    }
+
+    /**
+     * 서버가 작업 도중 재시작된 경우, 끝나지 않은 어제 자 일기, 오늘 자 회원 삭제, 지난주 리포트 작업을 이어서 실행합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        LocalDate diaryDate = LocalDate.now().minusDays(1);
+        boolean unfinished = DIARY_MODE_MIDNIGHT.equals(diaryMode) && IntStream.range(0, diaryShards)
+                .anyMatch(shard -> batchJobRunner.isUnfinished(DIARY_JOB_NAME, diaryRunKey(diaryDate, shard)));
+        if (unfinished) {
+            taskExecutor.execute(() -> runDiaryShards(diaryDate));
+        }
+
+        if (batchJobRunner.isUnfinished(PURGE_JOB_NAME, LocalDate.now().toString())) {
+            taskExecutor.execute(() -> runPurge(LocalDate.now()));
+        }
+
+        LocalDate weekStart = lastWeekStart();
+        if (batchJobRunner.isUnfinished(WEEKLY_REPORT_JOB_NAME, weekStart.toString())) {
+            taskExecutor.execute(() -> runWeeklyReport(weekStart));
+        }
+
+        if (!batchJobRunner.isCompleted(SUMMARY_BACKFILL_JOB_NAME, SUMMARY_BACKFILL_RUN_KEY)) {
+            taskExecutor.execute(this::runDailySummaryBackfill);
+        }
+    }
+
+    private void runDiaryShards(LocalDate diaryDate) {
+        Long maxUserId = userMapper.findMaxUserId();
+        if (maxUserId == null) return;
+
+        // 서버마다 조회 시점이 달라도 같은 샤드 경계를 쓰도록 처음 정한 값을 공유
+        long agreedMaxUserId = jobLock.agreeOnce(DIARY_JOB_NAME + ":" + diaryDate + ":max-user-id",
+                maxUserId, Duration.ofDays(2));
+        long span = agreedMaxUserId / diaryShards + 1;
+
+        BatchJobRunner.JobOptions options = new BatchJobRunner.JobOptions(
+                diaryChunkSize, diaryMaxConcurrency, diaryMaxAttempts, diaryBackoffBaseMs);
+
+        // 서버들이 같은 샤드부터 경쟁하지 않도록 순서를 섞음 (이미 끝난 샤드는 BatchJobRunner가 건너뜀)
+        List<Integer> shards = new ArrayList<>(IntStream.range(0, diaryShards).boxed().toList());
+        Collections.shuffle(shards);
+
+        for (int shard : shards) {
+            long lowerExclusive = shard * span - 1;
+            // 마지막 샤드는 상한 없음 (경계 합의 이후 가입한 유저 포함)
+            Long upperExclusive = (shard == diaryShards - 1) ? null : (shard + 1) * span;
+            String runKey = diaryRunKey(diaryDate, shard);
+
+            jobLock.runExclusive(DIARY_JOB_NAME + ":" + runKey, JOB_LOCK_TTL, lease -> {
+                log.info("🌙 [스케줄러] 펫들의 한밤중 일기 쓰기 시작... ({}, user_id {} ~ {})",
+                        runKey, lowerExclusive + 1, upperExclusive != null ? upperExclusive - 1 : "끝");
+                batchJobRunner.runGrouped(DIARY_JOB_NAME, runKey, lease.fencingToken(), options, diaryBatchSize,
+                        (afterId, limit) -> petMapper.findActivePetUserIdsAfter(
+                                Math.max(afterId, lowerExclusive), upperExclusive, limit),
+                        userIds -> petService.writeMidnightDiaries(userIds, diaryDate));
             });
         }
+    }
+
+    private String diaryRunKey(LocalDate diaryDate, int shard) {
+        return diaryDate + "#" + shard;
+    }
+
+    /**
+     * [1-1. 다이어리 시간 분산 모드]
+     * 동작 시간: 1분마다 틱, 실제 처리는 window-start-hour부터 window-hours 동안 (자정을 넘는 창도 가능, 최대 24시간)
+     * 기능: 대상 회원을 user_id 해시로 slots개의 시간대에 나눠 두고, 시간대가 되면 해당 슬롯만 처리합니다.
+     * 작동원리:
+     * 1. 창이 열리면 하루 한 번 diary_queue에 대상을 적재 (마지막 일기 이후 활동이 없는 회원은 제외)
+     * 2. 매 틱마다 현재 시각까지 도래한 슬롯 중 끝나지 않은 슬롯을 BatchJobRunner로 처리
+     * 3. 큐와 슬롯별 체크포인트가 DB에 있으므로 서버가 죽었다 살아나도 밀린 슬롯부터 이어서 처리
+     */
+    @Scheduled(fixedDelayString = "${app.job.diary.tick-ms:60000}")
+    public void tickDiarySlots() {
+        if (!DIARY_MODE_SPREAD.equals(diaryMode)) return;
+        if (!diaryTicking.compareAndSet(false, true)) return;
+
+        taskExecutor.execute(() -> {
+            try {
+                processDueDiarySlots(LocalDateTime.now());
+            } catch (Exception e) {
+                log.error("❌ [스케줄러] 다이어리 슬롯 처리 실패: {}", e.getMessage());
+            } finally {
+                diaryTicking.set(false);
+            }
+        });
+    }
+
+    // 시간 분산 설정 검증 (창이 하루를 넘으면 두 창이 겹쳐 같은 슬롯 시각에 이틀 치가 몰림)
+    @PostConstruct
+    void validateDiaryWindow() {
+        if (diaryWindowStartHour < 0 || diaryWindowStartHour > 23) {
+            throw new IllegalStateException("app.job.diary.window-start-hour는 0~23이어야 합니다: " + diaryWindowStartHour);
+        }
+        if (diaryWindowHours < 1 || diaryWindowHours > 24) {
+            throw new IllegalStateException("app.job.diary.window-hours는 1~24여야 합니다: " + diaryWindowHours);
+        }
+        if (diarySlots < 1) {
+            throw new IllegalStateException("app.job.diary.slots는 1 이상이어야 합니다: " + diarySlots);
+        }
+    }
+
+    private void processDueDiarySlots(LocalDateTime now) {
+        // 가장 최근에 열린 창 (자정을 넘는 창이면 어제 열린 창일 수 있음)
+        LocalDateTime windowStart = now.toLocalDate().atTime(diaryWindowStartHour, 0);
+        if (now.isBefore(windowStart)) windowStart = windowStart.minusDays(1);
+
+        // 창이 닫히는 날의 '어제'가 일기 대상 (0시~6시 창: 창 당일의 어제 / 22시~4시 창: 창이 열린 날)
+        LocalDate diaryDate = windowStart.plusHours(diaryWindowHours).minusMinutes(1).toLocalDate().minusDays(1);
+        if (diaryDate.equals(diaryDoneDate)) return;
+
+        // 1. 대상 적재 (하루 한 번, 실패 시 다음 틱에 재시도)
+        if (!batchJobRunner.isCompleted(DIARY_ENQUEUE_JOB_NAME, diaryDate.toString())) {
+            jobLock.runExclusive(DIARY_ENQUEUE_JOB_NAME, JOB_LOCK_TTL, lease ->
+                    batchJobRunner.runTracked(DIARY_ENQUEUE_JOB_NAME, diaryDate.toString(), lease.fencingToken(),
+                            () -> enqueueDiaryTargets(diaryDate)));
+            if (!batchJobRunner.isCompleted(DIARY_ENQUEUE_JOB_NAME, diaryDate.toString())) return;
+        }
+
+        // 2. 도래한 슬롯 처리 (창이 지난 뒤에는 남은 슬롯 전부)
+        long slotMillis = Math.max(1, Duration.ofHours(diaryWindowHours).toMillis() / diarySlots);
+        int dueSlot = (int) Math.min(diarySlots - 1, Duration.between(windowStart, now).toMillis() / slotMillis);
+
+        BatchJobRunner.JobOptions options = new BatchJobRunner.JobOptions(
+                diaryChunkSize, diaryMaxConcurrency, diaryMaxAttempts, diaryBackoffBaseMs);
+
+        boolean allDone = true;
+        for (int slot = 0; slot <= dueSlot; slot++) {
+            String runKey = diaryDate + "#slot-" + slot;
+            if (batchJobRunner.isCompleted(DIARY_JOB_NAME, runKey)) continue;
+
+            int targetSlot = slot;
+            jobLock.runExclusive(DIARY_JOB_NAME + ":" + runKey, JOB_LOCK_TTL, lease ->
+                    batchJobRunner.runGrouped(DIARY_JOB_NAME, runKey, lease.fencingToken(), options, diaryBatchSize,
+                            (afterId, limit) -> petMapper.findQueuedDiaryUserIds(diaryDate, targetSlot, afterId, limit),
+                            userIds -> petService.writeMidnightDiaries(userIds, diaryDate)));
+            allDone &= batchJobRunner.isCompleted(DIARY_JOB_NAME, runKey);
+        }
+
+        if (allDone && dueSlot == diarySlots - 1) {
+            diaryDoneDate = diaryDate;
+            log.info("🌙 [스케줄러] {} 일기 슬롯 {}개 처리 완료", diaryDate, diarySlots);
+        }
+    }
+
+    private int enqueueDiaryTargets(LocalDate diaryDate) {
+        Long maxUserId = userMapper.findMaxUserId();
+        if (maxUserId == null) return 0;
+
+        // 한 문장이 모든 회원을 훑지 않도록 user_id 구간 단위로 나눠 적재
+        int queued = 0;
+        for (long from = 0; from <= maxUserId; from += diaryEnqueueChunkSize) {
+            queued += petMapper.enqueueDiaryTargets(diaryDate, diarySlots, from, from + diaryEnqueueChunkSize);
+        }
+
+        // 보관 기간이 지난 큐 정리
+        int deleted;
+        do {
+            deleted = petMapper.deleteDiaryQueueBefore(diaryDate.minusDays(DIARY_QUEUE_RETENTION_DAYS), diaryEnqueueChunkSize);
+        } while (deleted > 0);
 
-        log.info("✅ [스케줄러] 총 {}명에 대한 일기 작성 요청을 백그라운드 큐에 등록했습니다.", activeUsers.size());
+        log.info("🌙 [스케줄러] {} 일기 대상 {}명을 {}개 슬롯에 적재했습니다.", diaryDate, queued, diarySlots);
+        return queued;
     }
 
     /**
@@ -59,43 +349,126 @@ public class TutorooScheduler {
      */
     @Scheduled(cron = "0 0 * * * *")
     public void checkRunawayStatus() {
-        log.info("🚨 [스케줄러] 가출한 펫 확인 중...");
+        // 같은 시각의 실행은 한 번만 기록되도록 정각 단위로 runKey 생성
+        String runKey = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).toString();
+        jobLock.runExclusive(RUNAWAY_JOB_NAME, JOB_LOCK_TTL, lease ->
+                batchJobRunner.runTracked(RUNAWAY_JOB_NAME, runKey, lease.fencingToken(), () -> {
+                    log.info("🚨 [스케줄러] 가출한 펫 확인 중...");
 
-        // 가출 처리된 유저 ID 목록 반환
-        List<Long> runawayUserIds = petService.processBatchRunaways();
+                    // 가출 처리된 유저 ID 목록 반환
+                    List<Long> runawayUserIds = petService.processBatchRunaways();
 
-        for (Long userId : runawayUserIds) {
-            taskExecutor.execute(() ->
-                    notificationService.send(userId, "펫이 집을 나갔습니다! 😱 밥을 주거나 놀아주지 않아서 떠났어요.")
-            );
-        }
+                    // 알림은 배치 저장 큐로 들어가므로 유저별 스레드/트랜잭션을 만들 필요 없음
+                    for (Long userId : runawayUserIds) {
+                        notificationService.send(userId, "펫이 집을 나갔습니다! 😱 밥을 주거나 놀아주지 않아서 떠났어요.");
+                    }
 
-        if (!runawayUserIds.isEmpty()) {
-            log.info("📢 [스케줄러] {}명의 유저에게 가출 알림을 전송했습니다.", runawayUserIds.size());
-        }
+                    if (!runawayUserIds.isEmpty()) {
+                        log.info("📢 [스케줄러] {}명의 유저에게 가출 알림을 전송했습니다.", runawayUserIds.size());
+                    }
+                    return runawayUserIds.size();
+                }));
     }
 
     /**
-     * [3. 탈퇴 회원 영구 삭제]
+     * [3. 오래된 알림 아카이빙]
+     * 동작 시간: 매일 새벽 3시 30분
+     * 기능: 보존 기간이 지난 알림을 아카이브 테이블로 옮겨 hot 테이블 크기를 일정하게 유지합니다.
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void archiveOldNotifications() {
+        String runKey = LocalDate.now().toString();
+        jobLock.runExclusive(ARCHIVE_JOB_NAME, JOB_LOCK_TTL, lease ->
+                batchJobRunner.runTracked(ARCHIVE_JOB_NAME, runKey, lease.fencingToken(), () -> {
+                    log.info("🗄️ [스케줄러] 오래된 알림 아카이빙 시작...");
+                    int archived = notificationService.archiveOldNotifications(notificationRetentionDays, notificationArchiveChunkSize);
+                    log.info("✅ [스케줄러] 총 {}건의 알림을 아카이브로 이동했습니다.", archived);
+                    return archived;
+                }));
+    }
+
+    /**
+     * [4. 탈퇴 회원 영구 삭제]
      * 동작 시간: 매일 새벽 4시
-     * 기능: 탈퇴(WITHDRAWN) 상태로 90일이 지난 데이터를 DB에서 영구 삭제합니다.
+     * 기능: 탈퇴(WITHDRAWN) 상태로 보존 기간이 지난 회원의 데이터와 업로드 파일을 영구 삭제합니다.
+     * 최적화: 회원을 키셋으로 끊어 읽고, 하위 데이터는 청크 단위로 지우며, 진행 상황을 체크포인트로 남겨 재개합니다.
      */
     @Scheduled(cron = "0 0 4 * * *")
     public void purgeWithdrawnUsers() {
-        log.info("🧹 [스케줄러] 오래된 탈퇴 회원 데이터 정리 시작...");
-
-        // UserMapper XML에 findWithdrawnUsersForPurge 쿼리가 구현되어 있다고 가정
-        // (WHERE status = 'WITHDRAWN' AND deleted_at < DATE_SUB(NOW(), INTERVAL 90 DAY))
-        List<UserEntity> targets = userMapper.findWithdrawnUsersForPurge();
-
-        int count = 0;
-        for (UserEntity user : targets) {
-            // 실제 삭제 (UserMapper에 deleteUserPermanently 구현 필요)
-            // 여기서는 로직 흐름만 유지
-            // userMapper.deleteUserPermanently(user.getId());
-            count++;
-        }
+        taskExecutor.execute(() -> runPurge(LocalDate.now()));
+    }
+
+    private void runPurge(LocalDate runDate) {
+        // 동시 실행 수가 곧 DB 쓰기 부하이므로 기본값은 1 (순차 처리)
+        BatchJobRunner.JobOptions options = new BatchJobRunner.JobOptions(
+                purgeChunkSize, purgeMaxConcurrency, purgeMaxAttempts, purgeBackoffBaseMs);
+
+        jobLock.runExclusive(PURGE_JOB_NAME, JOB_LOCK_TTL, lease -> {
+            log.info("🧹 [스케줄러] 오래된 탈퇴 회원 데이터 정리 시작...");
+            batchJobRunner.run(PURGE_JOB_NAME, runDate.toString(), lease.fencingToken(), options,
+                    (afterId, limit) -> userMapper.findPurgeTargetIdsAfter(afterId, purgeRetentionDays, limit),
+                    userPurgeService::purgeUser);
+        });
+    }
+
+    /**
+     * [4-1. 업로드 고아 파일 정리]
+     * 동작 시간: 매일 새벽 4시 30분 (탈퇴 회원 삭제 이후)
+     * 기능: 업로드 폴더에서 어떤 행도 참조하지 않는 오래된 파일(응답으로만 내려간 TTS 음성, AI에 넘긴 첨부 이미지, 교체된 이미지 등)을 삭제합니다.
+     * 최적화: 파일을 묶음 단위로 읽어 참조 여부를 IN 조회 한 번으로 확인합니다. 중단되면 다음 실행이 처음부터 다시 훑어도 결과가 같습니다.
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void sweepOrphanUploads() {
+        String runKey = LocalDate.now().toString();
+        taskExecutor.execute(() -> jobLock.runExclusive(UPLOAD_SWEEP_JOB_NAME, JOB_LOCK_TTL, lease ->
+                batchJobRunner.runTracked(UPLOAD_SWEEP_JOB_NAME, runKey, lease.fencingToken(),
+                        userPurgeService::sweepOrphanFiles)));
+    }
+
+    /**
+     * [5. 주간 학부모 리포트]
+     * 동작 시간: 매주 월요일 오전 9시
+     * 기능: 진행 중인 플랜이 있는 학생의 지난주 학습 요약을 AI 알림톡으로 학부모에게 보냅니다.
+     * 최적화: 학생을 키셋으로 끊어 읽고 AI 호출을 제한된 수만큼 병렬 실행, 발송 기록으로 재실행 시 중복 발송 방지
+     */
+    @Scheduled(cron = "0 0 9 * * MON")
+    public void sendWeeklyReport() {
+        LocalDate weekStart = lastWeekStart();
+        taskExecutor.execute(() -> runWeeklyReport(weekStart));
+    }
+
+    private void runWeeklyReport(LocalDate weekStart) {
+        BatchJobRunner.JobOptions options = new BatchJobRunner.JobOptions(
+                reportChunkSize, reportMaxConcurrency, reportMaxAttempts, reportBackoffBaseMs);
+
+        jobLock.runExclusive(WEEKLY_REPORT_JOB_NAME, JOB_LOCK_TTL, lease -> {
+            log.info("📢 [스케줄러] 주간 리포트 발송 시작 ({} 주)", weekStart);
+            batchJobRunner.runGrouped(WEEKLY_REPORT_JOB_NAME, weekStart.toString(), lease.fencingToken(), options,
+                    reportBatchSize, userMapper::findWeeklyReportUserIdsAfter,
+                    userIds -> weeklyReportService.sendWeeklyReports(userIds, weekStart));
+        });
+    }
+
+    /**
+     * [6. 학습 달력 요약 백필]
+     * 동작 시간: 서버 시작 시 (완료 기록이 없을 때만)
+     * 기능: study_daily_summary 도입 전 로그를 유저 묶음 단위로 다시 집계하고 연속 학습일을 재계산합니다.
+     * 최적화: 로그가 있는 유저만 키셋으로 읽고, 묶음마다 INSERT ... SELECT 한 번, 체크포인트로 중단 지점부터 재개
+     */
+    private void runDailySummaryBackfill() {
+        // 동시 실행 수가 곧 DB 쓰기 부하이므로 기본값은 1 (순차 처리), 묶음이 실패해도 다시 집계하면 되므로 재시도 허용
+        BatchJobRunner.JobOptions options = new BatchJobRunner.JobOptions(
+                summaryBackfillChunkSize, summaryBackfillMaxConcurrency, summaryBackfillMaxAttempts, summaryBackfillBackoffBaseMs);
+
+        jobLock.runExclusive(SUMMARY_BACKFILL_JOB_NAME, JOB_LOCK_TTL, lease -> {
+            log.info("📅 [스케줄러] 학습 달력 요약 백필 시작");
+            batchJobRunner.runGrouped(SUMMARY_BACKFILL_JOB_NAME, SUMMARY_BACKFILL_RUN_KEY, lease.fencingToken(), options,
+                    summaryBackfillBatchSize, studySummaryMapper::findLoggedUserIdsAfter, studySummaryService::rebuild);
+        });
+    }
 
-        log.info("✅ [스케줄러] 총 {}명의 탈퇴 회원 데이터가 정리되었습니다.", count);
+    // 지난주 월요일 (월요일에 실행되면 바로 직전 한 주가 대상)
+    private LocalDate lastWeekStart() {
+        return LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).minusWeeks(1);
     }
-}
\ No newline at end of file
+}
@@ -7,9 +7,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tutoroo.dto.AssessmentDTO;
 import com.tutoroo.entity.StudyPlanEntity;
 import com.tutoroo.entity.UserEntity;
+import com.tutoroo.event.StudyPlanChangedEvent;
 import com.tutoroo.exception.ErrorCode;
 import com.tutoroo.exception.TutorooException;
-import com.tutoroo.mapper.CommonMapper;
 import com.tutoroo.mapper.StudyMapper;
 import com.tutoroo.mapper.UserMapper;
 import com.tutoroo.util.FileStore;
@@ -19,6 +19,7 @@ import org.springframework.ai.openai.OpenAiAudioSpeechModel;
 import org.springframework.ai.openai.OpenAiChatModel;
 import org.springframework.ai.openai.audio.speech.SpeechPrompt;
 import org.springframework.ai.openai.audio.speech.SpeechResponse;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,10 +36,12 @@ public class AssessmentService {
     private final OpenAiChatModel chatModel;
     private final OpenAiAudioSpeechModel speechModel;
     private final StudyMapper studyMapper;
+    private final RoadmapService roadmapService;
     private final UserMapper userMapper;
-    private final CommonMapper commonMapper;
+    private final ReferenceDataCache referenceDataCache;
     private final ObjectMapper objectMapper;
     private final FileStore fileStore;
+    private final ApplicationEventPublisher eventPublisher;
 
     // [핵심 설정] 최소 상담 턴 수 10회 (심층 분석)
     private static final int MIN_CONSULT_TURNS = 10;
@@ -49,7 +52,7 @@ public class AssessmentService {
     // --- [Step 2] 수준 파악 상담 (고도화됨) ---
     public AssessmentDTO.ConsultResponse proceedConsultation(AssessmentDTO.ConsultRequest request) {
         // 1. DB에서 기본 페르소나 로드
-        String baseSystemPrompt = commonMapper.findPromptContentByKey("CONSULT_SYSTEM");
+        String baseSystemPrompt = referenceDataCache.prompt("CONSULT_SYSTEM");
         if (baseSystemPrompt == null) {
             baseSystemPrompt = "너는 대한민국 최고의 입시/학습 컨설턴트야. 학생의 성적, 성향, 멘탈까지 완벽하게 파악해야 해.";
         }
@@ -131,7 +134,7 @@ public class AssessmentService {
         }
 
         // 3. DB 저장 (endDate, targetLevel 포함)
-        savePlanToDB(userId, request.studyInfo(), roadmapJson, analysis);
+        savePlanToDB(userId, request.studyInfo(), roadmapData, analysis);
 
         // 4. 응답 생성 (요약본)
         AssessmentDTO.RoadmapOverview overview = AssessmentDTO.RoadmapOverview.builder()
@@ -170,7 +173,7 @@ public class AssessmentService {
             throw new TutorooException(ErrorCode.AI_PROCESSING_ERROR);
         }
 
-        savePlanToDB(userId, info, roadmapJson, analysis);
+        savePlanToDB(userId, info, roadmapData, analysis);
 
         Map<String, String> simpleCurriculum = new HashMap<>();
         if (roadmapData.tableOfContents() != null) {
@@ -278,7 +281,8 @@ public class AssessmentService {
     }
 
     // [수정] AnalysisResult 파라미터 추가 및 필드 매핑 완벽 지원
-    private void savePlanToDB(Long userId, AssessmentDTO.StudyStartRequest info, String json, AnalysisResult analysis) {
+    // 로드맵은 요약(roadmap_json)과 일자별 커리큘럼(roadmap_days)으로 나눠 저장
+    private void savePlanToDB(Long userId, AssessmentDTO.StudyStartRequest info, AssessmentDTO.RoadmapData roadmap, AnalysisResult analysis) {
         // deadline 문자열 파싱 (예: "3개월", "100일") -> LocalDate
         LocalDate endDate = calculateEndDate(info.deadline());
 
@@ -286,7 +290,7 @@ public class AssessmentService {
                 .userId(userId)
                 .goal(info.goal())
                 .persona(info.teacherType() != null ? info.teacherType() : "TIGER")
-                .roadmapJson(json)
+                .roadmapJson(roadmapService.toOutlineJson(roadmap))
                 .progressRate(0.0)
                 .status("PROCEEDING")
                 .currentLevel(analysis.currentLevel)
@@ -296,6 +300,8 @@ public class AssessmentService {
                 .isPaid(false)
                 .build();
         studyMapper.savePlan(plan);
+        roadmapService.saveDays(plan.getId(), roadmap);
+        eventPublisher.publishEvent(new StudyPlanChangedEvent(userId));
     }
 
     // [New] 종료일 계산 헬퍼
@@ -0,0 +1,205 @@
+package com.tutoroo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tutoroo.entity.StudyLogEntity;
+import com.tutoroo.entity.StudyPlanEntity;
+import com.tutoroo.entity.UserEntity;
+import com.tutoroo.event.StudyLogChangedEvent;
+import com.tutoroo.event.StudyPlanChangedEvent;
+import com.tutoroo.event.UserProfileChangedEvent;
+import com.tutoroo.exception.ErrorCode;
+import com.tutoroo.exception.TutorooException;
+import com.tutoroo.mapper.StudyMapper;
+import com.tutoroo.mapper.UserMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * [기능: 대시보드 조각 캐시]
+ * 설명: 대시보드를 프로필, 플랜 목록, 점수 추이, 최근 피드백 조각으로 나눠 Redis에 따로 캐싱합니다.
+ * 작동원리:
+ * 1. 유저 조각(프로필, 플랜 목록)은 userId, 플랜 조각(점수 추이, 최근 피드백)은 planId로 키를 구성
+ * 2. 조회 시 MGET으로 한 번에 읽고, 없는 조각만 DB에서 다시 계산 (점수 추이는 SQL에서 최근 N건만 조회)
+ * 3. 도메인 이벤트가 커밋된 뒤 영향받는 조각만 삭제 -> 나머지 조각은 그대로 재사용
+ * 4. Redis 장애 시 캐시 없이 DB 결과를 그대로 반환, TTL은 놓친 무효화의 최대 지연 시간
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardFragmentCache {
+
+    private static final String KEY_PREFIX = "dashboard:";
+
+    private final UserMapper userMapper;
+    private final StudyMapper studyMapper;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.dashboard.cache-ttl-minutes:10}")
+    private long ttlMinutes;
+
+    @Value("${app.dashboard.weekly-score-count:7}")
+    private int weeklyScoreCount;
+
+    // --- 조각 정의 ---
+
+    public record Profile(String name, int currentPoint, int rank) {}
+
+    public record PlanSummary(Long id, String goal, String tutor, double progressRate) {}
+
+    public record Plans(List<PlanSummary> plans) {}
+
+    public record Scores(List<Integer> scores) {}
+
+    // 로그가 아직 없으면 exists = false
+    public record LatestFeedback(boolean exists, String aiFeedback, Integer testScore) {}
+
+    public record UserFragments(Profile profile, Plans plans) {}
+
+    public record PlanFragments(Scores scores, LatestFeedback feedback) {}
+
+    // --- 조회 ---
+
+    /**
+     * 유저 조각 (프로필, 플랜 목록) 조회
+     */
+    public UserFragments getUserFragments(Long userId) {
+        String profileKey = profileKey(userId);
+        String plansKey = plansKey(userId);
+        List<String> cached = multiGet(profileKey, plansKey);
+
+        Profile profile = resolve("profile", profileKey, cached.get(0), Profile.class, () -> loadProfile(userId));
+        Plans plans = resolve("plans", plansKey, cached.get(1), Plans.class, () -> loadPlans(userId));
+        return new UserFragments(profile, plans);
+    }
+
+    /**
+     * 플랜 조각 (점수 추이, 최근 피드백) 조회
+     */
+    public PlanFragments getPlanFragments(Long planId) {
+        String scoresKey = scoresKey(planId);
+        String feedbackKey = feedbackKey(planId);
+        List<String> cached = multiGet(scoresKey, feedbackKey);
+
+        Scores scores = resolve("scores", scoresKey, cached.get(0), Scores.class,
+                () -> new Scores(studyMapper.findRecentScoresByPlanId(planId, weeklyScoreCount)));
+        LatestFeedback feedback = resolve("feedback", feedbackKey, cached.get(1), LatestFeedback.class,
+                () -> loadLatestFeedback(planId));
+        return new PlanFragments(scores, feedback);
+    }
+
+    // --- 무효화 ---
+
+    /**
+     * 커밋 이후에만 삭제 (커밋 전에 지우면 다른 요청이 이전 값을 다시 캐싱할 수 있음)
+     * 트랜잭션 밖에서 발행된 이벤트는 즉시 처리
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(UserProfileChangedEvent event) {
+        evict(profileKey(event.userId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlanChanged(StudyPlanChangedEvent event) {
+        evict(plansKey(event.userId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLogChanged(StudyLogChangedEvent event) {
+        evict(scoresKey(event.planId()), feedbackKey(event.planId()));
+    }
+
+    // --- 내부 메서드 ---
+
+    private Profile loadProfile(Long userId) {
+        UserEntity user = userMapper.findById(userId);
+        if (user == null) throw new TutorooException(ErrorCode.USER_NOT_FOUND);
+        return new Profile(user.getName(), user.getTotalPoint() != null ? user.getTotalPoint() : 0,
+                user.getDailyRank() != null ? user.getDailyRank() : 0);
+    }
+
+    private Plans loadPlans(Long userId) {
+        List<PlanSummary> plans = new ArrayList<>();
+        for (StudyPlanEntity plan : studyMapper.findActivePlansByUserId(userId)) {
+            plans.add(new PlanSummary(
+                    plan.getId(),
+                    plan.getGoal(),
+                    plan.getCustomTutorName() != null ? plan.getCustomTutorName() : plan.getPersona(),
+                    plan.getProgressRate() != null ? plan.getProgressRate() : 0.0));
+        }
+        return new Plans(plans);
+    }
+
+    private LatestFeedback loadLatestFeedback(Long planId) {
+        StudyLogEntity latest = studyMapper.findLatestLogByPlanId(planId);
+        if (latest == null) return new LatestFeedback(false, null, null);
+        return new LatestFeedback(true, latest.getAiFeedback(), latest.getTestScore());
+    }
+
+    private <T> T resolve(String fragment, String key, String cachedJson, Class<T> type, Supplier<T> loader) {
+        if (cachedJson != null) {
+            try {
+                T value = objectMapper.readValue(cachedJson, type);
+                meterRegistry.counter("dashboard.fragment", "fragment", fragment, "result", "hit").increment();
+                return value;
+            } catch (Exception e) {
+                log.warn("대시보드 조각 역직렬화 실패 ({}): {}", key, e.getMessage());
+            }
+        }
+
+        meterRegistry.counter("dashboard.fragment", "fragment", fragment, "result", "miss").increment();
+        T value = loader.get();
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value), Duration.ofMinutes(ttlMinutes));
+        } catch (Exception e) {
+            log.warn("대시보드 조각 캐시 저장 실패 ({}): {}", key, e.getMessage());
+        }
+        return value;
+    }
+
+    private List<String> multiGet(String... keys) {
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(keys));
+            if (values != null && values.size() == keys.length) return values;
+        } catch (Exception e) {
+            log.warn("대시보드 캐시 조회 실패: {}", e.getMessage());
+        }
+        return Collections.nCopies(keys.length, null);
+    }
+
+    private void evict(String... keys) {
+        try {
+            redisTemplate.delete(List.of(keys));
+        } catch (Exception e) {
+            log.warn("대시보드 캐시 삭제 실패 {}: {}", List.of(keys), e.getMessage());
+        }
+    }
+
+    private String profileKey(Long userId) {
+        return KEY_PREFIX + "user:" + userId + ":profile";
+    }
+
+    private String plansKey(Long userId) {
+        return KEY_PREFIX + "user:" + userId + ":plans";
+    }
+
+    private String scoresKey(Long planId) {
+        return KEY_PREFIX + "plan:" + planId + ":scores";
+    }
+
+    private String feedbackKey(Long planId) {
+        return KEY_PREFIX + "plan:" + planId + ":feedback";
+    }
+}
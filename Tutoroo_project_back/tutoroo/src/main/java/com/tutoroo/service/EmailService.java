@@ -1,32 +1,31 @@
 package com.tutoroo.service;
 
-import com.tutoroo.exception.ErrorCode;
-import com.tutoroo.exception.TutorooException;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * [기능: 인증 메일 작성]
+ * 설명: 인증번호/임시 비밀번호 메일 본문을 만들어 MailDispatcher 큐에 넣습니다.
+ *      실제 SMTP 발송은 백그라운드 워커가 처리하므로 요청은 즉시 반환됩니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmailService {
 
-    private final JavaMailSender javaMailSender;
     private final RedisTemplate<String, String> redisTemplate;
+    private final MailDispatcher mailDispatcher;
 
     // 인증번호 유효시간 (5분)
     private static final long CODE_EXPIRATION_SECONDS = 300;
 
     /**
-     * [기능 1] 인증번호 생성 및 이메일 발송
+     * [기능 1] 인증번호 생성 및 이메일 발송 요청
      */
     public void sendVerificationCode(String email) {
         String code = createCode();
@@ -43,19 +42,19 @@ public class EmailService {
                 </div>
                 """, code);
 
-        sendMail(email, subject, content);
-
-        // Redis에 저장
+        // Redis에 저장 (동기) - 메일이 도착했을 때 바로 검증할 수 있도록 발송 요청보다 먼저 기록
         redisTemplate.opsForValue().set(
                 "AUTH:" + email,
                 code,
                 CODE_EXPIRATION_SECONDS,
                 TimeUnit.SECONDS
         );
+
+        mailDispatcher.enqueue(email, subject, content);
     }
 
     /**
-     * [기능 2] 임시 비밀번호 이메일 발송 (신규 추가)
+     * [기능 2] 임시 비밀번호 이메일 발송 요청 (신규 추가)
      */
     public void sendTemporaryPassword(String email, String tempPassword) {
         String subject = "[Tutoroo] 임시 비밀번호 발급 안내";
@@ -71,7 +70,7 @@ public class EmailService {
                 </div>
                 """, tempPassword);
 
-        sendMail(email, subject, content);
+        mailDispatcher.enqueue(email, subject, content);
     }
 
     /**
@@ -88,24 +87,6 @@ public class EmailService {
 
     // --- 내부 헬퍼 메서드 ---
 
-    private void sendMail(String to, String subject, String htmlContent) {
-        try {
-            MimeMessage message = javaMailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(htmlContent, true); // HTML 여부 true
-
-            javaMailSender.send(message);
-            log.info("메일 발송 성공: {}", to);
-
-        } catch (MessagingException e) {
-            log.error("메일 발송 실패: {}", e.getMessage());
-            throw new TutorooException("메일 발송 중 오류가 발생했습니다.", ErrorCode.INTERNAL_SERVER_ERROR);
-        }
-    }
-
     private String createCode() {
         return String.valueOf(new Random().nextInt(900000) + 100000);
     }
@@ -0,0 +1,36 @@
+package com.tutoroo.service;
+
+import com.tutoroo.dto.JobRunDTO;
+import com.tutoroo.mapper.JobRunMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * [기능: 예약 작업 실행 이력 조회]
+ * 설명: batch_job_runs에 남은 실행 기록을 관리자용으로 조회합니다. (읽기 전용)
+ */
+@Service
+@RequiredArgsConstructor
+public class JobMonitorService {
+
+    private static final int MAX_HISTORY_SIZE = 100;
+
+    private final JobRunMapper jobRunMapper;
+
+    // 작업별 가장 최근 실행 (마지막 상태/오류 확인용)
+    public List<JobRunDTO.Run> getLatestRuns() {
+        return jobRunMapper.findLatestPerJob().stream()
+                .map(JobRunDTO.Run::from)
+                .toList();
+    }
+
+    // 특정 작업의 최근 실행 이력 (소요 시간 추이 확인용)
+    public List<JobRunDTO.Run> getRunHistory(String jobName, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_HISTORY_SIZE));
+        return jobRunMapper.findRecentRuns(jobName, limit).stream()
+                .map(JobRunDTO.Run::from)
+                .toList();
+    }
+}
@@ -0,0 +1,330 @@
+package com.tutoroo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tutoroo.exception.ErrorCode;
+import com.tutoroo.exception.TutorooException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * [기능: 메일 발송 큐 (Redis Outbox)]
+ * 설명: 요청 스레드는 메일 작업을 Redis에 저장만 하고 즉시 반환하며, 별도 워커가 SMTP로 발송합니다.
+ * 작동원리:
+ * 1. enqueue(): MAIL:OUTBOX 리스트에 작업(JSON) 저장 - 서버가 재시작돼도 유실되지 않음
+ *    트랜잭션 안에서 호출되면 커밋된 뒤에 저장 (롤백된 변경 내용, 예: 저장되지 않은 임시 비밀번호가 발송되지 않도록)
+ * 2. dispatcher 스레드가 batchSize개씩 꺼내 MAIL:DELAYED(ZSET)에 임대 만료 시각으로 옮긴 뒤 워커에 전달
+ * 3. 워커는 배치를 SMTP 연결 하나로 발송 (JavaMailSender.send(MimeMessage...))
+ * 4. 성공 시 DELAYED에서 제거, 실패 시 지수 백오프 시각으로 다시 DELAYED에 등록
+ * 5. DELAYED에서 시각이 지난 작업(재시도 대상 + 워커가 죽어 임대가 만료된 작업)은 다시 OUTBOX로 이동
+ * 6. 최대 재시도 초과 시 MAIL:DEAD에 기록 (본문은 제외)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailDispatcher {
+
+    private final JavaMailSender javaMailSender;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.mail.workers:2}")
+    private int workers;
+
+    @Value("${app.mail.batch-size:20}")
+    private int batchSize;
+
+    @Value("${app.mail.poll-interval-ms:500}")
+    private long pollIntervalMs;
+
+    @Value("${app.mail.lease-ms:60000}")
+    private long leaseMs;
+
+    @Value("${app.mail.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.mail.backoff-base-ms:2000}")
+    private long backoffBaseMs;
+
+    @Value("${app.mail.backoff-max-ms:300000}")
+    private long backoffMaxMs;
+
+    private static final String OUTBOX_KEY = "MAIL:OUTBOX";
+    private static final String DELAYED_KEY = "MAIL:DELAYED";
+    private static final String DEAD_KEY = "MAIL:DEAD";
+    private static final int DEAD_LETTER_LIMIT = 1000;
+
+    // OUTBOX에서 최대 N개를 꺼내 DELAYED(임대)로 옮김
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POP_BATCH_SCRIPT = new DefaultRedisScript<>(
+            "local items = {} " +
+            "for i = 1, tonumber(ARGV[1]) do " +
+            "  local v = redis.call('RPOP', KEYS[1]) " +
+            "  if not v then break end " +
+            "  redis.call('ZADD', KEYS[2], ARGV[2], v) " +
+            "  items[#items + 1] = v " +
+            "end " +
+            "return items",
+            List.class);
+
+    // DELAYED에서 시각이 지난 작업을 OUTBOX로 되돌림
+    private static final RedisScript<Long> PROMOTE_DUE_SCRIPT = new DefaultRedisScript<>(
+            "local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) " +
+            "for _, v in ipairs(due) do " +
+            "  redis.call('ZREM', KEYS[1], v) " +
+            "  redis.call('LPUSH', KEYS[2], v) " +
+            "end " +
+            "return #due",
+            Long.class);
+
+    // 임대 중인 작업을 재시도 정보가 갱신된 작업으로 교체
+    private static final RedisScript<Long> RESCHEDULE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZREM', KEYS[1], ARGV[1]) " +
+            "return redis.call('ZADD', KEYS[1], ARGV[3], ARGV[2])",
+            Long.class);
+
+    private ExecutorService workerPool;
+    private Semaphore workerSlots;
+    private Thread dispatcherThread;
+    private volatile boolean running = true;
+
+    private Counter sentCounter;
+    private Counter retriedCounter;
+    private Counter deadCounter;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger seq = new AtomicInteger();
+        workerPool = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "mail-worker-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        workerSlots = new Semaphore(workers);
+
+        sentCounter = meterRegistry.counter("mail.sent");
+        retriedCounter = meterRegistry.counter("mail.retried");
+        deadCounter = meterRegistry.counter("mail.dead");
+
+        dispatcherThread = new Thread(this::runLoop, "mail-dispatcher");
+        dispatcherThread.setDaemon(true);
+        dispatcherThread.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        dispatcherThread.interrupt();
+        workerPool.shutdown();
+        // 끝나지 못한 작업은 임대 만료 후 다른 인스턴스(또는 재시작 후)가 다시 처리
+        workerPool.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 메일 발송 요청 (Redis 저장까지만 동기, 트랜잭션 안이면 커밋 후 저장)
+     */
+    public void enqueue(String to, String subject, String htmlContent) {
+        MailJob job = new MailJob(UUID.randomUUID().toString(), to, subject, htmlContent, 0);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    push(job);
+                }
+            });
+            return;
+        }
+        push(job);
+    }
+
+    // --- 내부 메서드 ---
+
+    private void push(MailJob job) {
+        String to = job.to();
+        try {
+            redisTemplate.opsForList().leftPush(OUTBOX_KEY, objectMapper.writeValueAsString(job));
+        } catch (Exception e) {
+            log.error("메일 작업 저장 실패 ({}): {}", to, e.getMessage());
+            throw new TutorooException("메일 발송 요청 중 오류가 발생했습니다.", ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runLoop() {
+        while (running) {
+            try {
+                long now = System.currentTimeMillis();
+                redisTemplate.execute(PROMOTE_DUE_SCRIPT, List.of(DELAYED_KEY, OUTBOX_KEY),
+                        String.valueOf(now), String.valueOf(batchSize * workers));
+
+                // 빈 워커가 생길 때까지 대기 (작업을 꺼내 둔 채로 쌓아두지 않음)
+                workerSlots.acquire();
+                List<String> payloads = redisTemplate.execute(POP_BATCH_SCRIPT, List.of(OUTBOX_KEY, DELAYED_KEY),
+                        String.valueOf(batchSize), String.valueOf(System.currentTimeMillis() + leaseMs));
+                if (payloads == null || payloads.isEmpty()) {
+                    workerSlots.release();
+                    Thread.sleep(pollIntervalMs);
+                    continue;
+                }
+
+                workerPool.execute(() -> {
+                    try {
+                        deliver(payloads);
+                    } finally {
+                        workerSlots.release();
+                    }
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("메일 큐 처리 중 오류: {}", e.getMessage());
+                sleepQuietly();
+            }
+        }
+    }
+
+    private void deliver(List<String> payloads) {
+        List<String> sendingPayloads = new ArrayList<>(payloads.size());
+        List<MailJob> jobs = new ArrayList<>(payloads.size());
+        List<MimeMessage> messages = new ArrayList<>(payloads.size());
+
+        for (String payload : payloads) {
+            MailJob job;
+            try {
+                job = objectMapper.readValue(payload, MailJob.class);
+            } catch (JsonProcessingException e) {
+                log.error("잘못된 메일 작업 폐기: {}", e.getMessage());
+                redisTemplate.opsForZSet().remove(DELAYED_KEY, payload);
+                continue;
+            }
+            try {
+                messages.add(toMimeMessage(job));
+                jobs.add(job);
+                sendingPayloads.add(payload);
+            } catch (MessagingException e) {
+                // 주소 형식 오류 등은 재시도해도 같은 결과이므로 바로 폐기
+                moveToDead(payload, job, e.getMessage());
+            }
+        }
+        if (messages.isEmpty()) return;
+
+        Map<Object, Exception> failed = Map.of();
+        try {
+            // 배치 전체를 SMTP 연결 하나로 발송
+            javaMailSender.send(messages.toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            failed = e.getFailedMessages();
+            // 연결 자체가 실패하면 실패 목록이 비어 있으므로 전체 실패로 처리
+            if (failed.isEmpty()) failed = allFailed(messages, e);
+        } catch (MailException e) {
+            failed = allFailed(messages, e);
+        }
+
+        for (int i = 0; i < jobs.size(); i++) {
+            Exception error = failed.get(messages.get(i));
+            if (error == null) {
+                redisTemplate.opsForZSet().remove(DELAYED_KEY, sendingPayloads.get(i));
+                sentCounter.increment();
+                log.info("메일 발송 성공: {}", jobs.get(i).to());
+            } else {
+                retryOrDrop(sendingPayloads.get(i), jobs.get(i), error);
+            }
+        }
+    }
+
+    private void retryOrDrop(String payload, MailJob job, Exception error) {
+        int attempts = job.attempts() + 1;
+        if (attempts >= maxAttempts) {
+            moveToDead(payload, job, error.getMessage());
+            return;
+        }
+        // 지수 백오프 + 지터 (동시에 실패한 메일이 한꺼번에 재시도되지 않도록)
+        long backoff = Math.min(backoffMaxMs, backoffBaseMs << Math.min(attempts - 1, 20));
+        long nextAttemptAt = System.currentTimeMillis() + backoff / 2
+                + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+        try {
+            String retried = objectMapper.writeValueAsString(job.withAttempts(attempts));
+            redisTemplate.execute(RESCHEDULE_SCRIPT, List.of(DELAYED_KEY),
+                    payload, retried, String.valueOf(nextAttemptAt));
+            retriedCounter.increment();
+            log.warn("메일 발송 실패 - {}ms 후 재시도 ({}/{}) {}: {}",
+                    backoff, attempts, maxAttempts, job.to(), error.getMessage());
+        } catch (JsonProcessingException e) {
+            moveToDead(payload, job, e.getMessage());
+        }
+    }
+
+    private void moveToDead(String payload, MailJob job, String reason) {
+        redisTemplate.opsForZSet().remove(DELAYED_KEY, payload);
+        // 인증번호/임시 비밀번호가 남지 않도록 본문은 기록하지 않음
+        redisTemplate.opsForList().leftPush(DEAD_KEY,
+                String.format("%s|%s|%s|%s", job.id(), job.to(), job.subject(), reason));
+        redisTemplate.opsForList().trim(DEAD_KEY, 0, DEAD_LETTER_LIMIT - 1);
+        deadCounter.increment();
+        log.error("메일 발송 최종 실패 ({}): {}", job.to(), reason);
+    }
+
+    private MimeMessage toMimeMessage(MailJob job) throws MessagingException {
+        MimeMessage message = javaMailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setTo(job.to());
+        helper.setSubject(job.subject());
+        helper.setText(job.htmlContent(), true); // HTML 여부 true
+        return message;
+    }
+
+    private Map<Object, Exception> allFailed(List<MimeMessage> messages, Exception e) {
+        Map<Object, Exception> failed = new IdentityHashMap<>();
+        messages.forEach(m -> failed.put(m, e));
+        return failed;
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(pollIntervalMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Redis에 저장되는 메일 작업
+     * @param attempts 지금까지 실패한 횟수
+     */
+    public record MailJob(String id, String to, String subject, String htmlContent, int attempts) {
+        MailJob withAttempts(int attempts) {
+            return new MailJob(id, to, subject, htmlContent, attempts);
+        }
+    }
+}
@@ -3,18 +3,25 @@ package com.tutoroo.service;
 import com.tutoroo.dto.NotificationDTO;
 import com.tutoroo.entity.NotificationEntity;
 import com.tutoroo.mapper.NotificationMapper;
+import com.tutoroo.util.SseConnectionRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -24,36 +31,76 @@ public class NotificationService {
 
     private final NotificationMapper notificationMapper;
 
-    // SSE 연결 객체 저장소 (Thread-Safe)
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+    // SSE 연결 저장소 (유저당 다중 연결 + heartbeat + Last-Event-ID 재전송)
+    private final SseConnectionRegistry sseConnectionRegistry;
 
-    // 타임아웃: 1시간 (네트워크 끊김 방지를 위해 넉넉하게 설정)
-    private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60;
+    // 알림 비동기 배치 저장기 (DB 저장 완료 후 SSE 전송)
+    private final NotificationWriter notificationWriter;
 
-    /**
-     * 1. SSE 구독 연결 (로그인 직후 호출)
-     */
-    public SseEmitter subscribe(Long userId) {
-        SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-        emitters.put(userId, emitter);
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 안 읽은 알림 수 카운터 (Redis)
+    // 세대(gen) 키: 안 읽은 알림이 바뀔 때마다 증가 -> COUNT 도중 바뀌었으면 그 결과로 카운터를 채우지 않음
+    private static final String UNREAD_KEY_PREFIX = "noti:unread:";
+    private static final String UNREAD_GEN_KEY_PREFIX = "noti:unread:gen:";
+    private static final Duration UNREAD_COUNTER_TTL = Duration.ofDays(1);
+    // KEYS: 카운터, 세대 / ARGV: 증감값, 세대 TTL(초) - 세대는 항상 올리고, 카운터는 이미 있을 때만 증감
+    private static final RedisScript<Long> ADJUST_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[2]) " +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  local v = redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+            "  if v < 0 then redis.call('SET', KEYS[1], 0, 'KEEPTTL') v = 0 end " +
+            "  return v " +
+            "end " +
+            "return -1",
+            Long.class);
+    // KEYS: 카운터, 세대 / ARGV: COUNT 전에 읽은 세대('' = 없음), 개수, TTL(초) - 세대가 그대로일 때만 채움
+    private static final RedisScript<Long> FILL_IF_UNCHANGED_SCRIPT = new DefaultRedisScript<>(
+            "local gen = redis.call('GET', KEYS[2]) or '' " +
+            "if gen ~= ARGV[1] then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3], 'NX') " +
+            "return 1",
+            Long.class);
+    // KEYS: (카운터, 세대) 쌍 반복 / ARGV: 세대 TTL(초) - 카운터 삭제 + 세대 증가 (진행 중인 COUNT 결과가 다시 채워지지 않도록)
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS, 2 do " +
+            "  redis.call('DEL', KEYS[i]) " +
+            "  redis.call('INCR', KEYS[i + 1]) " +
+            "  redis.call('EXPIRE', KEYS[i + 1], ARGV[1]) " +
+            "end " +
+            "return #KEYS / 2",
+            Long.class);
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int READ_CHUNK_SIZE = 1000;
+
+    // 목록 조회용 읽기 전용 트랜잭션 (복제본 구성 시 복제본으로 감)
+    private TransactionTemplate readOnlyTransaction;
 
-        // 타임아웃/완료/에러 시 저장소에서 제거 (메모리 누수 방지)
-        emitter.onCompletion(() -> emitters.remove(userId));
-        emitter.onTimeout(() -> emitters.remove(userId));
-        emitter.onError((e) -> emitters.remove(userId));
+    @PostConstruct
+    void registerPushAfterPersist() {
+        notificationWriter.setOnPersisted(this::onPersisted);
 
-        // 503 Service Unavailable 방지용 더미 데이터 전송
-        // (클라이언트가 연결 성공 이벤트를 받기 위함)
-        sendToClient(userId, "connect", "Connected! [UserId: " + userId + "]");
+        readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnlyTransaction.setReadOnly(true);
+    }
 
-        return emitter;
+    /**
+     * 1. SSE 구독 연결 (로그인 직후 호출)
+     * - 여러 탭/기기에서 동시에 구독 가능
+     * - 재연결 시 Last-Event-ID 이후 놓친 알림을 재전송
+     */
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        return sseConnectionRegistry.register(userId, lastEventId);
     }
 
     /**
      * 2. [핵심] 알림 발송 (DB 저장 + 실시간 전송)
-     * 설명: DB에 영구 저장하여 이력을 남기고, 접속 중인 유저에게는 즉시 팝업을 띄웁니다.
+     * 설명: 알림을 배치 저장 큐에 넣고 즉시 반환합니다.
+     *      DB 저장이 끝나면 NotificationWriter가 접속 중인 유저에게 팝업을 띄웁니다.
      */
-    @Transactional
     public void send(Long userId, String title, String message, String type, String url) {
         // (1) 엔티티 생성 (createdAt을 자바에서 미리 설정하여 DTO 변환 시 NPE 방지)
         NotificationEntity notification = NotificationEntity.builder()
@@ -66,30 +113,29 @@ public class NotificationService {
                 .createdAt(LocalDateTime.now()) // [중요] 자바 객체에도 시간 주입
                 .build();
 
-        // (2) DB 저장 (여기서 ID가 생성됨)
-        notificationMapper.save(notification);
-
-        // (3) 실시간 전송 (온라인 유저인 경우만)
-        if (emitters.containsKey(userId)) {
-            NotificationDTO.NotificationItem item = toItemDTO(notification);
-            sendToClient(userId, "notification", item);
-        }
+        // (2) 배치 저장 큐에 등록 (multi-row INSERT 후 SSE 전송)
+        notificationWriter.enqueue(notification);
     }
 
     // 편의 메서드 (단순 메시지 전송용)
-    @Transactional
     public void send(Long userId, String message) {
         send(userId, "알림", message, "INFO", null);
     }
 
     /**
      * 3. 알림 목록 조회 (보관함)
+     * - id 기반 키셋 페이지네이션: cursor(이전 페이지 마지막 id) 이후만 인덱스 범위로 읽음
+     * - 안 읽은 개수는 Redis 카운터에서 조회 (캐시 미스 시에만 COUNT 실행)
+     *   COUNT는 트랜잭션 밖(primary)에서 실행: 복제 지연으로 적게 센 값이 하루 동안 캐시되지 않도록
      */
-    @Transactional(readOnly = true)
-    public NotificationDTO.Response getMyNotifications(Long userId) {
-        // 최신순 50개 조회 (Mapper XML의 LIMIT 확인 필요)
-        List<NotificationEntity> entities = notificationMapper.findAllByUserId(userId);
-        long unreadCount = notificationMapper.countUnreadByUserId(userId);
+    public NotificationDTO.Response getMyNotifications(Long userId, Long cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<NotificationEntity> entities = readOnlyTransaction.execute(status ->
+                notificationMapper.findPageByUserId(userId, cursor, pageSize + 1));
+        boolean hasNext = entities.size() > pageSize;
+        if (hasNext) entities = entities.subList(0, pageSize);
 
         List<NotificationDTO.NotificationItem> items = entities.stream()
                 .map(this::toItemDTO)
@@ -97,7 +143,9 @@ public class NotificationService {
 
         return NotificationDTO.Response.builder()
                 .notifications(items)
-                .unreadCount(unreadCount)
+                .unreadCount(getUnreadCount(userId))
+                .nextCursor(hasNext ? entities.get(entities.size() - 1).getId() : null)
+                .hasNext(hasNext)
                 .build();
     }
 
@@ -106,33 +154,141 @@ public class NotificationService {
      */
     @Transactional
     public void markAsRead(Long userId, Long notificationId) {
-        notificationMapper.markAsRead(userId, notificationId);
+        // 실제로 안 읽음 -> 읽음으로 바뀐 경우에만, 커밋된 뒤 카운터 감소 (롤백 시 카운터 유지)
+        if (notificationMapper.markAsRead(userId, notificationId) > 0) {
+            afterCommit(() -> adjustUnreadCounter(userId, -1));
+        }
     }
 
-    @Transactional
+    /**
+     * 전체 읽음 처리
+     * 설명: 한 번의 UPDATE로 수만 건을 잠그지 않도록 청크 단위로 나누어 커밋합니다.
+     *      (메서드 전체를 트랜잭션으로 묶지 않음 - 청크마다 자동 커밋)
+     */
     public void markAllAsRead(Long userId) {
-        notificationMapper.markAllAsRead(userId);
+        int updated;
+        int total = 0;
+        do {
+            updated = notificationMapper.markAllAsReadChunk(userId, READ_CHUNK_SIZE);
+            total += updated;
+        } while (updated == READ_CHUNK_SIZE);
+
+        // 처리 도중 새 알림이 들어왔을 수 있으므로 0으로 덮어쓰지 않고 다음 조회 때 재계산
+        invalidateUnreadCounters(List.of(userId));
+        log.debug("전체 읽음 처리 (User: {}): {}건", userId, total);
     }
 
-    // --- 내부 메서드 ---
+    /**
+     * 5. 오래된 알림 아카이빙 (스케줄러 호출)
+     * 설명: 보존 기간이 지난 알림을 청크 단위로 notifications_archive로 옮기고 hot 테이블에서 삭제합니다.
+     *      청크마다 별도 트랜잭션으로 처리하여 잠금 시간을 짧게 유지합니다.
+     * @return 아카이빙된 알림 수
+     */
+    public int archiveOldNotifications(int retentionDays, int chunkSize) {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+
+        while (true) {
+            List<NotificationMapper.ArchiveTarget> targets = notificationMapper.findArchiveTargets(cutoff, chunkSize);
+            if (targets.isEmpty()) break;
 
-    // 실제 클라이언트로 데이터 전송 (예외 처리 포함)
-    private void sendToClient(Long userId, String eventName, Object data) {
-        SseEmitter emitter = emitters.get(userId);
-        if (emitter != null) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .id(String.valueOf(userId))
-                        .name(eventName)
-                        .data(data));
-            } catch (IOException e) {
-                // 전송 실패 시 연결이 끊긴 것으로 간주하고 제거
-                emitters.remove(userId);
-                log.warn("SSE 전송 실패 (User: {}): {}", userId, e.getMessage());
+            List<Long> ids = targets.stream().map(NotificationMapper.ArchiveTarget::id).toList();
+            transactionTemplate.executeWithoutResult(status -> {
+                notificationMapper.copyToArchive(ids);
+                notificationMapper.deleteByIds(ids);
+            });
+
+            // 안 읽은 알림이 빠졌을 수 있으므로 해당 유저 카운터는 재계산 대상
+            invalidateUnreadCounters(targets.stream()
+                    .map(NotificationMapper.ArchiveTarget::userId)
+                    .distinct()
+                    .toList());
+
+            total += ids.size();
+            if (targets.size() < chunkSize) break;
+        }
+        return total;
+    }
+
+    // --- 안 읽은 알림 카운터 (Redis) ---
+
+    private long getUnreadCount(Long userId) {
+        String key = UNREAD_KEY_PREFIX + userId;
+        String genKey = UNREAD_GEN_KEY_PREFIX + userId;
+        List<String> cached;
+        try {
+            cached = redisTemplate.opsForValue().multiGet(List.of(key, genKey));
+            if (cached != null && cached.get(0) != null) return Math.max(0, Long.parseLong(cached.get(0)));
+        } catch (Exception e) {
+            log.warn("안 읽은 알림 카운터 조회 실패: {}", e.getMessage());
+            return notificationMapper.countUnreadByUserId(userId);
+        }
+
+        // COUNT 전에 읽은 세대가 그대로일 때만 채움 (그 사이 저장/읽음 처리가 커밋됐으면 다음 조회 때 다시 셈)
+        String genBeforeCount = cached != null && cached.get(1) != null ? cached.get(1) : "";
+        long count = notificationMapper.countUnreadByUserId(userId);
+        try {
+            redisTemplate.execute(FILL_IF_UNCHANGED_SCRIPT, List.of(key, genKey),
+                    genBeforeCount, String.valueOf(count), String.valueOf(UNREAD_COUNTER_TTL.toSeconds()));
+        } catch (Exception e) {
+            log.warn("안 읽은 알림 카운터 저장 실패: {}", e.getMessage());
+        }
+        return count;
+    }
+
+    // 카운터가 이미 초기화된 경우에만 증감 (없는 키를 만들면 실제 개수와 어긋나므로), 세대는 항상 올림
+    private void adjustUnreadCounter(Long userId, long delta) {
+        try {
+            redisTemplate.execute(ADJUST_IF_EXISTS_SCRIPT,
+                    List.of(UNREAD_KEY_PREFIX + userId, UNREAD_GEN_KEY_PREFIX + userId),
+                    String.valueOf(delta), String.valueOf(UNREAD_COUNTER_TTL.toSeconds()));
+        } catch (Exception e) {
+            log.warn("안 읽은 알림 카운터 갱신 실패 (User: {}): {}", userId, e.getMessage());
+        }
+    }
+
+    private void invalidateUnreadCounters(List<Long> userIds) {
+        if (userIds.isEmpty()) return;
+        List<String> keys = new ArrayList<>(userIds.size() * 2);
+        for (Long userId : userIds) {
+            keys.add(UNREAD_KEY_PREFIX + userId);
+            keys.add(UNREAD_GEN_KEY_PREFIX + userId);
+        }
+        try {
+            redisTemplate.execute(INVALIDATE_SCRIPT, keys, String.valueOf(UNREAD_COUNTER_TTL.toSeconds()));
+        } catch (Exception e) {
+            log.warn("안 읽은 알림 카운터 초기화 실패 ({}명): {}", userIds.size(), e.getMessage());
+        }
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤 실행 (롤백되면 실행하지 않음), 밖이면 바로 실행
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
             }
+        });
+    }
+
+    // 배치 저장 완료 후처리: 유저별 카운터 증가 + 저장 순서대로 SSE 버퍼에 기록
+    // (네트워크 전송은 SseConnectionRegistry가 별도 실행기에서 처리 -> 느린 클라이언트가 알림 저장 스레드를 막지 않음)
+    private void onPersisted(List<NotificationEntity> batch) {
+        Map<Long, Long> countsByUser = batch.stream()
+                .collect(Collectors.groupingBy(NotificationEntity::getUserId, Collectors.counting()));
+        countsByUser.forEach(this::adjustUnreadCounter);
+
+        for (NotificationEntity n : batch) {
+            sseConnectionRegistry.send(n.getUserId(), "notification", toItemDTO(n));
         }
     }
 
+    // --- 내부 메서드 ---
+
     // Entity -> DTO 변환
     private NotificationDTO.NotificationItem toItemDTO(NotificationEntity entity) {
         return NotificationDTO.NotificationItem.builder()
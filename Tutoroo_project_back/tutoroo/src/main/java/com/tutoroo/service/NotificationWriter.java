@@ -0,0 +1,179 @@
+package com.tutoroo.service;
+
+import com.tutoroo.entity.NotificationEntity;
+import com.tutoroo.mapper.NotificationMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * [기능: 알림 비동기 배치 저장기]
+ * 설명: 알림을 메모리 큐에 모았다가 multi-row INSERT 한 번으로 저장합니다.
+ * 작동원리:
+ * 1. enqueue() 호출 시 큐에 넣고 즉시 반환 (호출자 트랜잭션/스레드 점유 X)
+ * 2. 단일 writer 스레드가 batchSize개 또는 flushInterval마다 꺼내어 일괄 INSERT
+ * 3. 큐는 FIFO이고 소비자가 하나뿐이므로 유저별 전달 순서가 보장됨
+ * 4. DB 저장이 끝난 알림만 SSE로 전송 (저장 안 된 알림이 화면에 뜨는 일 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationWriter {
+
+    private final NotificationMapper notificationMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.notification.writer.queue-capacity:100000}")
+    private int queueCapacity;
+
+    @Value("${app.notification.writer.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.notification.writer.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    private BlockingQueue<NotificationEntity> queue;
+    private Thread writerThread;
+    private volatile boolean running = true;
+
+    // 저장 완료된 배치마다 호출될 콜백 (NotificationService가 카운터 갱신 + SSE 전송을 등록)
+    private volatile Consumer<List<NotificationEntity>> onPersisted = batch -> {};
+
+    private Timer flushTimer;
+    private Counter persistedCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    void start() {
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("notification.queue.depth", queue, BlockingQueue::size)
+                .description("저장 대기 중인 알림 수")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("notification.flush.latency")
+                .description("알림 배치 INSERT 소요 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        persistedCounter = Counter.builder("notification.persisted")
+                .description("저장 완료된 알림 수")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("notification.failed")
+                .description("저장 실패한 알림 수")
+                .register(meterRegistry);
+
+        writerThread = new Thread(this::runLoop, "notification-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writerThread.interrupt();
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        // 종료 직전 남은 알림 저장
+        flushRemaining();
+    }
+
+    public void setOnPersisted(Consumer<List<NotificationEntity>> onPersisted) {
+        this.onPersisted = onPersisted;
+    }
+
+    /**
+     * 알림 저장 요청 (비동기)
+     * 큐가 가득 찬 경우 순서 보장을 위해 자리가 날 때까지 호출자를 대기시킵니다. (Backpressure)
+     */
+    public void enqueue(NotificationEntity notification) {
+        if (queue.offer(notification)) return;
+
+        log.warn("알림 큐 포화 (capacity: {}) - 호출자 대기", queueCapacity);
+        try {
+            queue.put(notification);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("알림 큐 대기 중 인터럽트 - 유실 (User: {})", notification.getUserId());
+            failedCounter.increment();
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    // --- 내부 메서드 ---
+
+    private void runLoop() {
+        List<NotificationEntity> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                NotificationEntity first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("알림 배치 처리 중 오류: {}", e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flushRemaining() {
+        List<NotificationEntity> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<NotificationEntity> batch) {
+        long start = System.nanoTime();
+        try {
+            notificationMapper.saveAll(batch);
+            persistedCounter.increment(batch.size());
+        } catch (Exception e) {
+            // 한 건의 잘못된 데이터 때문에 배치 전체를 잃지 않도록 단건 저장으로 재시도
+            log.warn("알림 배치 INSERT 실패 ({}건) - 단건 저장으로 재시도: {}", batch.size(), e.getMessage());
+            List<NotificationEntity> saved = new ArrayList<>(batch.size());
+            for (NotificationEntity notification : batch) {
+                try {
+                    notificationMapper.save(notification);
+                    saved.add(notification);
+                } catch (Exception ex) {
+                    failedCounter.increment();
+                    log.error("알림 저장 실패 (User: {}): {}", notification.getUserId(), ex.getMessage());
+                }
+            }
+            persistedCounter.increment(saved.size());
+            batch = saved;
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        // 저장 완료된 알림만 순서대로 후처리 (카운터 갱신, 실시간 전송)
+        if (batch.isEmpty()) return;
+        try {
+            onPersisted.accept(batch);
+        } catch (Exception e) {
+            log.warn("알림 저장 후처리 실패 ({}건): {}", batch.size(), e.getMessage());
+        }
+    }
+}
@@ -7,14 +7,15 @@ import com.tutoroo.exception.TutorooException;
 import com.tutoroo.mapper.PetMapper;
 import com.tutoroo.mapper.StudyMapper;
 import com.tutoroo.mapper.UserMapper;
+import com.tutoroo.util.BatchPromptGenerator;
 import com.tutoroo.util.FileStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.image.ImageModel;
 import org.springframework.ai.image.ImagePrompt;
 import org.springframework.ai.image.ImageResponse;
 import org.springframework.ai.openai.OpenAiImageOptions;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,9 +33,10 @@ import java.util.*;
 public class PetService {
 
     private final PetMapper petMapper;
+    private final ReferenceDataCache referenceDataCache;
     private final UserMapper userMapper;
     private final StudyMapper studyMapper;
-    private final ChatClient.Builder chatClientBuilder;
+    private final BatchPromptGenerator batchPromptGenerator;
     private final ImageModel imageModel;
     private final FileStore fileStore;
 
@@ -43,6 +45,23 @@ public class PetService {
     private static final int INTIMACY_DECAY_PER_HOUR = 3;
     private static final int RUNAWAY_THRESHOLD = 20;
 
+    @Value("${app.job.runaway.chunk-size:2000}")
+    private int runawayChunkSize;
+
+    // 펫 일기 작성 규칙 (단건/묶음 프롬프트 공통)
+    private static final String DIARY_RULES =
+            "다음 규칙을 꼭 지켜:\n" +
+                    "1. 말투: 어린 아이처럼 아주 귀엽게, 반말로, 이모지(😊, 🔥)를 많이 섞어서.\n" +
+                    "2. 시점: 주인님한테 말을 거는 게 아니라, '오늘 주인님이 ~를 했다' 식의 혼잣말.\n" +
+                    "3. 형식:\n" +
+                    "   제목: [오늘 내용에 어울리는 엉뚱하고 귀여운 제목]\n" +
+                    "   날씨: [오늘 기분으로 날씨 표현]\n" +
+                    "   내용: [3~4줄 정도의 일기 본문]";
+
+    private static final String DIARY_BATCH_INSTRUCTION =
+            "너는 여러 펫을 대신해서 일기를 써주는 작가야. 항목마다 그 항목의 펫 이름을 가진 펫이 되어, " +
+                    "주인님의 하루 정보를 보고 그 펫의 시점에서 '비밀 관찰 일기'를 써줘.\n" + DIARY_RULES;
+
     private static final int COST_FEED = 20;
     private static final int EXP_FEED = 5;
     private static final int EXP_PLAY = 10;
@@ -55,10 +74,10 @@ public class PetService {
             return null;
         }
 
-        updatePetStats(pet);
-        petMapper.updatePet(pet);
+        // 조회 시에는 현재 값을 계산만 하고 저장하지 않음 (GET 요청에서 쓰기 X)
+        applyDecay(pet, LocalDateTime.now());
 
-        int maxExp = petMapper.findRequiredExpForNextStage(pet.getStage());
+        int maxExp = referenceDataCache.requiredExpForNextStage(pet.getStage());
         if (pet.getStage() >= 5) maxExp = 999999;
 
         return mapToDTO(pet, maxExp);
@@ -115,10 +134,11 @@ public class PetService {
     // --- [4] 상호작용 ---
     @Transactional
     public PetDTO.PetStatusResponse interact(Long userId, String actionType) {
-        PetInfoEntity pet = petMapper.findByUserId(userId);
+        // 전체 컬럼을 다시 쓰므로 행을 잠가 둠 (그 사이 학습 보상 경험치/가출 처리가 덮어써지지 않도록)
+        PetInfoEntity pet = petMapper.findByUserIdForUpdate(userId);
         if (pet == null) throw new TutorooException(ErrorCode.PET_NOT_FOUND);
 
-        updatePetStats(pet);
+        applyDecay(pet, LocalDateTime.now());
 
         if (pet.isSleeping() && !"WAKE_UP".equals(actionType)) {
             throw new TutorooException(ErrorCode.PET_IS_SLEEPING);
@@ -163,34 +183,20 @@ public class PetService {
         }
 
         checkLevelUp(pet);
+        refreshRunawayAt(pet);
         petMapper.updatePet(pet);
 
-        int maxExp = petMapper.findRequiredExpForNextStage(pet.getStage());
+        int maxExp = referenceDataCache.requiredExpForNextStage(pet.getStage());
         if (pet.getStage() >= 5) maxExp = 999999;
         return mapToDTO(pet, maxExp);
     }
 
     // --- [New] 외부(이벤트) 경험치 지급 메서드 추가 ---
+    // 학습 보상 중계기(비동기)에서 호출 -> 읽고 다시 쓰지 않고 UPDATE 한 문장으로 경험치 증가 + 레벨업
+    // (펫이 없으면 변경 없음, 경험치가 다음 단계 기준을 채우면 한 단계 올리고 남은 경험치 이월)
     @Transactional
     public void gainExp(Long userId, int amount) {
-        PetInfoEntity pet = petMapper.findByUserId(userId);
-        if (pet == null) return; // 펫이 없으면 패스
-
-        int currentExp = pet.getExp() + amount;
-        pet.setExp(currentExp);
-
-        // 2. 레벨업 체크 (다음 단계 경험치 조회)
-        Integer requiredExp = petMapper.findRequiredExpForNextStage(pet.getStage());
-
-        // 만약 경험치가 꽉 찼다면? -> 레벨업!
-        if (requiredExp != null && currentExp >= requiredExp) {
-            pet.setStage(pet.getStage() + 1); // 레벨 +1
-            pet.setExp(currentExp - requiredExp); // 남은 경험치 이월
-            // (선택) 레벨업 축하 알림 메시지 등을 여기서 보낼 수도 있음
-        }
-
-        // 3. 변경사항 저장
-        petMapper.updatePet(pet);
+        petMapper.addExp(userId, amount);
     }
 
     // --- [5] 졸업 후 알 관련 ---
@@ -264,79 +270,83 @@ public class PetService {
     }
 
     // --- [7] 미드나잇 다이어리 ---
-    @Transactional
-    public void writeMidnightDiary(Long userId) {
-        PetInfoEntity pet = petMapper.findByUserId(userId);
-        if (pet == null) return;
-
-        // 1. 오늘 공부 기록 가져오기 (StudyMapper 사용)
-        List<StudyLogEntity> todayLogs = studyMapper.findLogsByUserIdAndDate(userId, LocalDate.now());
-
-        // 2. 공부 내용 요약하기
-        String dailyActivity;
-        if (todayLogs.isEmpty()) {
-            dailyActivity = "오늘은 공부 기록이 없어. 주인님이 바빴나봐.";
-        } else {
-            // 공부 내용과 AI 피드백 등을 콤마로 연결해서 문자열로 만듦
-            StringBuilder sb = new StringBuilder();
-            for (StudyLogEntity log : todayLogs) {
-                sb.append("[공부내용: ").append(log.getContentSummary()).append("] ");
-            }
-            dailyActivity = "오늘 공부 기록이야: " + sb.toString();
+    // 여러 유저의 일기를 AI 묶음 호출 한 번으로 작성하고, 작성하지 못한 유저 수를 반환
+    // AI 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
+    public int writeMidnightDiaries(List<Long> userIds, LocalDate diaryDate) {
+        Map<Long, PetInfoEntity> pets = new LinkedHashMap<>();
+        Map<Long, String> activities = new LinkedHashMap<>();
+        for (Long userId : userIds) {
+            PetInfoEntity pet = petMapper.findByUserId(userId);
+            if (pet == null) continue;
+
+            // 재실행(체크포인트 재개) 시 이미 작성된 일기는 건너뜀
+            if (petMapper.existsDiary(pet.getPetId(), diaryDate)) continue;
+
+            pets.put(userId, pet);
+            activities.put(userId, describeDailyActivity(studyMapper.findLogsByUserIdAndDate(userId, diaryDate)));
         }
+        if (pets.isEmpty()) return 0;
 
-        try {
-            // 3. AI에게 상황극 시키기 (프롬프트 수정)
-            String prompt = String.format(
-                    "너는 지금부터 '%s'(이)라는 이름의 펫이야.\n" +
-                            "오늘 주인님의 하루 정보: [%s].\n\n" +
-                            "이 정보를 보고 너의 시점에서 '비밀 관찰 일기'를 써줘.\n" +
-                            "다음 규칙을 꼭 지켜:\n" +
-                            "1. 말투: 어린 아이처럼 아주 귀엽게, 반말로, 이모지(😊, 🔥)를 많이 섞어서.\n" +
-                            "2. 시점: 주인님한테 말을 거는 게 아니라, '오늘 주인님이 ~를 했다' 식의 혼잣말.\n" +
-                            "3. 형식:\n" +
-                            "   제목: [오늘 내용에 어울리는 엉뚱하고 귀여운 제목]\n" +
-                            "   날씨: [오늘 기분으로 날씨 표현]\n" +
-                            "   내용: [3~4줄 정도의 일기 본문]",
-                    pet.getPetName(),
-                    dailyActivity // <--- 여기에 공부 기록이 들어감!
-            );
-
-            // 4. AI 호출 및 저장 (기존 코드와 동일)
-            String content = chatClientBuilder.build().prompt().user(prompt).call().content();
+        Map<Long, String> inputs = new LinkedHashMap<>();
+        pets.forEach((userId, pet) -> inputs.put(userId,
+                String.format("펫 이름: '%s', 오늘 주인님의 하루 정보: [%s]", pet.getPetName(), activities.get(userId))));
+
+        // AI 호출 (묶음 응답이 잘못된 유저만 단건 프롬프트로 다시 생성)
+        Map<Long, String> contents = batchPromptGenerator.generate(DIARY_BATCH_INSTRUCTION, inputs,
+                userId -> buildDiaryPrompt(pets.get(userId).getPetName(), activities.get(userId)));
 
+        contents.forEach((userId, content) -> {
             PetDiaryEntity diary = PetDiaryEntity.builder()
-                    .petId(pet.getPetId())
-                    .date(LocalDate.now())
+                    .petId(pets.get(userId).getPetId())
+                    .date(diaryDate)
                     .content(content)
                     .mood("HAPPY")
                     .createdAt(LocalDateTime.now())
                     .build();
             petMapper.saveDiary(diary);
-
-        } catch (Exception e) {
-            log.error("일기 작성 실패", e);
-        }
+        });
+        return pets.size() - contents.size();
     }
 
     // --- [8] 가출 체크 ---
-    @Transactional
+    // 가출 예정 시각(runaway_at)이 지난 펫만 인덱스로 골라 청크 단위 UPDATE (전체 스캔/스탯 재계산 X)
     public List<Long> processBatchRunaways() {
-        List<PetInfoEntity> activePets = petMapper.findAllActivePets();
-        List<Long> runawayUserIds = new ArrayList<>();
-        for (PetInfoEntity pet : activePets) {
-            updatePetStats(pet);
-            if (pet.getIntimacy() <= RUNAWAY_THRESHOLD) {
-                pet.setStatus("RUNAWAY");
-                runawayUserIds.add(pet.getUserId());
-            }
-            petMapper.updatePet(pet);
-        }
-        return runawayUserIds;
+        // DATETIME 비교용 표식이므로 초 단위로 맞춤
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+
+        int updated;
+        do {
+            updated = petMapper.markRunaways(now, runawayChunkSize);
+        } while (updated == runawayChunkSize);
+
+        return petMapper.findRanAwayUserIds(now);
     }
 
     // --- Helper Methods ---
+
+    // 해당 날짜 공부 기록을 일기 재료 문장으로 요약
+    private String describeDailyActivity(List<StudyLogEntity> todayLogs) {
+        if (todayLogs.isEmpty()) {
+            return "오늘은 공부 기록이 없어. 주인님이 바빴나봐.";
+        }
+        // 공부 내용을 이어 붙여 문자열로 만듦
+        StringBuilder sb = new StringBuilder();
+        for (StudyLogEntity log : todayLogs) {
+            sb.append("[공부내용: ").append(log.getContentSummary()).append("] ");
+        }
+        return "오늘 공부 기록이야: " + sb;
+    }
+
+    // 단건 일기 프롬프트 (펫 시점 상황극)
+    private String buildDiaryPrompt(String petName, String dailyActivity) {
+        return String.format(
+                "너는 지금부터 '%s'(이)라는 이름의 펫이야.\n" +
+                        "오늘 주인님의 하루 정보: [%s].\n\n" +
+                        "이 정보를 보고 너의 시점에서 '비밀 관찰 일기'를 써줘.\n",
+                petName, dailyActivity) + DIARY_RULES;
+    }
     private void createPetEntity(Long userId, PetType type, String name, String customDesc, String customImg) {
+        LocalDateTime now = LocalDateTime.now();
         PetInfoEntity newPet = PetInfoEntity.builder()
                 .userId(userId)
                 .petName(name)
@@ -350,30 +360,43 @@ public class PetService {
                 .createdAt(LocalDateTime.now())
                 .lastFedAt(LocalDateTime.now()).lastPlayedAt(LocalDateTime.now())
                 .lastCleanedAt(LocalDateTime.now()).lastSleptAt(LocalDateTime.now())
+                .decayAppliedAt(now)
                 .build();
+        refreshRunawayAt(newPet);
         petMapper.createPet(newPet);
     }
 
     private void checkLevelUp(PetInfoEntity pet) {
         if (pet.getStage() >= 5) return;
-        Integer required = petMapper.findRequiredExpForNextStage(pet.getStage());
-        if (required != null && pet.getExp() >= required) {
+        int required = referenceDataCache.requiredExpForNextStage(pet.getStage());
+        if (required != ReferenceDataCache.NO_RULE && pet.getExp() >= required) {
             pet.setStage(pet.getStage() + 1);
             pet.setExp(pet.getExp() - required);
             if (pet.getStage() == 5) pet.setStatus("GRADUATED");
         }
     }
 
-    private void updatePetStats(PetInfoEntity pet) {
-        LocalDateTime now = LocalDateTime.now();
-
-        if (pet.getLastFedAt() == null) pet.setLastFedAt(now);
-        if (pet.getLastPlayedAt() == null) pet.setLastPlayedAt(now);
+    /**
+     * [지연 감소 계산]
+     * 저장된 fullness/intimacy는 decayAppliedAt 시점의 값이며, 현재 값은 경과한 '시간' 수만큼 감소시켜 계산합니다.
+     * 기준 시각은 정시 단위로만 이동시켜, 몇 번을 계산(조회)하든 결과가 같고 자투리 시간이 사라지지 않습니다.
+     */
+    private void applyDecay(PetInfoEntity pet, LocalDateTime now) {
+        LocalDateTime anchor = pet.getDecayAppliedAt() != null ? pet.getDecayAppliedAt() : now;
+        long hours = Math.max(0, Duration.between(anchor, now).toHours());
+
+        if (hours > 0) {
+            pet.setFullness((int) Math.max(0, pet.getFullness() - hours * FULLNESS_DECAY_PER_HOUR));
+            pet.setIntimacy((int) Math.max(0, pet.getIntimacy() - hours * INTIMACY_DECAY_PER_HOUR));
+        }
+        pet.setDecayAppliedAt(anchor.plusHours(hours));
+    }
 
-        long hFed = Duration.between(pet.getLastFedAt(), now).toHours();
-        if(hFed > 0) pet.setFullness(Math.max(0, pet.getFullness() - (int)hFed * FULLNESS_DECAY_PER_HOUR));
-        long hPlay = Duration.between(pet.getLastPlayedAt(), now).toHours();
-        if(hPlay > 0) pet.setIntimacy(Math.max(0, pet.getIntimacy() - (int)hPlay * INTIMACY_DECAY_PER_HOUR));
+    // 현재 친밀도가 가출 기준 이하로 떨어지는 시각 (스탯을 저장하기 직전에 호출)
+    private void refreshRunawayAt(PetInfoEntity pet) {
+        int margin = pet.getIntimacy() - RUNAWAY_THRESHOLD;
+        long hoursLeft = margin <= 0 ? 0 : (margin + INTIMACY_DECAY_PER_HOUR - 1) / INTIMACY_DECAY_PER_HOUR;
+        pet.setRunawayAt(pet.getDecayAppliedAt().plusHours(hoursLeft));
     }
 
     private PetDTO.PetStatusResponse mapToDTO(PetInfoEntity pet, int maxExp) {
@@ -14,7 +14,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -46,23 +48,24 @@ public class RankingService {
         List<RankingDTO.RankEntry> allRankers = new ArrayList<>();
         int currentRank = 1;
 
-        // 2. DTO 변환
+        // 2. 유저 공개 정보는 IN 쿼리 한 번으로 조회 (비밀번호 등 전체 컬럼은 읽지 않음)
+        Map<Long, UserMapper.UserSummary> summaries = findSummaries(topRankersTuple);
+
+        // 3. DTO 변환
         for (ZSetOperations.TypedTuple<String> tuple : topRankersTuple) {
             String userIdStr = tuple.getValue();
             Double score = tuple.getScore(); // Redis 점수 사용 (DB 조회 불필요)
 
             try {
-                Long userId = Long.parseLong(userIdStr);
-                // 유저 정보는 DB에서 조회 (캐싱 적용 권장)
-                UserEntity user = userMapper.findById(userId);
+                UserMapper.UserSummary user = summaries.get(Long.parseLong(userIdStr));
 
                 if (user != null) {
                     allRankers.add(RankingDTO.RankEntry.builder()
                             .rank(currentRank++)
-                            .maskedName(user.getMaskedName())
+                            .maskedName(user.maskedName())
                             .totalPoint(score != null ? score.intValue() : 0)
-                            .profileImage(user.getProfileImage())
-                            .ageGroup(getAgeGroup(user.getAge()))
+                            .profileImage(user.profileImage())
+                            .ageGroup(getAgeGroup(user.age()))
                             .build());
                 }
             } catch (NumberFormatException e) {
@@ -70,7 +73,7 @@ public class RankingService {
             }
         }
 
-        // 3. Top 3 및 내 랭킹 추출
+        // 4. Top 3 및 내 랭킹 추출
         List<RankingDTO.RankEntry> top3 = allRankers.stream().limit(3).toList();
         RankingDTO.RankEntry myRankEntry = (myUserId != null) ? getMyRealtimeRank(myUserId, zSetOps) : null;
 
@@ -84,26 +87,26 @@ public class RankingService {
     @Transactional(readOnly = true)
     public RankingDTO getFilteredRankings(RankingDTO.FilterRequest filter, Long myUserId) {
         // DB 쿼리 (이미 점수순 정렬되어 옴)
-        List<UserEntity> users = userMapper.getRankingList(filter.gender(), filter.ageGroup());
+        List<UserMapper.UserSummary> users = userMapper.getRankingList(filter.gender(), filter.ageGroup());
 
         List<RankingDTO.RankEntry> rankEntries = new ArrayList<>();
         RankingDTO.RankEntry myRankEntry = null;
 
         for (int i = 0; i < users.size(); i++) {
-            UserEntity u = users.get(i);
+            UserMapper.UserSummary u = users.get(i);
             int rank = i + 1;
 
             RankingDTO.RankEntry entry = RankingDTO.RankEntry.builder()
                     .rank(rank)
-                    .maskedName(u.getMaskedName())
-                    .totalPoint(u.getTotalPoint())
-                    .profileImage(u.getProfileImage())
-                    .ageGroup(getAgeGroup(u.getAge()))
+                    .maskedName(u.maskedName())
+                    .totalPoint(u.totalPoint())
+                    .profileImage(u.profileImage())
+                    .ageGroup(getAgeGroup(u.age()))
                     .build();
 
             rankEntries.add(entry);
 
-            if (myUserId != null && u.getId().equals(myUserId)) {
+            if (myUserId != null && u.id().equals(myUserId)) {
                 myRankEntry = entry;
             }
         }
@@ -176,14 +179,14 @@ public class RankingService {
             Double score = zSetOps.score(LEADERBOARD_KEY, userIdStr);
 
             if (rankIndex != null && score != null) {
-                UserEntity me = userMapper.findById(myUserId);
-                if (me != null) {
+                List<UserMapper.UserSummary> me = userMapper.findSummariesByIds(List.of(myUserId));
+                if (!me.isEmpty()) {
                     return RankingDTO.RankEntry.builder()
                             .rank(rankIndex.intValue() + 1)
-                            .maskedName(me.getMaskedName())
+                            .maskedName(me.get(0).maskedName())
                             .totalPoint(score.intValue())
-                            .profileImage(me.getProfileImage())
-                            .ageGroup(getAgeGroup(me.getAge()))
+                            .profileImage(me.get(0).profileImage())
+                            .ageGroup(getAgeGroup(me.get(0).age()))
                             .build();
                 }
             }
@@ -191,6 +194,20 @@ public class RankingService {
         return null;
     }
 
+    private Map<Long, UserMapper.UserSummary> findSummaries(Set<ZSetOperations.TypedTuple<String>> tuples) {
+        List<Long> ids = new ArrayList<>();
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            try {
+                ids.add(Long.parseLong(tuple.getValue()));
+            } catch (NumberFormatException ignored) {
+                // 변환 단계에서 경고 로그를 남김
+            }
+        }
+        if (ids.isEmpty()) return Map.of();
+        return userMapper.findSummariesByIds(ids).stream()
+                .collect(Collectors.toMap(UserMapper.UserSummary::id, Function.identity()));
+    }
+
     private RivalDTO.RivalProfile toRivalProfile(UserEntity user) {
         return RivalDTO.RivalProfile.builder()
                 .userId(user.getId())
@@ -0,0 +1,176 @@
+package com.tutoroo.service;
+
+import com.tutoroo.entity.PetType;
+import com.tutoroo.entity.PromptEntity;
+import com.tutoroo.mapper.ReferenceDataMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * [기능: 참조 데이터 메모리 캐시]
+ * 설명: 거의 바뀌지 않는 pet_growth_rule, pet_skills, prompts를 서버 메모리에 올려두고 조회 없이 꺼내 씁니다.
+ * 작동원리:
+ * 1. 기동 직후(ApplicationReadyEvent) 세 테이블을 통째로 읽어 스냅샷 생성 (아직 못 읽었으면 첫 조회 때 읽음)
+ *    - 단계 -> 필요 경험치: int 배열 (인덱스 = stage)
+ *    - 펫 스킬 효과: EnumMap(PetType) -> skill_code -> 효과 값
+ *    - 프롬프트: prompt_key -> content
+ * 2. reference_data_version을 주기적으로 확인하다가 값이 바뀌면 다시 읽고 스냅샷을 통째로 교체 (조회 중인 스레드는 이전 스냅샷을 끝까지 사용)
+ * 3. 버전 확인/재적재가 실패하면 기존 스냅샷을 유지하고 다음 주기에 재시도
+ * 4. reference_data.version 게이지, reference_data.reload 카운터로 노출
+ */
+@Slf4j
+@Component
+public class ReferenceDataCache {
+
+    // 성장 규칙이 없는 단계
+    public static final int NO_RULE = -1;
+
+    private final ReferenceDataMapper referenceDataMapper;
+    private final Counter reloadCount;
+
+    private volatile Snapshot snapshot;
+
+    public ReferenceDataCache(ReferenceDataMapper referenceDataMapper, MeterRegistry meterRegistry) {
+        this.referenceDataMapper = referenceDataMapper;
+        this.reloadCount = Counter.builder("reference_data.reload")
+                .description("참조 데이터를 DB에서 다시 읽은 횟수")
+                .register(meterRegistry);
+        Gauge.builder("reference_data.version", this, cache -> cache.snapshot != null ? cache.snapshot.version : -1)
+                .description("현재 메모리에 올라간 참조 데이터 버전 (미적재 시 -1)")
+                .register(meterRegistry);
+    }
+
+    private record Snapshot(long version,
+                            int[] requiredExpByStage,
+                            Map<PetType, Map<String, Double>> skillEffects,
+                            Map<String, String> prompts) {}
+
+    // --- 조회 ---
+
+    /**
+     * 현재 단계에서 다음 단계로 가기 위한 필요 경험치 (규칙이 없으면 NO_RULE)
+     */
+    public int requiredExpForNextStage(int stage) {
+        int[] requiredExp = current().requiredExpByStage;
+        return stage >= 0 && stage < requiredExp.length ? requiredExp[stage] : NO_RULE;
+    }
+
+    /**
+     * 펫 스킬 효과 값 (등록된 스킬이 없으면 defaultValue)
+     */
+    public double skillEffect(PetType petType, String skillCode, double defaultValue) {
+        Map<String, Double> skills = current().skillEffects.get(petType);
+        Double effect = skills != null ? skills.get(skillCode) : null;
+        return effect != null ? effect : defaultValue;
+    }
+
+    /**
+     * 프롬프트 본문 (없으면 null)
+     */
+    public String prompt(String promptKey) {
+        return current().prompts.get(promptKey);
+    }
+
+    // --- 적재/갱신 ---
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("⚠️ 참조 데이터 초기 적재 실패 (첫 조회 때 다시 시도): {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.reference-data.version-check-interval-ms:30000}")
+    public void checkVersion() {
+        Snapshot loaded = snapshot;
+        if (loaded == null) return; // 첫 적재는 기동/첫 조회에서
+
+        try {
+            Long version = referenceDataMapper.findVersion();
+            if (version != null && version != loaded.version) {
+                log.info("🔄 참조 데이터 버전 변경 감지 ({} -> {})", loaded.version, version);
+                reload();
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 참조 데이터 버전 확인 실패 (기존 값 유지): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 참조 데이터를 바꾼 뒤 호출: 버전을 올려 다른 서버도 다음 확인 주기에 다시 읽게 하고, 이 서버는 즉시 다시 읽음
+     */
+    public long publishChange() {
+        referenceDataMapper.increaseVersion();
+        return reload().version;
+    }
+
+    private Snapshot current() {
+        Snapshot loaded = snapshot;
+        return loaded != null ? loaded : loadIfAbsent();
+    }
+
+    // 기동 적재가 실패했을 때 첫 조회 스레드 하나만 읽고 나머지는 그 결과를 사용
+    private synchronized Snapshot loadIfAbsent() {
+        return snapshot != null ? snapshot : reload();
+    }
+
+    // 버전을 먼저 읽음 -> 읽는 도중 바뀐 내용은 다음 확인 주기에 다시 반영됨
+    private synchronized Snapshot reload() {
+        Long version = referenceDataMapper.findVersion();
+
+        int maxStage = 0;
+        var growthRules = referenceDataMapper.findAllGrowthRules();
+        for (ReferenceDataMapper.GrowthRule rule : growthRules) {
+            maxStage = Math.max(maxStage, rule.stage());
+        }
+        int[] requiredExpByStage = new int[maxStage + 1];
+        Arrays.fill(requiredExpByStage, NO_RULE);
+        for (ReferenceDataMapper.GrowthRule rule : growthRules) {
+            if (rule.stage() >= 0 && rule.requiredExp() != null) {
+                requiredExpByStage[rule.stage()] = rule.requiredExp();
+            }
+        }
+
+        Map<PetType, Map<String, Double>> skillEffects = new EnumMap<>(PetType.class);
+        for (ReferenceDataMapper.SkillEffect skill : referenceDataMapper.findAllSkillEffects()) {
+            PetType petType;
+            try {
+                petType = PetType.valueOf(skill.petType());
+            } catch (IllegalArgumentException | NullPointerException e) {
+                log.warn("⚠️ 알 수 없는 펫 종류의 스킬 무시 - pet_type: {}, skill_code: {}", skill.petType(), skill.skillCode());
+                continue;
+            }
+            if (skill.skillCode() != null && skill.effectValue() != null) {
+                skillEffects.computeIfAbsent(petType, type -> new HashMap<>()).put(skill.skillCode(), skill.effectValue());
+            }
+        }
+        skillEffects.replaceAll((type, skills) -> Map.copyOf(skills));
+
+        Map<String, String> prompts = new HashMap<>();
+        for (PromptEntity prompt : referenceDataMapper.findAllPrompts()) {
+            prompts.put(prompt.getPromptKey(), prompt.getContent());
+        }
+
+        Snapshot loaded = new Snapshot(version != null ? version : 0L, requiredExpByStage,
+                Collections.unmodifiableMap(skillEffects), Map.copyOf(prompts));
+        snapshot = loaded;
+        reloadCount.increment();
+        log.info("📚 참조 데이터 적재 완료 - version: {}, 성장 단계: {}개, 스킬: {}개 펫, 프롬프트: {}개",
+                loaded.version, growthRules.size(), skillEffects.size(), prompts.size());
+        return loaded;
+    }
+}
@@ -0,0 +1,151 @@
+package com.tutoroo.service;
+
+import com.tutoroo.entity.StudyLogEntity;
+import com.tutoroo.entity.StudyPlanEntity;
+import com.tutoroo.entity.UserEntity;
+import com.tutoroo.exception.ErrorCode;
+import com.tutoroo.exception.TutorooException;
+import com.tutoroo.mapper.StudyMapper;
+import com.tutoroo.mapper.UserMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * [기능: 요청 단위 엔티티 Identity Map]
+ * 설명: 한 HTTP 요청 안에서 같은 플랜, 플랜의 최신 로그, 유저를 여러 번 조회해도 DB는 한 번만 읽도록 기억합니다.
+ * 작동원리:
+ * 1. 요청 속성(RequestAttributes)에 (종류:ID) -> 엔티티 맵을 보관 -> 요청이 끝나면 함께 사라짐
+ * 2. 조회 결과가 없는 경우(null)도 기억해 같은 조회를 반복하지 않음
+ * 3. 쓰기는 이 클래스를 거쳐 DB에 반영하고, 맵에는 방금 쓴 인스턴스를 그대로 보관 (Write-through)
+ * 4. 요청 밖(스케줄러, 비동기 스레드)에서는 기억하지 않고 매퍼를 그대로 호출
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestIdentityMap {
+
+    private static final String ATTRIBUTE = RequestIdentityMap.class.getName();
+
+    private final StudyMapper studyMapper;
+    private final UserMapper userMapper;
+    private final MeterRegistry meterRegistry;
+
+    // --- 조회 ---
+
+    public StudyPlanEntity findPlan(Long planId) {
+        return lookup("plan", planId, () -> studyMapper.findById(planId));
+    }
+
+    public StudyLogEntity findLatestLog(Long planId) {
+        return lookup("latestLog", planId, () -> studyMapper.findLatestLogByPlanId(planId));
+    }
+
+    public UserEntity findUser(Long userId) {
+        return lookup("user", userId, () -> userMapper.findById(userId));
+    }
+
+    // --- 쓰기 (Write-through) ---
+
+    public void updatePlan(StudyPlanEntity plan) {
+        studyMapper.updatePlan(plan);
+        remember("plan", plan.getId(), plan);
+    }
+
+    public void updateProgress(StudyPlanEntity plan) {
+        studyMapper.updateProgress(plan);
+        remember("plan", plan.getId(), plan);
+    }
+
+    public void deletePlan(Long planId) {
+        studyMapper.deletePlan(planId);
+        remember("plan", planId, null);
+        remember("latestLog", planId, null);
+    }
+
+    // 카운터를 올린 플랜 인스턴스도 새 값으로 맞춰 보관. 직전 요청의 재시도라 올리지 않았으면 false
+    public boolean advanceDayCount(StudyPlanEntity plan, StudyLogEntity log) {
+        if (studyMapper.advanceDayCount(log) == 0) return false;
+        plan.setLastDayCount(log.getDayCount());
+        plan.setLastLogKey(log.getIdempotencyKey());
+        remember("plan", plan.getId(), plan);
+        return true;
+    }
+
+    // 새 로그가 곧 그 플랜의 최신 로그
+    // 유니크 키 위반 = 직전이 아닌 예전 요청의 재시도 -> 예외가 트랜잭션을 롤백해 카운터 증가도 함께 취소
+    public void saveLog(StudyLogEntity log) {
+        try {
+            studyMapper.saveLog(log);
+        } catch (DuplicateKeyException e) {
+            throw new TutorooException(ErrorCode.DUPLICATE_STUDY_LOG);
+        }
+        // INSERT가 DB 기본값으로 채우는 컬럼을 맞춰 두어 다시 읽은 것과 같은 상태로 보관
+        if (log.getStudyDate() == null) log.setStudyDate(LocalDateTime.now());
+        if (log.getAiFeedbackStatus() == null) log.setAiFeedbackStatus("PENDING");
+        remember("latestLog", log.getPlanId(), log);
+    }
+
+    public void updateAiFeedbackSuccess(StudyLogEntity log, String aiFeedback) {
+        studyMapper.updateAiFeedbackSuccess(log.getId(), aiFeedback);
+        log.setAiFeedback(aiFeedback);
+        log.setAiFeedbackStatus("READY");
+    }
+
+    // day_count 기준 부분 UPDATE라 기억 중인 최신 로그와 같은 행인지 알 수 없으므로 다음 조회 때 다시 읽음
+    public void updateStudentFeedback(Long planId, int dayCount, String feedback) {
+        studyMapper.updateStudentFeedback(planId, dayCount, feedback);
+        forget("latestLog", planId);
+    }
+
+    // --- 내부 메서드 ---
+
+    @SuppressWarnings("unchecked")
+    private <T> T lookup(String type, Long id, Supplier<T> loader) {
+        Map<String, Optional<Object>> entities = entities();
+        if (entities == null || id == null) return loader.get();
+
+        String key = type + ":" + id;
+        Optional<Object> cached = entities.get(key);
+        if (cached != null) {
+            meterRegistry.counter("identity.map.lookups", "type", type, "result", "hit").increment();
+            return (T) cached.orElse(null);
+        }
+
+        meterRegistry.counter("identity.map.lookups", "type", type, "result", "miss").increment();
+        T loaded = loader.get();
+        entities.put(key, Optional.ofNullable(loaded));
+        return loaded;
+    }
+
+    private void remember(String type, Long id, Object entity) {
+        Map<String, Optional<Object>> entities = entities();
+        if (entities != null && id != null) entities.put(type + ":" + id, Optional.ofNullable(entity));
+    }
+
+    private void forget(String type, Long id) {
+        Map<String, Optional<Object>> entities = entities();
+        if (entities != null) entities.remove(type + ":" + id);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Optional<Object>> entities() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) return null;
+
+        Object map = attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (map == null) {
+            map = new HashMap<String, Optional<Object>>();
+            attributes.setAttribute(ATTRIBUTE, map, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Map<String, Optional<Object>>) map;
+    }
+}
@@ -0,0 +1,133 @@
+package com.tutoroo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tutoroo.dto.AssessmentDTO;
+import com.tutoroo.entity.RoadmapDayEntity;
+import com.tutoroo.exception.ErrorCode;
+import com.tutoroo.exception.TutorooException;
+import com.tutoroo.mapper.RoadmapMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [기능: 로드맵 분리 저장 및 지연 조회]
+ * 설명: AI 로드맵을 요약(study_plans.roadmap_json)과 일자별 커리큘럼(roadmap_days)으로 나눠 저장하고,
+ * 전체 로드맵이 필요한 플랜 상세 화면에서만 다시 합쳐 읽습니다.
+ * 작동원리:
+ * 1. 플랜 조회 쿼리는 roadmap_json을 읽지 않음 -> 목록/상태/대시보드 조회가 가벼워짐
+ * 2. 수업/테스트는 그날 주제 한 칸만 (plan_id, day) PK로 조회
+ * 3. 일차 번호(day)는 커리큘럼 안의 순서 (주차마다 "1일차"부터 다시 세도 N번째 수업), 원래 표기는 day_label로 보관
+ * 4. 내용은 자르거나 버리지 않음 -> 상세 화면은 생성 당시 보여준 로드맵과 같음
+ *    (이관 때 그대로 옮길 수 없던 플랜은 roadmap_json에 원본 커리큘럼이 남아 있고, 그쪽을 우선 사용)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoadmapService {
+
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private final RoadmapMapper roadmapMapper;
+    private final ObjectMapper objectMapper;
+
+    // study_plans.roadmap_json에 넣을 요약본 (행으로 그대로 옮길 수 있으면 detailedCurriculum 제외)
+    public String toOutlineJson(AssessmentDTO.RoadmapData roadmap) {
+        try {
+            return objectMapper.writeValueAsString(AssessmentDTO.RoadmapData.builder()
+                    .summary(roadmap.summary())
+                    .tableOfContents(roadmap.tableOfContents())
+                    .detailedCurriculum(isStoredAsRows(roadmap.detailedCurriculum()) ? null : roadmap.detailedCurriculum())
+                    .examSchedule(roadmap.examSchedule())
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new TutorooException("로드맵 저장 중 오류가 발생했습니다.", ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // 플랜 저장과 같은 트랜잭션에서 호출
+    public void saveDays(Long planId, AssessmentDTO.RoadmapData roadmap) {
+        List<RoadmapDayEntity> days = flatten(planId, roadmap.detailedCurriculum());
+        for (int from = 0; from < days.size(); from += INSERT_BATCH_SIZE) {
+            roadmapMapper.saveDays(days.subList(from, Math.min(from + INSERT_BATCH_SIZE, days.size())));
+        }
+    }
+
+    // 그날 주제 (로드맵에 없는 일차면 null)
+    public String findTopic(Long planId, int day) {
+        return roadmapMapper.findTopic(planId, day);
+    }
+
+    // 플랜 상세 화면용 전체 로드맵 (요약 + 일자별 커리큘럼)
+    public AssessmentDTO.RoadmapData loadRoadmap(Long planId) {
+        String outlineJson = roadmapMapper.findOutlineJson(planId);
+        List<RoadmapDayEntity> days = roadmapMapper.findDaysByPlanId(planId);
+        if (!StringUtils.hasText(outlineJson) && days.isEmpty()) return null;
+
+        AssessmentDTO.RoadmapData outline = null;
+        try {
+            if (StringUtils.hasText(outlineJson)) {
+                outline = objectMapper.readValue(outlineJson, AssessmentDTO.RoadmapData.class);
+            }
+        } catch (Exception e) {
+            log.error("로드맵 파싱 오류 (planId={})", planId, e);
+        }
+
+        return AssessmentDTO.RoadmapData.builder()
+                .summary(outline != null ? outline.summary() : null)
+                .tableOfContents(outline != null ? outline.tableOfContents() : null)
+                // 원본 커리큘럼이 JSON에 남아 있는 플랜(이관 전, 또는 그대로 옮길 수 없던 플랜)은 원본을 그대로 사용
+                .detailedCurriculum(outline != null && outline.detailedCurriculum() != null ? outline.detailedCurriculum() : assemble(days))
+                .examSchedule(outline != null ? outline.examSchedule() : null)
+                .build();
+    }
+
+    // --- 내부 메서드 ---
+
+    // 빈 주차나 빈 칸이 있으면 행에서 다시 조립할 때 사라지므로 원본을 JSON에 남김
+    private boolean isStoredAsRows(Map<String, List<AssessmentDTO.DailyDetail>> curriculum) {
+        if (curriculum == null) return true;
+        for (List<AssessmentDTO.DailyDetail> week : curriculum.values()) {
+            if (week == null || week.isEmpty() || week.contains(null)) return false;
+        }
+        return true;
+    }
+
+    private List<RoadmapDayEntity> flatten(Long planId, Map<String, List<AssessmentDTO.DailyDetail>> curriculum) {
+        List<RoadmapDayEntity> days = new ArrayList<>();
+        if (curriculum == null) return days;
+
+        for (Map.Entry<String, List<AssessmentDTO.DailyDetail>> week : curriculum.entrySet()) {
+            if (week.getValue() == null) continue;
+            for (AssessmentDTO.DailyDetail detail : week.getValue()) {
+                if (detail == null) continue;
+                days.add(RoadmapDayEntity.builder()
+                        .planId(planId)
+                        .day(days.size() + 1)
+                        .dayLabel(detail.day())
+                        .week(week.getKey())
+                        .topic(detail.topic())
+                        .method(detail.method())
+                        .material(detail.material())
+                        .build());
+            }
+        }
+        return days;
+    }
+
+    private Map<String, List<AssessmentDTO.DailyDetail>> assemble(List<RoadmapDayEntity> days) {
+        Map<String, List<AssessmentDTO.DailyDetail>> curriculum = new LinkedHashMap<>();
+        for (RoadmapDayEntity day : days) {
+            curriculum.computeIfAbsent(day.getWeek(), week -> new ArrayList<>())
+                    .add(new AssessmentDTO.DailyDetail(day.getDayLabel(), day.getTopic(), day.getMethod(), day.getMaterial()));
+        }
+        return curriculum;
+    }
+}
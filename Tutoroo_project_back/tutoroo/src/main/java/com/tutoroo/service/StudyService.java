@@ -1,18 +1,21 @@
 package com.tutoroo.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tutoroo.dto.AssessmentDTO;
 import com.tutoroo.dto.StudyDTO;
 import com.tutoroo.entity.MembershipTier;
+import com.tutoroo.entity.StudyDailySummaryEntity;
+import com.tutoroo.entity.StudyEventOutboxEntity;
 import com.tutoroo.entity.StudyLogEntity;
 import com.tutoroo.entity.StudyPlanEntity;
 import com.tutoroo.entity.UserEntity;
+import com.tutoroo.event.StudyLogChangedEvent;
+import com.tutoroo.event.StudyPlanChangedEvent;
 import com.tutoroo.exception.ErrorCode;
 import com.tutoroo.exception.TutorooException;
+import com.tutoroo.mapper.StudyEventOutboxMapper;
 import com.tutoroo.mapper.StudyMapper;
-import com.tutoroo.mapper.UserMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.messages.AssistantMessage;
@@ -21,6 +24,7 @@ import org.springframework.ai.chat.messages.SystemMessage;
 import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -39,10 +43,16 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class StudyService {
 
-    private final UserMapper userMapper;
+    // 간편 학습 로그 1건당 펫 경험치
+    private static final int SIMPLE_LOG_PET_EXP = 20;
+
     private final StudyMapper studyMapper;
+    private final RequestIdentityMap identityMap;
+    private final StudySummaryService studySummaryService;
+    private final RoadmapService roadmapService;
+    private final StudyEventOutboxMapper studyEventOutboxMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    private final PetService petService;
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
     private final OpenAiChatModel chatModel;
@@ -74,16 +84,19 @@ public class StudyService {
                 .build();
 
         studyMapper.savePlan(plan);
+        eventPublisher.publishEvent(new StudyPlanChangedEvent(userId));
         return plan.getId();
     }
 
     @Transactional
     public void deleteStudyPlan(Long userId, Long planId) {
-        StudyPlanEntity plan = studyMapper.findById(planId);
+        StudyPlanEntity plan = identityMap.findPlan(planId);
         if (plan == null) throw new TutorooException(ErrorCode.STUDY_PLAN_NOT_FOUND);
         if (!plan.getUserId().equals(userId)) throw new TutorooException(ErrorCode.UNAUTHORIZED_ACCESS);
 
-        studyMapper.deletePlan(planId);
+        identityMap.deletePlan(planId);
+        eventPublisher.publishEvent(new StudyPlanChangedEvent(userId));
+        eventPublisher.publishEvent(new StudyLogChangedEvent(planId));
         // 관련 세션 데이터도 정리
         clearSessionState(planId);
         log.info("🗑️ 학습 플랜 및 세션 삭제 완료: userId={}, planId={}", userId, planId);
@@ -101,14 +114,14 @@ public class StudyService {
             if (activePlans.isEmpty()) return null;
             plan = activePlans.get(0);
         } else {
-            plan = studyMapper.findById(planId);
+            plan = identityMap.findPlan(planId);
         }
 
         if (plan == null || !plan.getUserId().equals(userId)) {
             throw new TutorooException(ErrorCode.STUDY_PLAN_NOT_FOUND);
         }
 
-        StudyLogEntity lastLog = studyMapper.findLatestLogByPlanId(plan.getId());
+        StudyLogEntity lastLog = identityMap.findLatestLog(plan.getId());
         int currentDay = (lastLog == null) ? 1 : lastLog.getDayCount() + 1;
         String lastTopic = (lastLog == null) ? "오리엔테이션" : lastLog.getContentSummary();
 
@@ -132,7 +145,7 @@ public class StudyService {
 
     @Transactional(readOnly = true)
     public StudyDTO.PlanDetailResponse getPlanDetail(Long userId, Long planId) {
-        StudyPlanEntity plan = studyMapper.findById(planId);
+        StudyPlanEntity plan = identityMap.findPlan(planId);
         if (plan == null || !plan.getUserId().equals(userId)) {
             throw new TutorooException(ErrorCode.STUDY_PLAN_NOT_FOUND);
         }
@@ -159,22 +172,22 @@ public class StudyService {
 
     @Transactional(readOnly = true)
     public StudyDTO.CalendarResponse getMonthlyCalendar(Long userId, int year, int month) {
-        List<StudyLogEntity> logs = studyMapper.findLogsByUserIdAndMonth(userId, year, month);
-
-        List<StudyDTO.DailyLog> dailyLogs = logs.stream()
-                .map(l -> StudyDTO.DailyLog.builder()
-                        .day(l.getStudyDate().getDayOfMonth())
-                        .isDone(Boolean.TRUE.equals(l.getIsCompleted()))
-                        .score(l.getTestScore() != null ? l.getTestScore() : 0)
-                        .topic(l.getContentSummary())
+        // 하루 한 행으로 미리 합쳐진 요약을 읽으므로 날짜 중복 없음 (최대 31행)
+        List<StudyDailySummaryEntity> days = studySummaryService.getMonth(userId, year, month);
+
+        List<StudyDTO.DailyLog> dailyLogs = days.stream()
+                .map(d -> StudyDTO.DailyLog.builder()
+                        .day(d.getStudyDate().getDayOfMonth())
+                        .isDone(d.isDone())
+                        .score(d.getBestScore() != null ? d.getBestScore() : 0)
+                        .topic(d.getTopics())
                         .build())
                 .collect(Collectors.toList());
 
-        // 중복 날짜 제거 및 병합 로직이 필요하다면 여기서 처리 (현재는 단순 리스트 반환)
         return StudyDTO.CalendarResponse.builder()
                 .year(year)
                 .month(month)
-                .totalStudyDays(logs.size())
+                .totalStudyDays(days.size())
                 .logs(dailyLogs)
                 .build();
     }
@@ -183,33 +196,29 @@ public class StudyService {
     // 3. 학습 로그 및 진도율 관리
     // =================================================================================
 
+    /**
+     * [간편 학습 로그 저장]
+     * - 멱등 키가 같은 재시도는 한 번만 저장하고 보상도 한 번만 예약
+     * - N일차는 플랜의 카운터를 원자적으로 올려 받음 (오늘 로그/최신 로그 조회 없음)
+     * - 헤더가 없는 클라이언트는 (요청 N일차, 오늘 날짜)를 키로 써서 같은 날 따닥 제출을 막음
+     */
     @Transactional
-    public void saveSimpleLog(Long userId, StudyDTO.StudyLogRequest request) {
-        StudyPlanEntity plan = studyMapper.findById(request.planId());
+    public void saveSimpleLog(Long userId, StudyDTO.StudyLogRequest request, String idempotencyKey) {
+        StudyPlanEntity plan = identityMap.findPlan(request.planId());
         if (plan == null || !plan.getUserId().equals(userId)) {
             throw new TutorooException(ErrorCode.STUDY_PLAN_NOT_FOUND);
         }
 
-        // [동시성 제어] 따닥 방지 - dayCount 포함 체크
-        List<StudyLogEntity> todayLogs = studyMapper.findLogsByUserIdAndDate(userId, LocalDate.now());
-        boolean alreadyStudiedToday = todayLogs.stream()
-                .anyMatch(log -> log.getPlanId().equals(plan.getId())
-                        && log.getDayCount().equals(request.dayCount()));
-
-        if (alreadyStudiedToday) {
-            log.warn("⛔ 중복 학습 로그 저장 차단: PlanID {}, DayCount {}", plan.getId(), request.dayCount());
-            return;
-        }
-
-        StudyLogEntity lastLog = studyMapper.findLatestLogByPlanId(plan.getId());
-        int newDayCount = (lastLog == null) ? 1 : lastLog.getDayCount() + 1;
+        String key = StudyLogEntity.normalizeIdempotencyKey(idempotencyKey);
+        if (key == null) key = "day-" + request.dayCount() + ":" + LocalDate.now();
 
         // ✅ 포인트 계산: 60점 이상 합격(50P), 미만 불합격(10P)
         int pointChange = request.score() >= 60 ? 50 : 10;
 
         StudyLogEntity logEntity = StudyLogEntity.builder()
                 .planId(plan.getId())
-                .dayCount(newDayCount)
+                .userId(userId)
+                .idempotencyKey(key)
                 .studyDate(LocalDateTime.now())
                 .testScore(request.score())
                 .contentSummary(request.contentSummary())
@@ -218,28 +227,30 @@ public class StudyService {
                 .pointChange(pointChange)
                 .build();
 
-        studyMapper.saveLog(logEntity);
-        userMapper.earnPoints(userId, logEntity.getPointChange());
-        try {
-
-            petService.gainExp(userId, 20);
-            log.info("🐶 펫 경험치 지급 완료! (User: {})", userId);
-        } catch (Exception e) {
-            // 펫이 없거나 오류가 나도 공부 기록은 저장되어야 하므로 로그만 남김
-            log.warn("펫 경험치 지급 실패: {}", e.getMessage());
+        // [동시성 제어] 직전 요청의 재시도면 카운터가 그대로 -> 저장/보상 없이 종료
+        if (!identityMap.advanceDayCount(plan, logEntity)) {
+            log.warn("⛔ 중복 학습 로그 저장 차단: PlanID {}, Key {}", plan.getId(), key);
+            return;
         }
-        updateProgress(plan.getId(), calculateProgress(plan, newDayCount));
+        identityMap.saveLog(logEntity);
+
+        studySummaryService.recordLog(logEntity);
+        // 보상(포인트, 펫 경험치, 랭킹, 알림)은 같은 트랜잭션에 이벤트로 기록 -> StudyEventRelay가 비동기 처리
+        studyEventOutboxMapper.save(StudyEventOutboxEntity.studyCompleted(logEntity, userId, SIMPLE_LOG_PET_EXP));
+        eventPublisher.publishEvent(new StudyLogChangedEvent(plan.getId()));
+        updateProgress(plan.getId(), calculateProgress(plan, logEntity.getDayCount()));
 
-        log.info("📝 학습 로그 저장 및 포인트 지급 완료: User={}, Plan={}, Day={}, Points={}P",
-                userId, plan.getId(), newDayCount, pointChange);
+        log.info("📝 학습 로그 저장 및 보상 예약 완료: User={}, Plan={}, Day={}, Points={}P",
+                userId, plan.getId(), logEntity.getDayCount(), pointChange);
     }
 
     @Transactional
     public void updateProgress(Long planId, int progressPercent) {
-        StudyPlanEntity plan = studyMapper.findById(planId);
+        StudyPlanEntity plan = identityMap.findPlan(planId);
         if (plan == null) return;
         plan.setProgressRate((double) progressPercent);
-        studyMapper.updateProgress(plan);
+        identityMap.updateProgress(plan);
+        eventPublisher.publishEvent(new StudyPlanChangedEvent(plan.getUserId()));
     }
 
     @Transactional(readOnly = true)
@@ -262,11 +273,11 @@ public class StudyService {
      * - DB 트랜잭션 없이 실행하여 성능 최적화
      */
     public StudyDTO.ChatResponse handleSimpleChat(Long userId, Long planId, String userMessage) {
-        UserEntity user = userMapper.findById(userId);
-        StudyPlanEntity plan = studyMapper.findById(planId);
+        UserEntity user = identityMap.findUser(userId);
+        StudyPlanEntity plan = identityMap.findPlan(planId);
         if (plan == null) throw new TutorooException(ErrorCode.STUDY_PLAN_NOT_FOUND);
 
-        StudyLogEntity lastLog = studyMapper.findLatestLogByPlanId(planId);
+        StudyLogEntity lastLog = identityMap.findLatestLog(planId);
         String historyKey = "chat:history:" + planId;
         List<String> history = redisTemplate.opsForList().range(historyKey, 0, 9);
 
@@ -306,11 +317,11 @@ public class StudyService {
      * - 학습 로그 기반 상세 피드백 생성
      */
     public String generateAiFeedbackByPlanId(Long planId) {
-        StudyLogEntity logEntity = studyMapper.findLatestLogByPlanId(planId);
+        StudyLogEntity logEntity = identityMap.findLatestLog(planId);
         if (logEntity == null) return "아직 학습 기록이 부족하여 피드백을 생성할 수 없습니다.";
 
-        StudyPlanEntity plan = studyMapper.findById(planId);
-        UserEntity user = userMapper.findById(plan.getUserId());
+        StudyPlanEntity plan = identityMap.findPlan(planId);
+        UserEntity user = identityMap.findUser(plan.getUserId());
 
         String promptText = String.format("""
             [역할: %s]
@@ -332,7 +343,8 @@ public class StudyService {
         String cleaned = cleanText(response);
 
         // 저장 로직 (Mapper는 Auto-commit 되므로 별도 트랜잭션 불필요)
-        studyMapper.updateAiFeedbackSuccess(logEntity.getId(), cleaned);
+        identityMap.updateAiFeedbackSuccess(logEntity, cleaned);
+        eventPublisher.publishEvent(new StudyLogChangedEvent(planId));
         return cleaned;
     }
 
@@ -341,7 +353,7 @@ public class StudyService {
     // =================================================================================
 
     private void validatePlanCreationLimit(Long userId) {
-        UserEntity user = userMapper.findById(userId);
+        UserEntity user = identityMap.findUser(userId);
         int currentCount = studyMapper.countActivePlansByUserId(userId);
         MembershipTier tier = user.getEffectiveTier();
 
@@ -355,7 +367,7 @@ public class StudyService {
 
     // [New] 스마트 페르소나 빌더
     private String buildSmartSystemPersona(UserEntity user, StudyPlanEntity plan, StudyLogEntity lastLog, List<String> history) {
-        String currentTopic = extractCurrentTopic(plan.getRoadmapJson(), lastLog);
+        String currentTopic = extractCurrentTopic(plan, lastLog);
         StringBuilder sb = new StringBuilder();
 
         sb.append(getPersonaDescription(plan.getPersona())).append("\n\n");
@@ -375,32 +387,16 @@ public class StudyService {
         return sb.toString();
     }
 
-    private String extractCurrentTopic(String roadmapJson, StudyLogEntity lastLog) {
-        try {
-            if (!StringUtils.hasText(roadmapJson)) return "기초 학습";
-            JsonNode root = objectMapper.readTree(roadmapJson);
-            int currentDay = (lastLog == null) ? 1 : lastLog.getDayCount() + 1;
-            if (root.has("chapters")) {
-                for (JsonNode chapter : root.get("chapters")) {
-                    if (chapter.has("dailyTasks")) {
-                        // 실제로는 dayCount 매핑 로직이 더 복잡할 수 있음
-                        return chapter.get("title").asText() + " (Day " + currentDay + ")";
-                    }
-                }
-            }
-        } catch (Exception e) { /* ignore */ }
-        return "자율 학습";
+    // 로드맵에서 다음 N일차 한 칸만 조회
+    private String extractCurrentTopic(StudyPlanEntity plan, StudyLogEntity lastLog) {
+        int currentDay = (lastLog == null) ? 1 : lastLog.getDayCount() + 1;
+        String topic = roadmapService.findTopic(plan.getId(), currentDay);
+        return StringUtils.hasText(topic) ? topic + " (Day " + currentDay + ")" : "자율 학습";
     }
 
+    // 전체 로드맵은 상세 화면에서만 지연 조회 (플랜 조회 쿼리는 roadmap_json을 읽지 않음)
     private StudyDTO.PlanDetailResponse buildPlanDetailResponse(StudyPlanEntity plan) {
-        AssessmentDTO.RoadmapData roadmapData = null;
-        try {
-            if (StringUtils.hasText(plan.getRoadmapJson())) {
-                roadmapData = objectMapper.readValue(plan.getRoadmapJson(), AssessmentDTO.RoadmapData.class);
-            }
-        } catch (Exception e) {
-            log.error("로드맵 파싱 오류", e);
-        }
+        AssessmentDTO.RoadmapData roadmapData = roadmapService.loadRoadmap(plan.getId());
         return StudyDTO.PlanDetailResponse.builder()
                 .planId(plan.getId())
                 .goal(plan.getGoal())
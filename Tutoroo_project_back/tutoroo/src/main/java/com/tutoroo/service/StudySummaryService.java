@@ -0,0 +1,84 @@
+package com.tutoroo.service;
+
+import com.tutoroo.entity.StudyDailySummaryEntity;
+import com.tutoroo.entity.StudyLogEntity;
+import com.tutoroo.entity.UserEntity;
+import com.tutoroo.mapper.StudySummaryMapper;
+import com.tutoroo.mapper.UserMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * [기능: 일별 학습 요약 및 연속 학습일 관리]
+ * 설명: 학습 로그를 (유저, 날짜) 단위 요약 테이블에 미리 합쳐 두고, 달력과 연속 학습일을 여기서 읽습니다.
+ * 작동원리:
+ * 1. 로그 저장 트랜잭션 안에서 그날 요약 행을 UPSERT + users.current_streak 갱신 (로그와 함께 커밋/롤백)
+ * 2. 달력은 요약 테이블 PK 범위 조회 한 번 (한 달 최대 31행)
+ * 3. 기존 로그는 백필 배치가 유저 묶음 단위로 다시 집계해 덮어씀 (재실행해도 결과 동일)
+ * 4. 연속 학습일은 마지막 학습일이 어제보다 오래됐으면 0으로 보여줌 (다음 학습 때 1부터 다시 계산)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StudySummaryService {
+
+    // 백필 시 연속 학습일 계산에 읽을 최대 일수
+    private static final int MAX_STREAK_LOOKBACK_DAYS = 400;
+
+    private final StudySummaryMapper summaryMapper;
+    private final UserMapper userMapper;
+
+    /**
+     * 저장된 학습 로그를 그날 요약과 연속 학습일에 반영 (호출자 트랜잭션에 참여)
+     */
+    public void recordLog(StudyLogEntity log) {
+        LocalDate studyDate = log.getStudyDate() != null ? log.getStudyDate().toLocalDate() : LocalDate.now();
+        summaryMapper.upsertDaily(log.getUserId(), studyDate,
+                Boolean.TRUE.equals(log.getIsCompleted()), log.getTestScore(), log.getContentSummary());
+        userMapper.advanceStreak(log.getUserId(), studyDate);
+    }
+
+    @Transactional(readOnly = true)
+    public List<StudyDailySummaryEntity> getMonth(Long userId, int year, int month) {
+        LocalDate monthStart = LocalDate.of(year, month, 1);
+        return summaryMapper.findByUserIdBetween(userId, monthStart, monthStart.plusMonths(1));
+    }
+
+    /**
+     * 화면에 보여줄 연속 학습일 (어제도 오늘도 공부하지 않았다면 끊긴 것으로 봄)
+     */
+    public int currentStreak(UserEntity user) {
+        if (user == null || user.getLastStudyDate() == null || user.getCurrentStreak() == null) return 0;
+        return user.getLastStudyDate().isBefore(LocalDate.now().minusDays(1)) ? 0 : user.getCurrentStreak();
+    }
+
+    /**
+     * [백필] 유저 묶음의 요약을 로그에서 다시 만들고 연속 학습일을 재계산
+     * @return 실패한 유저 수 (BatchJobRunner.GroupProcessor 규약)
+     */
+    @Transactional
+    public int rebuild(List<Long> userIds) {
+        summaryMapper.rebuildForUsers(userIds);
+        for (Long userId : userIds) {
+            List<LocalDate> dates = summaryMapper.findRecentStudyDates(userId, MAX_STREAK_LOOKBACK_DAYS);
+            if (dates.isEmpty()) continue;
+            userMapper.updateStreak(userId, countConsecutive(dates), dates.get(0));
+        }
+        return 0;
+    }
+
+    // 최근 날짜부터 하루씩 이어지는 동안의 일수
+    private int countConsecutive(List<LocalDate> datesDesc) {
+        int streak = 1;
+        for (int i = 1; i < datesDesc.size(); i++) {
+            if (!datesDesc.get(i).equals(datesDesc.get(i - 1).minusDays(1))) break;
+            streak++;
+        }
+        return streak;
+    }
+}
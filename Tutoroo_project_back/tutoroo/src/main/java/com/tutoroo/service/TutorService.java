@@ -1,17 +1,17 @@
 package com.tutoroo.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tutoroo.dto.TutorDTO;
 import com.tutoroo.entity.*;
-import com.tutoroo.event.StudyCompletedEvent;
+import com.tutoroo.event.StudyLogChangedEvent;
+import com.tutoroo.event.StudyPlanChangedEvent;
 import com.tutoroo.exception.ErrorCode;
 import com.tutoroo.exception.TutorooException;
 import com.tutoroo.mapper.ChatMapper;
 import com.tutoroo.mapper.CommonMapper;
+import com.tutoroo.mapper.StudyEventOutboxMapper;
 import com.tutoroo.mapper.StudyMapper;
-import com.tutoroo.mapper.UserMapper;
 import com.tutoroo.util.FileStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -39,8 +39,10 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
@@ -52,9 +54,13 @@ import java.util.regex.Pattern;
 public class TutorService {
 
     private final StudyMapper studyMapper;
+    private final RequestIdentityMap identityMap;
+    private final StudySummaryService studySummaryService;
+    private final RoadmapService roadmapService;
+    private final StudyEventOutboxMapper studyEventOutboxMapper;
     private final CommonMapper commonMapper;
+    private final ReferenceDataCache referenceDataCache;
     private final ChatMapper chatMapper;
-    private final UserMapper userMapper;
     private final OpenAiChatModel chatModel;
     private final OpenAiAudioSpeechModel speechModel;
     private final OpenAiAudioTranscriptionModel transcriptionModel;
@@ -65,17 +71,18 @@ public class TutorService {
 
     @Transactional
     public TutorDTO.ClassStartResponse startClass(Long userId, TutorDTO.ClassStartRequest request) {
-        StudyPlanEntity plan = studyMapper.findById(request.planId());
+        StudyPlanEntity plan = identityMap.findPlan(request.planId());
         if (plan == null) throw new TutorooException(ErrorCode.STUDY_PLAN_NOT_FOUND);
 
         updatePersonaIfChanged(plan, request.personaName());
         if (request.customOption() != null) {
             plan.setCustomOption(request.customOption());
-            studyMapper.updatePlan(plan);
+            identityMap.updatePlan(plan);
+            eventPublisher.publishEvent(new StudyPlanChangedEvent(plan.getUserId()));
         }
 
-        String todaysTopic = getTopicFromRoadmap(plan.getRoadmapJson(), request.dayCount());
-        String yesterdayTopic = (request.dayCount() > 1) ? getTopicFromRoadmap(plan.getRoadmapJson(), request.dayCount() - 1) : "기초 오리엔테이션";
+        String todaysTopic = getTopicFromRoadmap(plan.getId(), request.dayCount());
+        String yesterdayTopic = (request.dayCount() > 1) ? getTopicFromRoadmap(plan.getId(), request.dayCount() - 1) : "기초 오리엔테이션";
 
         String userPrompt = String.format("""
                 [수업 컨텍스트]
@@ -122,7 +129,7 @@ public class TutorService {
 
         return new TutorDTO.ClassStartResponse(
                 parsed.topic, parsed.aiMessage, audioUrl, tutorImageUrl, "/audio/bgm/calm.mp3",
-                10, 5, parsed.schedule
+                10, studySummaryService.currentStreak(identityMap.findUser(userId)), parsed.schedule
         );
     }
 
@@ -131,11 +138,11 @@ public class TutorService {
         String mode = request.sessionMode();
         String personaName = request.personaName();
 
-        StudyPlanEntity plan = studyMapper.findById(request.planId());
+        StudyPlanEntity plan = identityMap.findPlan(request.planId());
         String customOption = plan != null ? plan.getCustomOption() : null;
 
         // ✅ 오늘의 주제 가져오기
-        String todaysTopic = getTopicFromRoadmap(plan.getRoadmapJson(), request.dayCount());
+        String todaysTopic = getTopicFromRoadmap(plan.getId(), request.dayCount());
 
         String situation = switch (mode) {
             case "BREAK" -> "상황: 휴식 시간. 뇌과학적으로 휴식이 왜 기억 저장에 도움이 되는지 짧게 언급하며 쉬라고 해.";
@@ -145,7 +152,7 @@ public class TutorService {
             default -> String.format("상황: 수업 집중. 딴짓하지 말고 화면을 보라고 주의를 환기해. 오늘은 '%s'를 배우는 시간이야.", todaysTopic);
         };
 
-        String basePrompt = commonMapper.findPromptContentByKey("TEACHER_" + personaName);
+        String basePrompt = referenceDataCache.prompt("TEACHER_" + personaName);
         if (basePrompt == null) basePrompt = "너는 유능한 AI 튜터야.";
 
         if (StringUtils.hasText(customOption)) {
@@ -168,7 +175,7 @@ public class TutorService {
 
     @Transactional
     public TutorDTO.FeedbackChatResponse adjustCurriculum(Long userId, Long planId, String message, boolean needsTts, MultipartFile image) {
-        StudyPlanEntity plan = studyMapper.findById(planId);
+        StudyPlanEntity plan = identityMap.findPlan(planId);
         if (plan == null) throw new TutorooException(ErrorCode.STUDY_PLAN_NOT_FOUND);
 
         chatMapper.saveMessage(planId, "USER", message);
@@ -176,15 +183,15 @@ public class TutorService {
         List<ChatMapper.ChatMessage> history = chatMapper.findRecentMessages(planId, 50);
 
         // ✅ 현재 학습 중인 주제 가져오기
-        StudyLogEntity lastLog = studyMapper.findLatestLogByPlanId(planId);
+        StudyLogEntity lastLog = identityMap.findLatestLog(planId);
         int currentDay = (lastLog == null) ? 1 : lastLog.getDayCount() + 1;
-        String todaysTopic = getTopicFromRoadmap(plan.getRoadmapJson(), currentDay);
+        String todaysTopic = getTopicFromRoadmap(plan.getId(), currentDay);
 
         String pedagogyStrategy = plan.getCurrentLevel().equalsIgnoreCase("BEGINNER")
                 ? "쉬운 비유와 실생활 예시를 들어 설명해. 전문 용어는 최소화해."
                 : "정확한 기술 용어를 사용하고, 원리와 내부 구조(Under the hood)를 깊게 설명해.";
 
-        String basePrompt = commonMapper.findPromptContentByKey("TEACHER_" + plan.getPersona());
+        String basePrompt = referenceDataCache.prompt("TEACHER_" + plan.getPersona());
         if (basePrompt == null) basePrompt = "너는 열정적인 AI 선생님이야.";
 
         String teacherPrompt = String.format("""
@@ -276,10 +283,10 @@ public class TutorService {
 
     @Transactional(readOnly = true)
     public TutorDTO.DailyTestResponse generateTest(Long userId, Long planId, int dayCount) {
-        StudyPlanEntity plan = studyMapper.findById(planId);
+        StudyPlanEntity plan = identityMap.findPlan(planId);
         if (plan == null) throw new TutorooException(ErrorCode.STUDY_PLAN_NOT_FOUND);
 
-        String todaysTopic = getTopicFromRoadmap(plan.getRoadmapJson(), dayCount);
+        String todaysTopic = getTopicFromRoadmap(plan.getId(), dayCount);
 
         String prompt = String.format("""
                 [데일리 테스트 출제]
@@ -315,10 +322,10 @@ public class TutorService {
 
     @Transactional(readOnly = true)
     public TutorDTO.ExamGenerateResponse generateExam(Long userId, Long planId) {
-        StudyPlanEntity plan = studyMapper.findById(planId);
+        StudyPlanEntity plan = identityMap.findPlan(planId);
         if (plan == null) throw new TutorooException(ErrorCode.STUDY_PLAN_NOT_FOUND);
 
-        StudyLogEntity lastLog = studyMapper.findLatestLogByPlanId(planId);
+        StudyLogEntity lastLog = identityMap.findLatestLog(planId);
         String topic = (lastLog != null) ? lastLog.getContentSummary() : "기초 입문";
 
         String promptText = String.format("""
@@ -371,14 +378,22 @@ public class TutorService {
     }
 
     @Transactional
-    public TutorDTO.TestFeedbackResponse submitTest(Long userId, Long planId, String textAnswer, MultipartFile image) {
-        StudyPlanEntity plan = studyMapper.findById(planId);
-        if (plan == null) throw new TutorooException(ErrorCode.STUDY_PLAN_NOT_FOUND);
+    public TutorDTO.TestFeedbackResponse submitTest(Long userId, Long planId, String textAnswer, MultipartFile image,
+                                                    String idempotencyKey) {
+        StudyPlanEntity plan = identityMap.findPlan(planId);
+        if (plan == null || !plan.getUserId().equals(userId)) throw new TutorooException(ErrorCode.STUDY_PLAN_NOT_FOUND);
+
+        // 직전 제출의 재시도면 다시 채점하지 않고 저장된 결과를 돌려줌
+        // 헤더가 없으면 (답안 내용, 오늘 날짜)를 키로 사용 -> 같은 답안을 다시 보낸 재시도도 한 번만 채점/저장
+        String key = StudyLogEntity.normalizeIdempotencyKey(idempotencyKey);
+        if (key == null) key = defaultTestKey(textAnswer, image);
+        if (key.equals(plan.getLastLogKey())) {
+            return replayTestFeedback(plan, key);
+        }
 
-        // ✅ 오늘의 주제 가져오기
-        StudyLogEntity lastLog = studyMapper.findLatestLogByPlanId(planId);
-        int currentDay = (lastLog == null) ? 1 : lastLog.getDayCount() + 1;
-        String todaysTopic = getTopicFromRoadmap(plan.getRoadmapJson(), currentDay);
+        // ✅ 오늘의 주제 가져오기 (플랜의 N일차 카운터 다음 날)
+        int currentDay = (plan.getLastDayCount() == null ? 0 : plan.getLastDayCount()) + 1;
+        String todaysTopic = getTopicFromRoadmap(plan.getId(), currentDay);
 
         String prompt = String.format("""
             [답안 채점]
@@ -431,11 +446,10 @@ public class TutorService {
         String cleanedFeedback = removeDuplicateScoreFromFeedback(aiResponse);
         int pointChange = score >= 60 ? 50 : 10;
 
-        int newDayCount = (lastLog == null) ? 1 : lastLog.getDayCount() + 1;
-
         StudyLogEntity logEntity = StudyLogEntity.builder()
                 .planId(planId)
-                .dayCount(newDayCount)
+                .userId(userId)
+                .idempotencyKey(key)
                 .testScore(score)
                 .aiFeedback(cleanedFeedback)
                 .isCompleted(score >= 60)
@@ -443,16 +457,39 @@ public class TutorService {
                 .contentSummary(todaysTopic)  // ✅ 주제 저장
                 .build();
 
-        studyMapper.saveLog(logEntity);
-        userMapper.earnPoints(userId, pointChange);
+        // 같은 키로 동시에 들어온 제출이 먼저 저장됨 -> 재시도하면 위에서 저장된 결과를 돌려받음
+        if (!identityMap.advanceDayCount(plan, logEntity)) {
+            throw new TutorooException(ErrorCode.DUPLICATE_STUDY_LOG);
+        }
+        identityMap.saveLog(logEntity);
+        studySummaryService.recordLog(logEntity);
+        // 보상은 같은 트랜잭션에 이벤트로 기록 (합격 시 점수의 절반만큼 펫 경험치)
+        int petExp = score >= 60 ? score / 2 : 0;
+        studyEventOutboxMapper.save(StudyEventOutboxEntity.studyCompleted(logEntity, userId, petExp));
+        eventPublisher.publishEvent(new StudyLogChangedEvent(planId));
 
-        log.info("✅ 테스트 제출 완료 - 사용자 {}에게 {}P 지급 (점수: {})", userId, pointChange, score);
+        log.info("✅ 테스트 제출 완료 - 사용자 {}에게 {}P 지급 예약 (점수: {})", userId, pointChange, score);
 
         String audioUrl = requestTts(cleanedFeedback, plan.getPersona());
 
+        return toTestFeedbackResponse(score, cleanedFeedback, audioUrl);
+    }
+
+    // 재시도 응답은 저장된 점수/피드백으로 구성 (TTS는 다시 만들지 않음)
+    private TutorDTO.TestFeedbackResponse replayTestFeedback(StudyPlanEntity plan, String key) {
+        StudyLogEntity saved = identityMap.findLatestLog(plan.getId());
+        if (saved == null || !key.equals(saved.getIdempotencyKey())) {
+            throw new TutorooException(ErrorCode.DUPLICATE_STUDY_LOG);
+        }
+        log.info("🔁 테스트 제출 재시도 - 저장된 결과 반환 (Plan={}, Day={})", plan.getId(), saved.getDayCount());
+        int score = saved.getTestScore() == null ? 0 : saved.getTestScore();
+        return toTestFeedbackResponse(score, saved.getAiFeedback(), null);
+    }
+
+    private TutorDTO.TestFeedbackResponse toTestFeedbackResponse(int score, String feedback, String audioUrl) {
         return new TutorDTO.TestFeedbackResponse(
                 score,
-                cleanedFeedback,
+                feedback,
                 "테스트 완료",
                 audioUrl,
                 null,
@@ -461,33 +498,10 @@ public class TutorService {
         );
     }
 
-    private String getTopicFromRoadmap(String json, int dayCount) {
-        if (!StringUtils.hasText(json)) return "심화 학습";
-        try {
-            JsonNode root = objectMapper.readTree(json);
-            JsonNode curriculum = root.path("detailedCurriculum");
-
-            if (curriculum.isObject()) {
-                for (JsonNode week : curriculum) {
-                    if (week.isArray()) {
-                        for (JsonNode dayPlan : week) {
-                            String dayStr = dayPlan.path("day").asText();
-                            if (extractNumber(dayStr) == dayCount) {
-                                return dayPlan.path("topic").asText();  // ✅ method 제거, topic만 반환
-                            }
-                        }
-                    }
-                }
-            }
-        } catch (Exception e) {
-            log.warn("로드맵 파싱 중 오류 (기본값 반환): {}", e.getMessage());
-        }
-        return "현재 진도에 맞는 심화 내용";
-    }
-
-    private int extractNumber(String text) {
-        Matcher m = Pattern.compile("\\d+").matcher(text);
-        return m.find() ? Integer.parseInt(m.group()) : -1;
+    // 로드맵 전체를 읽지 않고 그날 한 칸만 조회 (✅ method 제외, topic만 반환)
+    private String getTopicFromRoadmap(Long planId, int dayCount) {
+        String topic = roadmapService.findTopic(planId, dayCount);
+        return StringUtils.hasText(topic) ? topic : "현재 진도에 맞는 심화 내용";
     }
 
     private String extractTopicKeyword(String info) {
@@ -497,12 +511,13 @@ public class TutorService {
     private void updatePersonaIfChanged(StudyPlanEntity plan, String newPersona) {
         if (!plan.getPersona().equalsIgnoreCase(newPersona)) {
             plan.setPersona(newPersona.toUpperCase());
-            studyMapper.updatePlan(plan);
+            identityMap.updatePlan(plan);
+            eventPublisher.publishEvent(new StudyPlanChangedEvent(plan.getUserId()));
         }
     }
 
     private String buildBaseSystemPrompt(StudyPlanEntity plan, String customOption, String todaysTopic) {
-        String base = commonMapper.findPromptContentByKey("TEACHER_" + plan.getPersona());
+        String base = referenceDataCache.prompt("TEACHER_" + plan.getPersona());
         if (base == null) base = "너는 열정적인 AI 선생님이야.";
 
         StringBuilder sb = new StringBuilder(base);
@@ -568,6 +583,19 @@ public class TutorService {
         return cleaned.trim();
     }
 
+    // 답안(텍스트 + 이미지) 해시 앞 16바이트 + 날짜 (64자 이하)
+    private String defaultTestKey(String textAnswer, MultipartFile image) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            if (textAnswer != null) digest.update(textAnswer.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            if (image != null && !image.isEmpty()) digest.update(image.getBytes());
+            return "test-" + HexFormat.of().formatHex(digest.digest(), 0, 16) + ":" + LocalDate.now();
+        } catch (Exception e) {
+            throw new TutorooException("답안 처리 중 오류가 발생했습니다.", ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
     private String generateHash(String input) throws Exception {
         byte[] h = MessageDigest.getInstance("SHA-256").digest(input.getBytes(StandardCharsets.UTF_8));
         StringBuilder s = new StringBuilder();
@@ -633,15 +661,16 @@ public class TutorService {
 
     @Transactional
     public void saveStudentFeedback(TutorDTO.TutorReviewRequest request) {
-        studyMapper.updateStudentFeedback(request.planId(), request.dayCount(), request.feedback());
+        identityMap.updateStudentFeedback(request.planId(), request.dayCount(), request.feedback());
     }
 
     @Transactional
     public void renameCustomTutor(Long planId, String newName) {
-        StudyPlanEntity plan = studyMapper.findById(planId);
+        StudyPlanEntity plan = identityMap.findPlan(planId);
         if (plan == null) throw new TutorooException(ErrorCode.STUDY_PLAN_NOT_FOUND);
         plan.setCustomTutorName(newName);
-        studyMapper.updatePlan(plan);
+        identityMap.updatePlan(plan);
+        eventPublisher.publishEvent(new StudyPlanChangedEvent(plan.getUserId()));
     }
 
     private record ParsedResponse(String topic, String aiMessage, Map<String, Integer> schedule) {}
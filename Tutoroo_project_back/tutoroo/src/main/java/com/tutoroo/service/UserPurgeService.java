@@ -0,0 +1,149 @@
+package com.tutoroo.service;
+
+import com.tutoroo.entity.UserEntity;
+import com.tutoroo.mapper.PurgeMapper;
+import com.tutoroo.mapper.UserMapper;
+import com.tutoroo.util.FileStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * [기능: 탈퇴 회원 영구 삭제]
+ * 설명: 회원 한 명의 업로드 파일과 하위 데이터를 나눠서 지운 뒤 회원 행을 삭제합니다.
+ * 작동원리:
+ * 1. 업로드 파일을 먼저 삭제 (회원 행이 남아있는 한 재시도 시 다시 찾을 수 있으므로 고아 파일이 생기지 않음)
+ * 2. 자식 테이블을 limit건씩 반복 삭제 (문장마다 자동 커밋 -> 긴 잠금/복제 지연 방지)
+ * 3. 청크마다 실행 시간에 비례해 쉬어 DB 부하가 높을수록 천천히 진행 (Throttling)
+ * 4. 남은 소량의 행(플랜, 펫, 결제 등)은 회원 삭제 시 FK CASCADE로 정리
+ * 5. 실패 시 예외를 그대로 던져 배치 실행기가 재시도하도록 함 (이미 지운 부분은 다시 지워도 무해)
+ * 6. 별도로 업로드 폴더 전체를 묶음 단위로 훑어, 어떤 행도 참조하지 않는 오래된 파일(TTS 음성, 첨부 이미지 등)을 삭제
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserPurgeService {
+
+    private final UserMapper userMapper;
+    private final PurgeMapper purgeMapper;
+    private final FileStore fileStore;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.job.purge.delete-chunk-size:1000}")
+    private int deleteChunkSize;
+
+    @Value("${app.job.purge.min-pause-ms:20}")
+    private long minPauseMs;
+
+    @Value("${app.job.purge.load-factor:1.0}")
+    private double loadFactor;
+
+    @Value("${app.job.upload-sweep.chunk-size:500}")
+    private int sweepChunkSize;
+
+    // 저장 직후 아직 DB에 기록되지 않은 파일, 응답으로만 내려간 TTS를 클라이언트가 재생 중일 시간
+    @Value("${app.job.upload-sweep.min-age-hours:24}")
+    private long sweepMinAgeHours;
+
+    public void purgeUser(Long userId) throws InterruptedException {
+        UserEntity user = userMapper.findById(userId);
+        // 이미 삭제됐거나 그 사이 복구된 회원은 건너뜀
+        if (user == null || !"WITHDRAWN".equals(user.getStatus())) return;
+
+        // 1. 업로드 파일 삭제
+        List<String> files = purgeMapper.findUploadedFiles(userId);
+        int removedFiles = fileStore.deleteFiles(files);
+        meterRegistry.counter("purge.files.deleted").increment(removedFiles);
+
+        // 2. 하위 데이터 청크 삭제 (자식 -> 부모 순서)
+        int removedRows = 0;
+        for (Map.Entry<String, ToIntBiFunction<Long, Integer>> step : deleteSteps().entrySet()) {
+            removedRows += deleteInChunks(step.getKey(), userId, step.getValue());
+        }
+
+        // 3. 회원 삭제 (남은 행은 CASCADE)
+        userMapper.deleteUserPermanently(userId);
+        log.debug("🧹 [삭제] 회원 {} 영구 삭제 완료 (행 {}건, 파일 {}개)", userId, removedRows, removedFiles);
+    }
+
+    /**
+     * 업로드 폴더의 고아 파일 정리
+     * 파일을 sweepChunkSize개씩 읽어 참조 여부를 IN 조회 한 번으로 확인하고, 참조가 없는 파일만 삭제
+     * @return 삭제한 파일 수
+     */
+    public int sweepOrphanFiles() throws IOException {
+        Instant modifiedBefore = Instant.now().minus(Duration.ofHours(sweepMinAgeHours));
+        AtomicInteger deleted = new AtomicInteger();
+        AtomicInteger scanned = new AtomicInteger();
+
+        fileStore.scanStoredFiles(modifiedBefore, sweepChunkSize, fileUrls -> {
+            Set<String> referenced = new HashSet<>(purgeMapper.findReferencedFiles(fileUrls));
+            List<String> orphans = fileUrls.stream().filter(url -> !referenced.contains(url)).toList();
+            deleted.addAndGet(fileStore.deleteFiles(orphans));
+            scanned.addAndGet(fileUrls.size());
+            pause();
+        });
+
+        meterRegistry.counter("purge.files.deleted").increment(deleted.get());
+        log.info("🧹 [삭제] 업로드 고아 파일 정리 완료 (확인 {}개, 삭제 {}개)", scanned.get(), deleted.get());
+        return deleted.get();
+    }
+
+    // --- 내부 메서드 ---
+
+    // 묶음 사이 최소 대기 (파일 정리는 DB 조회가 가벼우므로 부하 비례 대기 없이 고정)
+    private void pause() {
+        try {
+            Thread.sleep(minPauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("업로드 파일 정리 중단", e);
+        }
+    }
+
+    private Map<String, ToIntBiFunction<Long, Integer>> deleteSteps() {
+        Map<String, ToIntBiFunction<Long, Integer>> steps = new LinkedHashMap<>();
+        steps.put("chat_messages", purgeMapper::deleteChatMessages);
+        steps.put("student_feedbacks", purgeMapper::deleteStudentFeedbacks);
+        steps.put("study_logs", purgeMapper::deleteStudyLogs);
+        steps.put("study_logs_duplicates", purgeMapper::deleteDuplicateStudyLogs);
+        steps.put("study_daily_summary", purgeMapper::deleteDailySummaries);
+        steps.put("roadmap_days", purgeMapper::deleteRoadmapDays);
+        steps.put("pet_diary", purgeMapper::deletePetDiaries);
+        steps.put("practice_logs", purgeMapper::deletePracticeLogs);
+        steps.put("notifications", purgeMapper::deleteNotifications);
+        steps.put("notifications_archive", purgeMapper::deleteArchivedNotifications);
+        return steps;
+    }
+
+    private int deleteInChunks(String table, Long userId, ToIntBiFunction<Long, Integer> delete) throws InterruptedException {
+        int total = 0;
+        while (true) {
+            long start = System.nanoTime();
+            int deleted = delete.applyAsInt(userId, deleteChunkSize);
+            total += deleted;
+            if (deleted < deleteChunkSize) break;
+
+            // DB가 느려질수록(청크 실행 시간이 길수록) 더 오래 쉼
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            Thread.sleep(Math.max(minPauseMs, (long) (elapsedMs * loadFactor)));
+        }
+        if (total > 0) {
+            meterRegistry.counter("purge.rows.deleted", "table", table).increment(total);
+        }
+        return total;
+    }
+}
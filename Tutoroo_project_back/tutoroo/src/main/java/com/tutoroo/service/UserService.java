@@ -1,21 +1,19 @@
 package com.tutoroo.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tutoroo.dto.RivalDTO;
 import com.tutoroo.dto.StudyDTO;
 import com.tutoroo.dto.UserDTO;
-import com.tutoroo.entity.StudyLogEntity;
-import com.tutoroo.entity.StudyPlanEntity;
 import com.tutoroo.entity.UserEntity;
+import com.tutoroo.event.UserProfileChangedEvent;
 import com.tutoroo.exception.ErrorCode;
 import com.tutoroo.exception.TutorooException;
 import com.tutoroo.jwt.JwtTokenProvider;
-import com.tutoroo.mapper.StudyMapper;
 import com.tutoroo.mapper.UserMapper;
 import com.tutoroo.security.CustomUserDetails;
 import com.tutoroo.util.FileStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -39,12 +37,12 @@ import java.util.stream.Collectors;
 public class UserService {
 
     private final UserMapper userMapper;
-    private final StudyMapper studyMapper;
     private final PasswordEncoder passwordEncoder;
     private final FileStore fileStore;
     private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper;
     private final JwtTokenProvider jwtTokenProvider;
+    private final DashboardFragmentCache dashboardCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     // --- 0. 회원 상세 정보 조회 ---
     @Transactional(readOnly = true)
@@ -121,7 +119,7 @@ public class UserService {
 
         // 3. DB 반영
         userMapper.update(user);
-        deleteDashboardCache(oldUsername);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(user.getId()));
 
         // 4. 아이디 변경 시 새 토큰 발급
         String newAccessToken = null;
@@ -191,81 +189,51 @@ public class UserService {
     }
 
     // --- 3. 대시보드 조회 ---
+    // 조각별로 캐싱된 값을 조립 (각 조각은 DashboardFragmentCache가 도메인 이벤트로 무효화)
     @Transactional(readOnly = true)
-    public UserDTO.DashboardDTO getAdvancedDashboard(String username) {
-        String cacheKey = "dashboard:" + username;
-
-        try {
-            String cachedJson = redisTemplate.opsForValue().get(cacheKey);
-            if (cachedJson != null) {
-                return objectMapper.readValue(cachedJson, UserDTO.DashboardDTO.class);
-            }
-        } catch (Exception e) {
-            log.warn("대시보드 캐시 조회 실패: {}", e.getMessage());
-        }
-
-        UserEntity user = userMapper.findByUsername(username);
-        if (user == null) throw new TutorooException(ErrorCode.USER_NOT_FOUND);
-
-        List<StudyPlanEntity> plans = studyMapper.findActivePlansByUserId(user.getId());
+    public UserDTO.DashboardDTO getAdvancedDashboard(Long userId) {
+        DashboardFragmentCache.UserFragments userFragments = dashboardCache.getUserFragments(userId);
+        DashboardFragmentCache.Profile profile = userFragments.profile();
+        List<DashboardFragmentCache.PlanSummary> plans = userFragments.plans().plans();
 
         List<StudyDTO.StudySimpleInfo> studyList = plans.stream()
                 .map(plan -> StudyDTO.StudySimpleInfo.builder()
-                        .id(plan.getId())
-                        .name(plan.getGoal())
-                        .tutor(plan.getCustomTutorName() != null ? plan.getCustomTutorName() : plan.getPersona())
+                        .id(plan.id())
+                        .name(plan.goal())
+                        .tutor(plan.tutor())
                         .build())
                 .collect(Collectors.toList());
 
-        StudyPlanEntity currentPlan = plans.isEmpty() ? null : plans.get(0);
-        String currentGoal = (currentPlan != null) ? currentPlan.getGoal() : "목표를 설정해주세요";
-        double progressRate = (currentPlan != null) ? currentPlan.getProgressRate() : 0.0;
-
-        List<StudyLogEntity> logs = (currentPlan != null)
-                ? studyMapper.findLogsByPlanId(currentPlan.getId())
-                : new ArrayList<>();
-
-        List<Integer> weeklyScores = logs.stream()
-                .skip(Math.max(0, logs.size() - 7))
-                .map(StudyLogEntity::getTestScore)
-                .collect(Collectors.toList());
+        DashboardFragmentCache.PlanSummary currentPlan = plans.isEmpty() ? null : plans.get(0);
+        String currentGoal = (currentPlan != null) ? currentPlan.goal() : "목표를 설정해주세요";
+        double progressRate = (currentPlan != null) ? currentPlan.progressRate() : 0.0;
 
+        List<Integer> weeklyScores = new ArrayList<>();
         String aiAnalysis = "아직 충분한 학습 데이터가 없습니다. 꾸준히 학습해보세요!";
         String aiSuggestion = "오늘의 학습을 시작해보는 건 어때요?";
 
-        StudyLogEntity latestLog = (currentPlan != null)
-                ? studyMapper.findLatestLogByPlanId(currentPlan.getId())
-                : null;
+        if (currentPlan != null) {
+            DashboardFragmentCache.PlanFragments planFragments = dashboardCache.getPlanFragments(currentPlan.id());
+            weeklyScores = planFragments.scores().scores();
 
-        if (latestLog != null) {
-            if (latestLog.getAiFeedback() != null) aiAnalysis = latestLog.getAiFeedback();
-            aiSuggestion = "지난번 점수는 " + latestLog.getTestScore() + "점이었네요. 오늘은 더 잘할 수 있어요!";
+            DashboardFragmentCache.LatestFeedback latest = planFragments.feedback();
+            if (latest.exists()) {
+                if (latest.aiFeedback() != null) aiAnalysis = latest.aiFeedback();
+                aiSuggestion = "지난번 점수는 " + latest.testScore() + "점이었네요. 오늘은 더 잘할 수 있어요!";
+            }
         }
 
-        UserDTO.DashboardDTO dashboardDTO = UserDTO.DashboardDTO.builder()
-                .name(user.getName())
+        return UserDTO.DashboardDTO.builder()
+                .name(profile.name())
                 .currentGoal(currentGoal)
                 .progressRate(progressRate)
-                .currentPoint(user.getTotalPoint())
-                .rank(user.getDailyRank() != null ? user.getDailyRank() : 0)
+                .currentPoint(profile.currentPoint())
+                .rank(profile.rank())
                 .aiAnalysisReport(aiAnalysis)
                 .aiSuggestion(aiSuggestion)
                 .weeklyScores(weeklyScores)
                 .studyList(studyList)
                 .build();
-
-        try {
-            String json = objectMapper.writeValueAsString(dashboardDTO);
-            redisTemplate.opsForValue().set(cacheKey, json, 10, TimeUnit.MINUTES);
-        } catch (Exception e) {
-            log.warn("대시보드 캐시 저장 실패: {}", e.getMessage());
-        }
-
-        return dashboardDTO;
-    }
-    // 캐시 삭제 메서드 추가
-    public void evictDashboardCache(String username) {
-        redisTemplate.delete("dashboard:" + username);
     }
 
     // --- 4. 라이벌 매칭 ---
@@ -274,14 +242,14 @@ public class UserService {
         UserEntity me = userMapper.findById(userId);
         if (me.getRivalId() != null) return "이미 라이벌이 등록되어 있습니다.";
 
-        UserEntity rival = userMapper.findPotentialRival(me.getId(), me.getTotalPoint());
+        UserMapper.UserSummary rival = userMapper.findPotentialRival(me.getId(), me.getTotalPoint());
         if (rival == null) return "현재 매칭 가능한 라이벌이 없습니다.";
 
-        me.setRivalId(rival.getId());
+        me.setRivalId(rival.id());
         userMapper.update(me);
-        deleteDashboardCache(me.getUsername());
+        eventPublisher.publishEvent(new UserProfileChangedEvent(me.getId()));
 
-        return "매칭 성공! 라이벌: " + rival.getMaskedName();
+        return "매칭 성공! 라이벌: " + rival.maskedName();
     }
 
     // --- 5. 회원 탈퇴 ---
@@ -301,7 +269,7 @@ public class UserService {
         user.setDeletedAt(LocalDateTime.now());
         userMapper.update(user);
 
-        deleteDashboardCache(user.getUsername());
+        eventPublisher.publishEvent(new UserProfileChangedEvent(user.getId()));
         redisTemplate.delete("RT:" + user.getUsername());
     }
 
@@ -319,12 +287,6 @@ public class UserService {
     }
 
     // --- Helper Methods ---
-    private void deleteDashboardCache(String username) {
-        try {
-            redisTemplate.delete("dashboard:" + username);
-        } catch (Exception e) {}
-    }
-
     // Entity -> ProfileInfo 변환 (중복 제거)
     private UserDTO.ProfileInfo toProfileInfo(UserEntity user) {
         return UserDTO.ProfileInfo.builder()
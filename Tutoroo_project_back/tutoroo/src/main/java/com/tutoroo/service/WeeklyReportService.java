@@ -0,0 +1,129 @@
+package com.tutoroo.service;
+
+import com.tutoroo.entity.UserEntity;
+import com.tutoroo.entity.WeeklyReportEntity;
+import com.tutoroo.mapper.ReportMapper;
+import com.tutoroo.mapper.UserMapper;
+import com.tutoroo.util.BatchPromptGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [기능: 주간 학부모 리포트 생성/발송]
+ * 설명: 학생 한 명의 지난주 학습 통계를 집계하고, AI가 작성한 알림톡을 학부모에게 보냅니다.
+ * 작동원리:
+ * 1. 이미 발송 기록이 있으면 건너뜀 (배치 재실행/재개 시 중복 발송 방지)
+ * 2. 주간 로그 집계는 SQL에서 처리 (해당 주 로그만, NULL 점수 제외)
+ * 3. 여러 학생의 메시지를 AI 묶음 호출 한 번으로 생성 (검증 실패 학생만 단건 재생성)
+ * 4. AI 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WeeklyReportService {
+
+    public static final String STATUS_SENT = "SENT";
+    public static final String STATUS_SKIPPED = "SKIPPED";
+
+    private static final int FEEDBACK_SUMMARY_SIZE = 3;
+
+    private static final String REPORT_INSTRUCTION =
+            "학부모에게 보낼 정중하고 격려가 담긴 알림톡 메시지(200자 이내) 작성해.";
+    private static final String REPORT_BATCH_INSTRUCTION =
+            "각 항목은 학생 한 명의 이번 주 학습 요약이야. 학생마다 " + REPORT_INSTRUCTION;
+
+    private final UserMapper userMapper;
+    private final ReportMapper reportMapper;
+    private final BatchPromptGenerator batchPromptGenerator;
+    private final MeterRegistry meterRegistry;
+
+    private Timer generationTimer;
+
+    @PostConstruct
+    void initMetrics() {
+        generationTimer = Timer.builder("report.weekly.generation")
+                .description("주간 리포트 AI 메시지 생성 소요 시간 (묶음 1회 기준)")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 여러 학생의 주간 리포트를 AI 묶음 호출 한 번으로 생성해 발송
+     * @param weekStart 리포트 대상 주의 월요일 (집계 구간: weekStart ~ weekStart + 7일)
+     * @return 메시지를 만들지 못한 학생 수
+     */
+    public int sendWeeklyReports(List<Long> userIds, LocalDate weekStart) {
+        Map<Long, UserEntity> students = new LinkedHashMap<>();
+        Map<Long, WeeklyReportEntity> reports = new LinkedHashMap<>();
+        Map<Long, String> summaries = new LinkedHashMap<>();
+
+        for (Long userId : userIds) {
+            if (reportMapper.existsDelivery(userId, weekStart)) {
+                record("duplicate");
+                continue;
+            }
+
+            UserEntity student = userMapper.findById(userId);
+            if (student == null || student.getParentPhone() == null) {
+                record("no_target");
+                continue;
+            }
+
+            WeeklyReportEntity report = reportMapper.aggregateWeek(userId, weekStart, weekStart.plusWeeks(1));
+            if (report.getLogCount() == 0) {
+                // 지난주 기록이 없는 학생은 AI 호출 없이 처리 완료로 남김
+                report.setStatus(STATUS_SKIPPED);
+                reportMapper.saveDelivery(report);
+                record(STATUS_SKIPPED.toLowerCase());
+                continue;
+            }
+
+            List<String> feedbacks = reportMapper.findWeekFeedbacks(userId, weekStart, weekStart.plusWeeks(1), FEEDBACK_SUMMARY_SIZE);
+            students.put(userId, student);
+            reports.put(userId, report);
+            summaries.put(userId, String.format(
+                    "학생이름: %s, 이번 주 공부한 날: %d일, 평균점수: %s, 피드백요약: %s",
+                    student.getName(),
+                    report.getStudyDays(),
+                    report.getAvgScore() != null ? report.getAvgScore() + "점" : "기록 없음",
+                    feedbacks.isEmpty() ? "없음" : String.join(", ", feedbacks)
+            ));
+        }
+        if (summaries.isEmpty()) return 0;
+
+        // 묶음 응답이 잘못된 학생만 단건 프롬프트로 다시 생성
+        Map<Long, String> messages = generationTimer.record(() -> batchPromptGenerator.generate(
+                REPORT_BATCH_INSTRUCTION, summaries,
+                userId -> summaries.get(userId) + ". " + REPORT_INSTRUCTION));
+
+        messages.forEach((userId, message) -> {
+            sendKakaoTalk(students.get(userId).getParentPhone(), message);
+
+            WeeklyReportEntity report = reports.get(userId);
+            report.setStatus(STATUS_SENT);
+            report.setMessage(message);
+            reportMapper.saveDelivery(report);
+            record(STATUS_SENT.toLowerCase());
+        });
+        return summaries.size() - messages.size();
+    }
+
+    // --- 내부 메서드 ---
+
+    private void record(String outcome) {
+        meterRegistry.counter("report.weekly.deliveries", "outcome", outcome).increment();
+    }
+
+    private void sendKakaoTalk(String phoneNumber, String message) {
+        log.info("📩 [알림톡 발송] To: {}, 내용: {}", phoneNumber, message);
+    }
+}
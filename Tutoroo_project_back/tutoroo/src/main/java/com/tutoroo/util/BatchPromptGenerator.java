@@ -0,0 +1,120 @@
+package com.tutoroo.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * [기능: 다건 묶음 AI 생성기]
+ * 설명: 여러 사람의 짧은 정형 글(펫 일기, 학부모 알림톡)을 한 번의 AI 호출로 생성하고 사람별로 나눠 돌려줍니다.
+ * 작동원리:
+ * 1. 공통 지시문 + [{"id", "input"}] JSON 배열을 한 프롬프트로 보내고, [{"id", "text"}] JSON 배열로만 답하게 함
+ * 2. 응답을 파싱해 요청한 id인지, 중복이 아닌지, 본문이 비었거나 지나치게 길지 않은지 항목별로 검증
+ * 3. 검증에 실패했거나 응답에서 빠진 항목만 기존 단건 프롬프트로 다시 생성 (Fallback)
+ * 4. 단건 생성까지 실패한 항목은 결과에서 빠짐 -> 호출자가 실패로 집계
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchPromptGenerator {
+
+    // 한 항목 본문의 최대 길이 (여러 항목이 한 본문에 섞여 나온 경우 걸러내기 위함)
+    private static final int MAX_TEXT_LENGTH = 2000;
+
+    private final ChatModel chatModel;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param instruction  모든 항목에 공통으로 적용할 작성 지시문
+     * @param inputs       항목 ID -> 항목별 입력
+     * @param singlePrompt 묶음 결과를 쓸 수 없는 항목을 단건으로 생성할 때의 프롬프트
+     * @return 항목 ID -> 생성된 글 (단건 생성까지 실패한 항목은 포함되지 않음)
+     */
+    public Map<Long, String> generate(String instruction, Map<Long, String> inputs, Function<Long, String> singlePrompt) {
+        Map<Long, String> results = new LinkedHashMap<>();
+        if (inputs.isEmpty()) return results;
+
+        // 1건이면 묶을 이유가 없으므로 바로 단건 호출
+        if (inputs.size() > 1) {
+            try {
+                results.putAll(parse(chatModel.call(buildBatchPrompt(instruction, inputs)), inputs));
+                meterRegistry.counter("ai.batch.items", "outcome", "batched").increment(results.size());
+            } catch (Exception e) {
+                log.warn("묶음 생성 실패 ({}건) - 단건 생성으로 전환: {}", inputs.size(), e.getMessage());
+            }
+        }
+
+        for (Long id : inputs.keySet()) {
+            if (results.containsKey(id)) continue;
+            try {
+                String text = chatModel.call(singlePrompt.apply(id));
+                if (!StringUtils.hasText(text)) throw new IllegalStateException("빈 응답");
+                results.put(id, text.trim());
+                meterRegistry.counter("ai.batch.items", "outcome", "fallback").increment();
+            } catch (Exception e) {
+                meterRegistry.counter("ai.batch.items", "outcome", "failed").increment();
+                log.error("단건 생성 실패 (ID: {}): {}", id, e.getMessage());
+            }
+        }
+        return results;
+    }
+
+    // --- 내부 메서드 ---
+
+    private String buildBatchPrompt(String instruction, Map<Long, String> inputs) throws Exception {
+        List<Map<String, Object>> items = new ArrayList<>(inputs.size());
+        inputs.forEach((id, input) -> items.add(Map.of("id", id, "input", input)));
+
+        return instruction + "\n\n" +
+                "아래 JSON 배열의 항목마다 위 지시대로 글을 하나씩 따로 작성해.\n" +
+                "다른 설명 없이 JSON 배열만 출력하고, 각 원소는 {\"id\": 입력의 id, \"text\": 작성한 글} 형식이어야 해.\n" +
+                "입력의 모든 id에 대해 정확히 하나씩 답해.\n" +
+                "입력: " + objectMapper.writeValueAsString(items);
+    }
+
+    // 검증을 통과한 항목만 반환 (나머지는 호출자가 단건 생성)
+    private Map<Long, String> parse(String response, Map<Long, String> inputs) throws Exception {
+        Map<Long, String> parsed = new LinkedHashMap<>();
+        Set<Long> duplicated = new HashSet<>();
+        if (!StringUtils.hasText(response)) return parsed;
+
+        // 코드 블록(```json ... ```)이나 앞뒤 설명이 붙어도 배열 부분만 사용
+        int start = response.indexOf('[');
+        int end = response.lastIndexOf(']');
+        if (start < 0 || end <= start) return parsed;
+
+        JsonNode root = objectMapper.readTree(response.substring(start, end + 1));
+        if (!root.isArray()) return parsed;
+
+        for (JsonNode item : root) {
+            JsonNode idNode = item.get("id");
+            JsonNode textNode = item.get("text");
+            if (idNode == null || !idNode.canConvertToLong() || textNode == null || !textNode.isTextual()) continue;
+
+            long id = idNode.asLong();
+            String text = textNode.asText().trim();
+            if (!inputs.containsKey(id) || text.isEmpty() || text.length() > MAX_TEXT_LENGTH) continue;
+
+            // 같은 id가 두 번 이상 오면 어느 쪽이 맞는지 알 수 없으므로 모두 버리고 단건 생성
+            if (parsed.putIfAbsent(id, text) != null) {
+                duplicated.add(id);
+            }
+        }
+        parsed.keySet().removeAll(duplicated);
+        return parsed;
+    }
+}
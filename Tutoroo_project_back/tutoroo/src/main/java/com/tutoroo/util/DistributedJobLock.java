@@ -0,0 +1,245 @@
+package com.tutoroo.util;
+
+import com.tutoroo.mapper.JobRunMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * [기능: 클러스터 단위 스케줄러 잠금 (Redis Lease)]
+ * 설명: 여러 서버에서 같은 @Scheduled 작업이 동시에 실행되지 않도록 Redis 임대(lease) 잠금을 잡습니다.
+ * 작동원리:
+ * 1. SET NX PX로 잠금 획득 + 같은 스크립트에서 INCR로 단조 증가하는 fencing token 발급
+ * 2. 작업이 TTL보다 오래 걸려도 watchdog이 TTL/3마다 임대를 연장 (소유자 값이 같을 때만)
+ * 3. 연장 실패(GC 정지, 네트워크 단절 등으로 임대 상실) 시 Lease.isValid() = false
+ * 4. 작업은 DB에 쓸 때 fencing token을 함께 기록하여, 늦게 깨어난 이전 소유자의 쓰기를 거절하도록 함
+ * 5. 해제는 소유자 값이 같을 때만 DEL (다른 서버가 잡은 잠금을 지우지 않음)
+ * 6. fencing token은 batch_job_runs에 기록된 최대값보다 항상 크게 발급
+ *    - Redis 카운터가 없으면(최초 실행, FLUSH, 장애 조치) DB 최대값으로 채운 뒤 INCR
+ *    - 잠금 비활성 모드도 DB 최대값 이후부터 발급 -> 모드를 바꿔도 기존 실행 기록을 이어받을 수 있음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DistributedJobLock {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JobRunMapper jobRunMapper;
+
+    @Value("${app.job.lock.enabled:true}")
+    private boolean enabled;
+
+    private static final String LOCK_PREFIX = "JOBLOCK:";
+    private static final String FENCE_PREFIX = "JOBLOCK:FENCE:";
+    private static final String SHARED_PREFIX = "JOBLOCK:SHARED:";
+
+    // 잠금 획득 성공 시 fencing token, 실패 시 0, 획득했지만 카운터가 없으면 -1 (SEED_SCRIPT로 발급)
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then " +
+            "  if redis.call('EXISTS', KEYS[2]) == 1 then " +
+            "    return redis.call('INCR', KEYS[2]) " +
+            "  end " +
+            "  return -1 " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    private static final long TOKEN_PENDING = -1L;
+
+    // 카운터를 DB 최대값으로 채운 뒤 발급 (이미 있으면 낮추지 않음)
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SET', KEYS[1], ARGV[1], 'NX') " +
+            "return redis.call('INCR', KEYS[1])",
+            Long.class);
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    // 모든 임대가 공유하는 연장(watchdog) 스레드
+    private final ScheduledExecutorService renewScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "job-lock-renew");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // 잠금 비활성 모드에서 마지막으로 발급한 token
+    private final AtomicLong localToken = new AtomicLong();
+
+    @PreDestroy
+    void shutdown() {
+        renewScheduler.shutdownNow();
+    }
+
+    /**
+     * 잠금 획득 시도 (대기하지 않음)
+     * @return 획득 시 Lease, 다른 서버가 실행 중이면 empty
+     */
+    public Optional<Lease> tryAcquire(String lockName, Duration ttl) {
+        if (!enabled) {
+            // 단일 서버 운영용: 잠금 없이 실행하되 fencing token은 기존 기록보다 크게 단조 증가
+            long floor;
+            try {
+                floor = jobRunMapper.findMaxFencingToken();
+            } catch (Exception e) {
+                log.error("🔒 [잠금] {} fencing token 기준값 조회 실패 (DB 오류): {}", lockName, e.getMessage());
+                return Optional.empty();
+            }
+            long token = localToken.updateAndGet(last -> Math.max(last, floor) + 1);
+            return Optional.of(new Lease(lockName, null, token, null));
+        }
+
+        String owner = UUID.randomUUID().toString();
+        Long token;
+        try {
+            token = redisTemplate.execute(ACQUIRE_SCRIPT,
+                    List.of(LOCK_PREFIX + lockName, FENCE_PREFIX + lockName),
+                    owner, String.valueOf(ttl.toMillis()));
+        } catch (Exception e) {
+            // Redis 장애 시 중복 실행보다 이번 회차 건너뛰기를 선택
+            log.error("🔒 [잠금] {} 잠금 획득 실패 (Redis 오류): {}", lockName, e.getMessage());
+            return Optional.empty();
+        }
+        if (token == null || token == 0L) {
+            log.debug("🔒 [잠금] {} - 다른 서버에서 실행 중", lockName);
+            return Optional.empty();
+        }
+
+        if (token == TOKEN_PENDING) {
+            token = seedToken(lockName);
+            if (token == null) {
+                new Lease(lockName, owner, 0L, null).close(); // 잡은 잠금은 바로 해제
+                return Optional.empty();
+            }
+        }
+
+        Lease lease = new Lease(lockName, owner, token, null);
+        long renewEveryMs = Math.max(1000, ttl.toMillis() / 3);
+        lease.renewal = renewScheduler.scheduleAtFixedRate(
+                () -> lease.renew(ttl), renewEveryMs, renewEveryMs, TimeUnit.MILLISECONDS);
+        return Optional.of(lease);
+    }
+
+    /**
+     * 잠금을 잡은 경우에만 작업 실행 후 해제
+     * @return 실행 여부
+     */
+    public boolean runExclusive(String lockName, Duration ttl, Consumer<Lease> job) {
+        Optional<Lease> acquired = tryAcquire(lockName, ttl);
+        if (acquired.isEmpty()) return false;
+        try (Lease lease = acquired.get()) {
+            job.accept(lease);
+        }
+        return true;
+    }
+
+    /**
+     * 여러 서버가 같은 값을 쓰도록 합의 (처음 기록한 값이 이김)
+     * 예: 샤드 경계 계산에 쓰는 최대 user_id - 서버마다 조회 시점이 달라도 같은 경계를 사용
+     */
+    public long agreeOnce(String key, long proposed, Duration ttl) {
+        if (!enabled) return proposed;
+        try {
+            String redisKey = SHARED_PREFIX + key;
+            redisTemplate.opsForValue().setIfAbsent(redisKey, String.valueOf(proposed), ttl);
+            String agreed = redisTemplate.opsForValue().get(redisKey);
+            return agreed != null ? Long.parseLong(agreed) : proposed;
+        } catch (Exception e) {
+            log.warn("🔒 [잠금] 공유 값 합의 실패 ({}), 로컬 값 사용: {}", key, e.getMessage());
+            return proposed;
+        }
+    }
+
+    // Redis 카운터가 초기화된 경우: 기존 실행 기록을 다시 가져갈 수 있도록 DB 최대값 이후부터 발급 (실패 시 null)
+    private Long seedToken(String lockName) {
+        try {
+            long floor = jobRunMapper.findMaxFencingToken();
+            Long token = redisTemplate.execute(SEED_SCRIPT, List.of(FENCE_PREFIX + lockName), String.valueOf(floor));
+            log.info("🔒 [잠금] {} fencing token 카운터를 DB 최대값({}) 이후부터 다시 발급", lockName, floor);
+            return token;
+        } catch (Exception e) {
+            log.error("🔒 [잠금] {} fencing token 발급 실패: {}", lockName, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * [임대 잠금]
+     * fencingToken: 잠금을 잡을 때마다 증가하는 번호 (클수록 최신 소유자)
+     */
+    public final class Lease implements AutoCloseable {
+        private final String lockName;
+        private final String owner;
+        private final long fencingToken;
+        private volatile ScheduledFuture<?> renewal;
+        private volatile boolean valid = true;
+
+        private Lease(String lockName, String owner, long fencingToken, ScheduledFuture<?> renewal) {
+            this.lockName = lockName;
+            this.owner = owner;
+            this.fencingToken = fencingToken;
+            this.renewal = renewal;
+        }
+
+        public long fencingToken() {
+            return fencingToken;
+        }
+
+        public boolean isValid() {
+            return valid;
+        }
+
+        private void renew(Duration ttl) {
+            if (!valid) return;
+            try {
+                Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(LOCK_PREFIX + lockName),
+                        owner, String.valueOf(ttl.toMillis()));
+                if (renewed == null || renewed == 0L) {
+                    valid = false;
+                    log.warn("🔒 [잠금] {} 임대 상실 (token: {})", lockName, fencingToken);
+                }
+            } catch (Exception e) {
+                // 일시적 오류는 다음 주기에 재시도 (TTL이 남아 있는 동안은 유효)
+                log.warn("🔒 [잠금] {} 임대 연장 실패: {}", lockName, e.getMessage());
+            }
+        }
+
+        @Override
+        public void close() {
+            if (renewal != null) renewal.cancel(false);
+            if (owner == null) return;
+            try {
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_PREFIX + lockName), owner);
+            } catch (Exception e) {
+                // 해제에 실패해도 TTL이 지나면 자동으로 풀림
+                log.warn("🔒 [잠금] {} 해제 실패: {}", lockName, e.getMessage());
+            }
+        }
+    }
+}
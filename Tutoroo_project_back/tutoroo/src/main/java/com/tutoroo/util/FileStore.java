@@ -8,11 +8,17 @@ import org.springframework.util.StringUtils;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * [기능: 파일 저장소 유틸리티]
@@ -22,6 +28,8 @@ import java.util.UUID;
 @Component
 public class FileStore {
 
+    private static final List<String> SUB_DIRS = List.of("images", "audio", "misc");
+
     @Value("${file.upload-root:./uploads/}")
     private String uploadRoot;
 
@@ -79,7 +87,67 @@ public class FileStore {
         if (!StringUtils.hasText(fileUrl)) {
             return;
         }
+        deleteQuietly(fileUrl);
+    }
+
+    /**
+     * 2-1. 여러 파일 일괄 삭제
+     * 용도: 탈퇴 회원 영구 삭제 시 업로드 파일 정리 (외부 URL은 건너뜀)
+     * @return 실제로 삭제된 파일 수
+     */
+    public int deleteFiles(Collection<String> fileUrls) {
+        int deleted = 0;
+        for (String fileUrl : fileUrls) {
+            // 소셜 로그인 프로필 등 외부 URL은 서버에 저장된 파일이 아님
+            if (!StringUtils.hasText(fileUrl) || !fileUrl.startsWith("/")) continue;
+            if (deleteQuietly(fileUrl)) deleted++;
+        }
+        return deleted;
+    }
+
+    /**
+     * 2-2. 저장된 파일을 chunkSize개씩 웹 URL 목록으로 넘김 (modifiedBefore 이전에 쓴 파일만)
+     * 용도: 업로드 폴더 고아 파일 정리 (방금 저장돼 아직 DB에 기록되기 전인 파일은 제외)
+     * 폴더를 스트림으로 읽으므로 파일이 많아도 메모리에는 한 묶음만 올라감
+     */
+    public void scanStoredFiles(Instant modifiedBefore, int chunkSize, Consumer<List<String>> handler) throws IOException {
+        for (String subDir : SUB_DIRS) {
+            Path directory = Paths.get(uploadRoot, subDir);
+            if (!Files.isDirectory(directory)) continue;
+
+            List<String> chunk = new ArrayList<>(chunkSize);
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+                for (Path file : files) {
+                    if (!Files.isRegularFile(file)) continue;
+                    if (!Files.getLastModifiedTime(file).toInstant().isBefore(modifiedBefore)) continue;
+                    chunk.add("/" + subDir + "/" + file.getFileName());
+                    if (chunk.size() >= chunkSize) {
+                        handler.accept(chunk);
+                        chunk = new ArrayList<>(chunkSize);
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) handler.accept(chunk);
+        }
+    }
+
+    /**
+     * 3. [호환성] Base64 문자열을 디코딩하여 저장 (오디오용)
+     */
+    public String saveAudio(String base64Audio) {
+        if (!StringUtils.hasText(base64Audio)) {
+            throw new RuntimeException("Base64 오디오 데이터가 없습니다.");
+        }
+        try {
+            byte[] decodedBytes = Base64.getDecoder().decode(base64Audio);
+            return storeFile(decodedBytes, ".mp3");
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("잘못된 Base64 형식입니다.", e);
+        }
+    }
 
+    // --- Helper ---
+    private boolean deleteQuietly(String fileUrl) {
         try {
             // URL(/images/abc.jpg) -> 파일경로(./uploads/images/abc.jpg) 변환
             // 1. 맨 앞의 슬래시(/) 제거
@@ -96,29 +164,15 @@ public class FileStore {
             } else {
                 log.debug("삭제할 파일이 존재하지 않음: {}", filePath);
             }
+            return deleted;
 
         } catch (Exception e) {
             // 파일 삭제 실패는 서비스 핵심 로직(회원수정)을 막으면 안 되므로 로그만 남김
             log.warn("파일 삭제 중 오류 발생 (무시됨): {} - {}", fileUrl, e.getMessage());
+            return false;
         }
     }
 
-    /**
-     * 3. [호환성] Base64 문자열을 디코딩하여 저장 (오디오용)
-     */
-    public String saveAudio(String base64Audio) {
-        if (!StringUtils.hasText(base64Audio)) {
-            throw new RuntimeException("Base64 오디오 데이터가 없습니다.");
-        }
-        try {
-            byte[] decodedBytes = Base64.getDecoder().decode(base64Audio);
-            return storeFile(decodedBytes, ".mp3");
-        } catch (IllegalArgumentException e) {
-            throw new RuntimeException("잘못된 Base64 형식입니다.", e);
-        }
-    }
-
-    // --- Helper ---
     private String determineSubDir(String extension) {
         if (extension == null) return "misc";
         String ext = extension.toLowerCase();
@@ -0,0 +1,131 @@
+package com.tutoroo.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * [기능: DB 동시 사용 게이트]
+ * 설명: 커넥션 풀 앞에서 공정(FIFO) 세마포어로 동시에 커넥션을 쥘 수 있는 스레드 수를 제한합니다.
+ * 작동원리:
+ * 1. 가상 스레드는 수천 개가 한꺼번에 풀에 몰릴 수 있음 -> 풀 크기만큼의 허가를 받은 스레드만 풀에서 커넥션을 꺼냄
+ * 2. 나머지는 도착 순서대로 대기하다가 acquire-timeout-ms를 넘기면 SQLTransientConnectionException (풀 고갈 시 빠른 실패)
+ * 3. 커넥션을 close하면 허가 반납 (한 커넥션당 한 번만)
+ * 4. db.gate.wait(대기 시간 히스토그램), db.gate.waiting(대기 스레드 수), db.gate.active, db.gate.rejected 메트릭
+ */
+public class GatedDataSource extends DelegatingDataSource {
+
+    private final String pool;
+    private final int maxConcurrency;
+    private final long acquireTimeoutMs;
+    private final Semaphore permits;
+
+    private final Timer waitTimer;
+    private final Counter rejectedCount;
+
+    public GatedDataSource(DataSource target, String pool, int maxConcurrency, long acquireTimeoutMs, MeterRegistry meterRegistry) {
+        super(target);
+        this.pool = pool;
+        this.maxConcurrency = maxConcurrency;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.permits = new Semaphore(maxConcurrency, true);
+
+        this.waitTimer = Timer.builder("db.gate.wait")
+                .description("커넥션 사용 허가를 받기까지 기다린 시간")
+                .tag("pool", pool)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejectedCount = Counter.builder("db.gate.rejected")
+                .description("대기 시간 초과로 거절된 커넥션 요청 수")
+                .tag("pool", pool)
+                .register(meterRegistry);
+        Gauge.builder("db.gate.waiting", permits, Semaphore::getQueueLength)
+                .description("허가를 기다리는 스레드 수")
+                .tag("pool", pool)
+                .register(meterRegistry);
+        Gauge.builder("db.gate.active", permits, p -> maxConcurrency - p.availablePermits())
+                .description("허가를 받아 커넥션을 쥐고 있는 스레드 수")
+                .tag("pool", pool)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return gated(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return gated(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    // --- 내부 메서드 ---
+
+    private void acquire() throws SQLException {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            // 시간 제한이 있는 tryAcquire는 공정성을 지킴 (먼저 온 스레드가 먼저 받음)
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException(pool + " - DB 커넥션 대기 중 인터럽트", e);
+        } finally {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        if (!acquired) {
+            rejectedCount.increment();
+            throw new SQLTransientConnectionException(pool + " - DB 동시 사용 한도(" + maxConcurrency + ") 대기 시간 초과 ("
+                    + acquireTimeoutMs + "ms, 대기 " + permits.getQueueLength() + "명)");
+        }
+    }
+
+    private Connection gated(Connection target) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "close" -> {
+                        try {
+                            target.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) permits.release();
+                        }
+                        yield null;
+                    }
+                    default -> {
+                        try {
+                            yield method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    }
+                });
+    }
+}
@@ -0,0 +1,118 @@
+package com.tutoroo.util;
+
+import com.tutoroo.security.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+
+/**
+ * [기능: Read-your-writes 고정]
+ * 설명: 방금 DB에 쓴 유저의 읽기를 잠시 primary로 보내, 복제 지연 때문에 자기가 쓴 내용이 안 보이는 일을 막습니다.
+ * 작동원리:
+ * 1. 쓰기 SQL이 실행되면 (ReadYourWritesInterceptor) 같은 요청의 이후 읽기는 바로 primary
+ * 2. 쓰기 트랜잭션이 커밋되면 Redis에 유저별 고정 키를 TTL(read-your-writes-ms)로 저장 -> 다른 서버로 간 다음 요청도 primary
+ * 3. 고정 여부는 요청당 한 번만 Redis에서 확인하고 요청 속성에 기억
+ * 4. Redis 장애 시 고정된 것으로 간주 (복제본을 못 쓸 뿐 오래된 데이터는 보이지 않음)
+ * 5. 요청 밖(스케줄러, 비동기 스레드)은 유저를 알 수 없으므로 자동 고정하지 않음
+ *    - 유저에게 바로 보이는 비동기 쓰기(학습 보상 반영 등)는 커밋 후 pin(userId)를 직접 호출
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReadYourWritesTracker {
+
+    private static final String KEY_PREFIX = "db:primary-pin:";
+    private static final String WROTE_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".wrote";
+    private static final String PINNED_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".pinned";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${app.datasource.replica.read-your-writes-ms:5000}")
+    private long pinMs;
+
+    // 쓰기 SQL 실행 직전에 호출
+    public void recordWrite() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(WROTE_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        Long userId = currentUserId();
+        if (userId == null) return;
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pin(userId); // 자동 커밋 쓰기
+            return;
+        }
+        // 트랜잭션당 한 번만 커밋 후 고정 예약
+        if (TransactionSynchronizationManager.hasResource(this)) return;
+        TransactionSynchronizationManager.bindResource(this, userId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pin(userId);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ReadYourWritesTracker.this);
+            }
+        });
+    }
+
+    public boolean isPinned() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) return false;
+        if (attributes.getAttribute(WROTE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) return true;
+
+        Object cached = attributes.getAttribute(PINNED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached instanceof Boolean pinned) return pinned;
+
+        boolean pinned = isPinnedInRedis(currentUserId());
+        attributes.setAttribute(PINNED_ATTRIBUTE, pinned, RequestAttributes.SCOPE_REQUEST);
+        return pinned;
+    }
+
+    // --- 내부 메서드 ---
+
+    private boolean isPinnedInRedis(Long userId) {
+        if (userId == null) return false;
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + userId));
+        } catch (Exception e) {
+            log.warn("⚠️ primary 고정 여부 확인 실패 -> primary로 읽기 (userId: {}): {}", userId, e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 요청 밖에서 쓴 유저를 직접 고정 (커밋 후, 캐시 무효화/알림 전에 호출)
+     */
+    public void pin(Long userId) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + userId, "1", Duration.ofMillis(pinMs));
+        } catch (Exception e) {
+            log.warn("⚠️ primary 고정 저장 실패 (userId: {}): {}", userId, e.getMessage());
+        }
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails user) {
+            return user.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,96 @@
+package com.tutoroo.util;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * [기능: 복제본 지연 감시]
+ * 설명: 주기적으로 복제본의 복제 지연(초)을 확인해, 한도를 넘으면 읽기를 primary로 돌리도록 알려줍니다.
+ * 작동원리:
+ * 1. SHOW REPLICA STATUS의 Seconds_Behind_Source (MySQL 8.0.22 미만은 SHOW SLAVE STATUS / Seconds_Behind_Master)
+ * 2. 지연 > max-lag-seconds, 복제 스레드 정지(NULL), 조회 실패 -> 사용 불가 (확인 전 기동 직후도 사용 불가)
+ * 3. 상태 행이 없으면 복제 설정이 없는 DB (로컬 2-DataSource 구성) -> 지연 0으로 간주
+ * 4. db.replica.lag.seconds / db.replica.available 게이지로 노출
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagSeconds;
+
+    private volatile boolean available = false;
+    private volatile long lagSeconds = -1;
+    private volatile boolean legacyStatusSyntax = false;
+
+    public ReplicaLagMonitor(DataSource replica, long maxLagSeconds, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.maxLagSeconds = maxLagSeconds;
+
+        Gauge.builder("db.replica.lag.seconds", this, monitor -> monitor.lagSeconds)
+                .description("복제본 복제 지연 (확인 실패 시 -1)")
+                .register(meterRegistry);
+        Gauge.builder("db.replica.available", this, monitor -> monitor.available ? 1 : 0)
+                .description("복제본으로 읽기를 보내는 중이면 1")
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaAvailable() {
+        return available;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:2000}")
+    public void check() {
+        Long lag;
+        try {
+            lag = readLag();
+        } catch (Exception e) {
+            lag = null;
+            log.warn("⚠️ 복제본 상태 확인 실패: {}", e.getMessage());
+        }
+
+        boolean nowAvailable = lag != null && lag <= maxLagSeconds;
+        lagSeconds = lag != null ? lag : -1;
+        if (nowAvailable != available) {
+            if (nowAvailable) log.info("✅ 복제본 읽기 재개 (지연 {}초)", lag);
+            else log.warn("🚨 복제본 읽기 중단 -> primary로 전환 (지연 {}초, 한도 {}초)", lag, maxLagSeconds);
+        }
+        available = nowAvailable;
+    }
+
+    // 지연(초), 복제 스레드가 멈춰 알 수 없으면 null
+    private Long readLag() {
+        List<Long> lags;
+        if (!legacyStatusSyntax) {
+            try {
+                lags = queryLag("SHOW REPLICA STATUS", "Seconds_Behind_Source");
+            } catch (BadSqlGrammarException e) {
+                legacyStatusSyntax = true;
+                lags = queryLag("SHOW SLAVE STATUS", "Seconds_Behind_Master");
+            }
+        } else {
+            lags = queryLag("SHOW SLAVE STATUS", "Seconds_Behind_Master");
+        }
+
+        if (lags.isEmpty()) return 0L;
+        Long max = 0L;
+        for (Long lag : lags) {
+            if (lag == null) return null;
+            max = Math.max(max, lag);
+        }
+        return max;
+    }
+
+    private List<Long> queryLag(String sql, String column) {
+        return replicaJdbcTemplate.query(sql, (rs, rowNum) -> {
+            long lag = rs.getLong(column);
+            return rs.wasNull() ? null : lag;
+        });
+    }
+}
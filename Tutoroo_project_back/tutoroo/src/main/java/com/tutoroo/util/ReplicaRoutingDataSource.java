@@ -0,0 +1,76 @@
+package com.tutoroo.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * [기능: 읽기/쓰기 분리 라우팅 DataSource]
+ * 설명: readOnly 트랜잭션은 읽기 전용 복제본(replica)으로, 나머지는 모두 primary로 보냅니다.
+ * 작동원리:
+ * 1. LazyConnectionDataSourceProxy로 감싸서 사용 -> 첫 SQL 실행 시점에 커넥션을 고르므로 트랜잭션의 readOnly 여부를 알 수 있음
+ * 2. readOnly가 아니면(쓰기 트랜잭션, 트랜잭션 밖 호출) 항상 primary
+ * 3. 복제 지연이 한도를 넘었거나 복제본 상태를 확인하지 못하면 primary (ReplicaLagMonitor)
+ * 4. 방금 쓴 유저의 읽기는 잠시 primary에 고정 (ReadYourWritesTracker)
+ * 5. 어느 쪽으로, 왜 보냈는지 db.routing 카운터로 기록
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final BooleanSupplier replicaAvailable;
+    private final BooleanSupplier pinnedToPrimary;
+
+    private final Counter writeCount;
+    private final Counter lagFallbackCount;
+    private final Counter pinnedCount;
+    private final Counter replicaCount;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                    BooleanSupplier replicaAvailable, BooleanSupplier pinnedToPrimary,
+                                    MeterRegistry meterRegistry) {
+        this.replicaAvailable = replicaAvailable;
+        this.pinnedToPrimary = pinnedToPrimary;
+        this.writeCount = counter(meterRegistry, PRIMARY, "read_write");
+        this.lagFallbackCount = counter(meterRegistry, PRIMARY, "replica_unavailable");
+        this.pinnedCount = counter(meterRegistry, PRIMARY, "read_your_writes");
+        this.replicaCount = counter(meterRegistry, REPLICA, "read_only");
+
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        initialize();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writeCount.increment();
+            return PRIMARY;
+        }
+        if (!replicaAvailable.getAsBoolean()) {
+            lagFallbackCount.increment();
+            return PRIMARY;
+        }
+        if (pinnedToPrimary.getAsBoolean()) {
+            pinnedCount.increment();
+            return PRIMARY;
+        }
+        replicaCount.increment();
+        return REPLICA;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("db.routing")
+                .description("커넥션을 받은 DataSource와 그 이유")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
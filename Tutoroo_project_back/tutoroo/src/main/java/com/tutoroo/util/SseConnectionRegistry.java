@@ -0,0 +1,273 @@
+package com.tutoroo.util;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * [기능: SSE 연결 저장소]
+ * 설명: 유저 한 명당 여러 개의 SSE 연결(탭, 기기)을 관리하고, 놓친 이벤트를 재전송합니다.
+ * 작동원리:
+ * 1. 유저별로 최대 maxConnectionsPerUser개의 Emitter를 보관 (초과 시 가장 오래된 연결 종료)
+ * 2. 하나의 공용 스케줄러 스레드가 모든 연결에 주기적으로 heartbeat 주석을 보내 프록시 타임아웃 방지
+ * 3. 이벤트 ID는 전역 단조 증가 시퀀스로 발급, 유저별 링 버퍼에 최근 이벤트를 보관
+ * 4. 재연결 시 Last-Event-ID 이후의 이벤트만 재전송
+ * 5. 버퍼 잠금 안에서는 기록(ID 발급)과 연결 등록만 하고, 네트워크 전송은 잠금 밖 별도 실행기에서 처리
+ *    -> 느린 클라이언트가 있어도 send() 호출자(알림 저장 스레드)는 막히지 않음
+ * 6. 연결마다 마지막으로 보낸 ID를 기억하고 전송 잠금(ReentrantLock) 안에서 그 이후 이벤트를 버퍼에서 순서대로 전송
+ *    -> 재전송과 실시간 전송이 겹쳐도 중복/누락/순서 뒤바뀜 없음, 가상 스레드도 캐리어에 고정되지 않음
+ */
+@Slf4j
+@Component
+public class SseConnectionRegistry {
+
+    @Value("${app.sse.timeout-ms:3600000}")
+    private long timeoutMs;
+
+    @Value("${app.sse.max-connections-per-user:5}")
+    private int maxConnectionsPerUser;
+
+    @Value("${app.sse.replay-buffer-size:50}")
+    private int replayBufferSize;
+
+    @Value("${app.sse.heartbeat-interval-ms:25000}")
+    private long heartbeatIntervalMs;
+
+    @Value("${app.sse.replay-ttl-ms:600000}")
+    private long replayTtlMs;
+
+    // 유저별 활성 연결 목록
+    private final Map<Long, List<Connection>> connections = new ConcurrentHashMap<>();
+
+    // 유저별 최근 이벤트 링 버퍼 (재연결 시 재전송용)
+    private final Map<Long, Deque<BufferedEvent>> replayBuffers = new ConcurrentHashMap<>();
+
+    // 서버 재시작 후에도 이전 ID보다 커지도록 현재 시각(ms)에서 시작
+    private final AtomicLong eventSequence = new AtomicLong(System.currentTimeMillis());
+
+    // 모든 연결이 공유하는 heartbeat 스케줄러 (연결당 스레드 생성 X)
+    private final ScheduledExecutorService heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "sse-heartbeat");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // 실제 전송을 맡는 실행기 (AsyncConfig의 가상 스레드 실행기)
+    private final AsyncTaskExecutor taskExecutor;
+
+    public SseConnectionRegistry(AsyncTaskExecutor taskExecutor) {
+        this.taskExecutor = taskExecutor;
+    }
+
+    @PostConstruct
+    void startHeartbeat() {
+        heartbeatScheduler.scheduleAtFixedRate(this::sendHeartbeats,
+                heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeatScheduler.shutdownNow();
+        connections.values().forEach(list -> list.forEach(connection -> connection.emitter.complete()));
+        connections.clear();
+    }
+
+    /**
+     * 1. 새 연결 등록 + 놓친 이벤트 재전송
+     * @param lastEventId 클라이언트가 보낸 Last-Event-ID 헤더 (없으면 null)
+     */
+    public SseEmitter register(Long userId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+
+        // 타임아웃/완료/에러 시 저장소에서 제거 (메모리 누수 방지)
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError((e) -> remove(userId, emitter));
+
+        // 503 Service Unavailable 방지용 연결 확인 이벤트
+        // ID를 붙이지 않음: 붙이면 아직 재전송하지 않은 이벤트보다 큰 ID가 Last-Event-ID가 되어 재연결 시 건너뜀
+        if (!sendEvent(userId, emitter, SseEmitter.event()
+                .name("connect")
+                .data("Connected! [UserId: " + userId + "]"))) {
+            return emitter;
+        }
+
+        // 재전송 기준 ID 결정과 연결 공개를 버퍼 잠금 안에서 함께 처리 -> 그 뒤에 기록된 이벤트는 flush가 빠짐없이 전송
+        List<Connection> evicted = new ArrayList<>();
+        Connection connection;
+        Deque<BufferedEvent> buffer = replayBuffers.computeIfAbsent(userId, k -> new ArrayDeque<>());
+        synchronized (buffer) {
+            BufferedEvent latest = buffer.peekLast();
+            long latestId = latest != null ? latest.id() : 0L;
+            connection = new Connection(emitter, resumeFrom(userId, lastEventId, latestId));
+
+            connections.compute(userId, (k, list) -> {
+                List<Connection> userConnections = (list != null) ? list : new CopyOnWriteArrayList<>();
+                userConnections.add(connection);
+                // 연결 수 제한: 가장 오래된 연결부터 종료
+                while (userConnections.size() > maxConnectionsPerUser) {
+                    evicted.add(userConnections.remove(0));
+                }
+                return userConnections;
+            });
+        }
+        evicted.forEach(old -> old.emitter.complete());
+
+        // 놓친 이벤트 재전송 (요청 스레드에서 바로, 잠금 밖)
+        flush(userId, connection, buffer);
+        return emitter;
+    }
+
+    /**
+     * 2. 유저의 모든 연결로 이벤트 전송 (오프라인이어도 버퍼에는 기록)
+     * 기록(ID 발급)은 호출 스레드에서 바로 처리해 호출 순서를 보장하고, 실제 전송은 실행기에 넘김
+     */
+    public void send(Long userId, String eventName, Object data) {
+        Deque<BufferedEvent> buffer = replayBuffers.computeIfAbsent(userId, k -> new ArrayDeque<>());
+        synchronized (buffer) {
+            buffer.addLast(new BufferedEvent(eventSequence.incrementAndGet(), eventName, data, System.currentTimeMillis()));
+            while (buffer.size() > replayBufferSize) buffer.removeFirst();
+        }
+
+        List<Connection> userConnections = connections.get(userId);
+        if (userConnections == null || userConnections.isEmpty()) return;
+        taskExecutor.execute(() -> {
+            for (Connection connection : userConnections) {
+                flush(userId, connection, buffer);
+            }
+        });
+    }
+
+    public boolean isConnected(Long userId) {
+        List<Connection> userConnections = connections.get(userId);
+        return userConnections != null && !userConnections.isEmpty();
+    }
+
+    public int countConnections() {
+        return connections.values().stream().mapToInt(List::size).sum();
+    }
+
+    // --- 내부 메서드 ---
+
+    // 재전송 시작점: Last-Event-ID가 있으면 그 이후부터, 없으면 지금 이후 이벤트만
+    private long resumeFrom(Long userId, String lastEventId, long latestId) {
+        if (!StringUtils.hasText(lastEventId)) return latestId;
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            log.debug("잘못된 Last-Event-ID 무시 (User: {}): {}", userId, lastEventId);
+            return latestId;
+        }
+    }
+
+    // 연결이 아직 받지 못한 이벤트를 순서대로 전송 (버퍼 잠금은 목록 복사에만 사용, 전송은 연결별 잠금 안에서)
+    private void flush(Long userId, Connection connection, Deque<BufferedEvent> buffer) {
+        connection.sendLock.lock();
+        try {
+            List<BufferedEvent> pending = new ArrayList<>();
+            synchronized (buffer) {
+                for (BufferedEvent event : buffer) {
+                    if (event.id() > connection.lastSentId) pending.add(event);
+                }
+            }
+            for (BufferedEvent event : pending) {
+                if (!sendEvent(userId, connection.emitter, event.toBuilder())) return;
+                connection.lastSentId = event.id();
+            }
+        } finally {
+            connection.sendLock.unlock();
+        }
+    }
+
+    private void sendHeartbeats() {
+        // 예외가 밖으로 나가면 스케줄이 중단되므로 여기서 모두 처리
+        try {
+            connections.forEach((userId, userConnections) -> {
+                for (Connection connection : userConnections) {
+                    // 전송 중인 연결은 이미 데이터가 흐르고 있으므로 건너뜀 (느린 연결 때문에 heartbeat가 밀리지 않도록)
+                    if (!connection.sendLock.tryLock()) continue;
+                    try {
+                        sendEvent(userId, connection.emitter, SseEmitter.event().comment("heartbeat"));
+                    } finally {
+                        connection.sendLock.unlock();
+                    }
+                }
+            });
+            purgeStaleBuffers();
+        } catch (Exception e) {
+            log.error("SSE heartbeat 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    // 오프라인 상태로 TTL이 지난 유저의 버퍼는 정리 (버퍼 맵이 무한히 커지는 것 방지)
+    private void purgeStaleBuffers() {
+        long expireBefore = System.currentTimeMillis() - replayTtlMs;
+        replayBuffers.entrySet().removeIf(entry -> {
+            if (connections.containsKey(entry.getKey())) return false;
+            Deque<BufferedEvent> buffer = entry.getValue();
+            synchronized (buffer) {
+                BufferedEvent latest = buffer.peekLast();
+                return latest == null || latest.createdAt() < expireBefore;
+            }
+        });
+    }
+
+    // 실제 전송 (실패 시 해당 연결만 제거하고 false)
+    private boolean sendEvent(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            remove(userId, emitter);
+            log.warn("SSE 전송 실패 (User: {}): {}", userId, e.getMessage());
+            return false;
+        }
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        connections.computeIfPresent(userId, (k, list) -> {
+            list.removeIf(connection -> connection.emitter == emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    // 연결 + 전송 상태 (lastSentId는 sendLock 안에서만 읽고 씀)
+    private static final class Connection {
+        private final SseEmitter emitter;
+        private final ReentrantLock sendLock = new ReentrantLock();
+        private long lastSentId;
+
+        private Connection(SseEmitter emitter, long lastSentId) {
+            this.emitter = emitter;
+            this.lastSentId = lastSentId;
+        }
+    }
+
+    private record BufferedEvent(long id, String name, Object data, long createdAt) {
+        SseEmitter.SseEventBuilder toBuilder() {
+            return SseEmitter.event()
+                    .id(String.valueOf(id))
+                    .name(name)
+                    .data(data);
+        }
+    }
+}
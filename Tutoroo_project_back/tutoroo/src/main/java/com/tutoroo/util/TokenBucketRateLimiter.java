@@ -0,0 +1,145 @@
+package com.tutoroo.util;
+
+import com.tutoroo.entity.MembershipTier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [기능: 토큰 버킷 호출 제한기]
+ * 설명: 멤버십 등급별 버킷 크기/충전 속도로 요청을 허용하거나 거절합니다.
+ * 작동원리:
+ * 1. local 모드: 서버 메모리의 버킷 (단일 인스턴스용, 가장 빠름)
+ * 2. redis 모드: Lua 스크립트로 충전+차감을 원자적으로 처리 (여러 인스턴스가 한도를 공유)
+ * 3. Redis 장애 시 로컬 버킷으로 대체하여 최소한의 제한은 유지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenBucketRateLimiter {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${app.rate-limit.mode:local}")
+    private String mode;
+
+    @Value("${app.rate-limit.idle-eviction-ms:600000}")
+    private long idleEvictionMs;
+
+    private static final String KEY_PREFIX = "ratelimit:ai:";
+
+    // KEYS[1]=버킷 키, ARGV=[capacity, 밀리초당 충전량, cost] -> {허용 여부, 남은 토큰, 재시도까지 ms}
+    // 시각은 Redis 서버 TIME 기준 (인스턴스 간 시계 차이 영향 X)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>(
+            "local capacity = tonumber(ARGV[1]) " +
+            "local rate = tonumber(ARGV[2]) " +
+            "local cost = tonumber(ARGV[3]) " +
+            "local t = redis.call('TIME') " +
+            "local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000) " +
+            "local data = redis.call('HMGET', KEYS[1], 'tokens', 'ts') " +
+            "local tokens = tonumber(data[1]) " +
+            "local ts = tonumber(data[2]) " +
+            "if tokens == nil then tokens = capacity ts = now end " +
+            "tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate) " +
+            "local allowed = 0 " +
+            "local retry = 0 " +
+            "if tokens >= cost then tokens = tokens - cost allowed = 1 " +
+            "else retry = math.ceil((cost - tokens) / rate) end " +
+            "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now) " +
+            "redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate) + 1000) " +
+            "return {allowed, math.floor(tokens), retry}",
+            List.class);
+
+    // 로컬 버킷 저장소 (키: subject:tier)
+    private final Map<String, LocalBucket> localBuckets = new ConcurrentHashMap<>();
+
+    /**
+     * 토큰 차감 시도
+     * @param subject 제한 대상 (user:{id} 또는 ip:{addr})
+     */
+    public Decision tryConsume(String subject, MembershipTier tier, int cost) {
+        int capacity = tier.getAiBurstCapacity();
+        double refillPerMs = tier.getAiRequestsPerMinute() / 60_000.0;
+        int effectiveCost = Math.min(Math.max(cost, 1), capacity);
+        // 등급이 바뀌면 새 한도로 시작하도록 키에 등급 포함
+        String key = subject + ":" + tier.name();
+
+        if ("redis".equalsIgnoreCase(mode)) {
+            try {
+                return consumeRedis(key, capacity, refillPerMs, effectiveCost);
+            } catch (Exception e) {
+                log.warn("Redis 호출 제한 실패 - 로컬 버킷으로 대체: {}", e.getMessage());
+            }
+        }
+        return localBuckets
+                .computeIfAbsent(key, k -> new LocalBucket(capacity, refillPerMs))
+                .tryConsume(effectiveCost);
+    }
+
+    // 오래 쓰이지 않은 로컬 버킷 정리 (가득 찬 버킷과 동일하므로 지워도 결과는 같음)
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdleBuckets() {
+        long expireBefore = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(idleEvictionMs);
+        localBuckets.values().removeIf(bucket -> bucket.lastAccessNanos() < expireBefore);
+    }
+
+    // --- 내부 메서드 ---
+
+    @SuppressWarnings("unchecked")
+    private Decision consumeRedis(String key, int capacity, double refillPerMs, int cost) {
+        List<Long> result = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(KEY_PREFIX + key),
+                String.valueOf(capacity), String.valueOf(refillPerMs), String.valueOf(cost));
+        if (result == null || result.size() < 3) {
+            throw new IllegalStateException("토큰 버킷 스크립트 응답 이상: " + result);
+        }
+        return new Decision(result.get(0) == 1L, result.get(1), result.get(2));
+    }
+
+    /**
+     * 호출 제한 판정 결과
+     * @param retryAfterMs 거절된 경우 토큰이 충분해질 때까지 남은 시간
+     */
+    public record Decision(boolean allowed, long remaining, long retryAfterMs) {}
+
+    private static final class LocalBucket {
+        private final int capacity;
+        private final double refillPerNano;
+        private double tokens;
+        private long lastRefillNanos;
+
+        LocalBucket(int capacity, double refillPerMs) {
+            this.capacity = capacity;
+            this.refillPerNano = refillPerMs / 1_000_000.0;
+            this.tokens = capacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        synchronized Decision tryConsume(int cost) {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+            lastRefillNanos = now;
+
+            if (tokens >= cost) {
+                tokens -= cost;
+                return new Decision(true, (long) tokens, 0);
+            }
+            long retryAfterMs = (long) Math.ceil((cost - tokens) / refillPerNano / 1_000_000.0);
+            return new Decision(false, (long) tokens, retryAfterMs);
+        }
+
+        synchronized long lastAccessNanos() {
+            return lastRefillNanos;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package db.migration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * [V15] study_plans.roadmap_json의 detailedCurriculum을 roadmap_days로 이관
+ * - 플랜을 id 순으로 PAGE_SIZE개씩 읽어 일자별 행을 배치 INSERT
+ * - 일차 번호 규칙은 RoadmapService와 동일 (커리큘럼 안의 순서, 원래 표기는 day_label), 내용은 자르지 않음
+ * - 행에서 원본과 똑같이 다시 조립할 수 있을 때만 roadmap_json에서 detailedCurriculum을 제거
+ *   (빈 주차, 배열/객체가 아닌 값, 알 수 없는 필드, 문자열이 아닌 값이 있으면 원본을 그대로 남김)
+ * - JSON이 깨진 플랜은 그대로 둠 (상세 화면에서 기존처럼 파싱 오류로 처리)
+ */
+public class V15__split_roadmap_json extends BaseJavaMigration {
+
+    private static final int PAGE_SIZE = 200;
+    private static final Set<String> DETAIL_FIELDS = Set.of("day", "topic", "method", "material");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection con = context.getConnection();
+        long lastId = 0;
+
+        try (PreparedStatement select = con.prepareStatement(
+                "SELECT id, roadmap_json FROM study_plans WHERE id > ? AND roadmap_json LIKE '%detailedCurriculum%' ORDER BY id LIMIT " + PAGE_SIZE);
+             PreparedStatement insertDay = con.prepareStatement(
+                     "INSERT INTO roadmap_days (plan_id, day, day_label, week, topic, method, material) VALUES (?, ?, ?, ?, ?, ?, ?)");
+             PreparedStatement updatePlan = con.prepareStatement(
+                     "UPDATE study_plans SET roadmap_json = ?, updated_at = updated_at WHERE id = ?")) {
+
+            while (true) {
+                select.setLong(1, lastId);
+                int plans = 0;
+                try (ResultSet rs = select.executeQuery()) {
+                    while (rs.next()) {
+                        plans++;
+                        lastId = rs.getLong("id");
+                        split(lastId, rs.getString("roadmap_json"), insertDay, updatePlan);
+                    }
+                }
+                if (plans == 0) break;
+                insertDay.executeBatch();
+                updatePlan.executeBatch();
+            }
+        }
+    }
+
+    private void split(long planId, String json, PreparedStatement insertDay, PreparedStatement updatePlan) throws Exception {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(json);
+        } catch (Exception e) {
+            return;
+        }
+        if (!(root instanceof ObjectNode outline) || !root.path("detailedCurriculum").isObject()) return;
+
+        boolean lossless = true;
+        int day = 0;
+        Iterator<Map.Entry<String, JsonNode>> weeks = root.path("detailedCurriculum").fields();
+        while (weeks.hasNext()) {
+            Map.Entry<String, JsonNode> week = weeks.next();
+            if (!week.getValue().isArray() || week.getValue().isEmpty()) {
+                lossless = false;
+                continue;
+            }
+            for (JsonNode detail : week.getValue()) {
+                if (!detail.isObject()) {
+                    lossless = false;
+                    continue;
+                }
+                lossless &= isPlainDetail(detail);
+
+                insertDay.setLong(1, planId);
+                insertDay.setInt(2, ++day);
+                insertDay.setString(3, text(detail, "day"));
+                insertDay.setString(4, week.getKey());
+                insertDay.setString(5, text(detail, "topic"));
+                insertDay.setString(6, text(detail, "method"));
+                insertDay.setString(7, text(detail, "material"));
+                insertDay.addBatch();
+            }
+        }
+
+        // 그대로 옮기지 못한 플랜은 원본 커리큘럼을 남겨 둠 (상세 화면은 원본, 수업 주제는 행에서 조회)
+        if (!lossless) return;
+        outline.remove("detailedCurriculum");
+        updatePlan.setString(1, objectMapper.writeValueAsString(outline));
+        updatePlan.setLong(2, planId);
+        updatePlan.addBatch();
+    }
+
+    // 알려진 필드만 있고 값이 모두 문자열/null -> 행에서 똑같이 다시 만들 수 있음
+    private boolean isPlainDetail(JsonNode detail) {
+        Iterator<Map.Entry<String, JsonNode>> fields = detail.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (!DETAIL_FIELDS.contains(field.getKey())) return false;
+            if (!field.getValue().isTextual() && !field.getValue().isNull()) return false;
+        }
+        return true;
+    }
+
+    private String text(JsonNode detail, String field) {
+        JsonNode value = detail.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+}
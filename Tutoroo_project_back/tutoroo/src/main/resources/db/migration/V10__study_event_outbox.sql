@@ -0,0 +1,31 @@
+-- =====================================================
+-- [V10] 학습 완료 이벤트 Outbox
+-- - 학습 로그와 같은 트랜잭션에서 보상 이벤트를 기록하고, 별도 폴러가 비동기로 처리
+-- - study_log_id 유일 -> 로그 1건당 보상 이벤트는 1건
+-- =====================================================
+
+-- -----------------------------------------------------
+-- 학습 이벤트 Outbox (Study Event Outbox)
+-- [용도]: 포인트/랭킹/펫 경험치/알림 보상 처리 대기열
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `study_event_outbox` (
+                                                    `id`              BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                                    `event_type`      VARCHAR(30) NOT NULL,              -- STUDY_COMPLETED
+                                                    `study_log_id`    BIGINT NOT NULL,
+                                                    `user_id`         BIGINT NOT NULL,
+                                                    `score`           INT DEFAULT 0,
+    `point_change`    INT DEFAULT 0,
+    `pet_exp`         INT DEFAULT 0,
+    `status`          VARCHAR(20) NOT NULL DEFAULT 'PENDING', -- PENDING, PROCESSING, DONE, FAILED
+    `attempts`        INT DEFAULT 0,
+    `next_attempt_at` DATETIME DEFAULT CURRENT_TIMESTAMP,
+    `claimed_by`      VARCHAR(64),                            -- 처리 중인 폴러 식별자
+    `claimed_at`      DATETIME,
+    `last_error`      VARCHAR(500),
+    `created_at`      DATETIME DEFAULT CURRENT_TIMESTAMP,
+    `processed_at`    DATETIME,
+
+    UNIQUE KEY `uk_outbox_study_log` (`study_log_id`),
+    INDEX `idx_outbox_status_next` (`status`, `next_attempt_at`, `id`),
+    INDEX `idx_outbox_claimed_by` (`claimed_by`)
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,19 @@
+-- =====================================================
+-- [V11] study_logs 유저 단위 조회 경로 개선
+-- 1. 플랜 소유자 user_id 비정규화 (유저 단위 조회에서 study_plans 조인 제거)
+-- 2. (user_id, study_date, test_score) 인덱스: 일별/월별/주간 조회 범위 스캔 + 주간 집계 커버링
+-- =====================================================
+
+ALTER TABLE `study_logs` ADD COLUMN `user_id` BIGINT NULL AFTER `plan_id`;
+
+-- 기존 로그 채우기 (플랜의 소유자는 바뀌지 않으므로 이후에는 저장 시점에 함께 기록)
+UPDATE `study_logs` l
+    JOIN `study_plans` p ON l.`plan_id` = p.`id`
+SET l.`user_id` = p.`user_id`
+WHERE l.`user_id` IS NULL;
+
+ALTER TABLE `study_logs` MODIFY COLUMN `user_id` BIGINT NOT NULL;
+
+-- WHERE user_id = ? AND study_date >= ? AND study_date < ? (캘린더, 펫 일기, 주간 리포트)
+-- test_score까지 포함해 주간 집계(COUNT, AVG)는 테이블을 읽지 않고 인덱스만으로 처리
+CREATE INDEX `idx_study_logs_user_date` ON `study_logs` (`user_id`, `study_date`, `test_score`);
@@ -0,0 +1,18 @@
+-- =====================================================
+-- [V12] 학습 달력용 일별 요약 (Rollup)
+-- 로그 저장 시 (user_id, study_date) 행을 증분 갱신 -> 달력은 최대 31행 PK 범위 조회
+-- 기존 로그는 daily-summary-backfill 배치가 유저 단위 청크로 채움
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS `study_daily_summary` (
+                                                     `user_id`     BIGINT NOT NULL,
+                                                     `study_date`  DATE NOT NULL,
+                                                     `log_count`   INT NOT NULL DEFAULT 0,
+                                                     `is_done`     BOOLEAN NOT NULL DEFAULT FALSE,      -- 그날 완료한 학습이 하나라도 있는지
+                                                     `best_score`  INT NULL,                            -- 그날 최고 점수
+                                                     `topics`      VARCHAR(500) NULL,                   -- 그날 학습 주제 (중복 제거, ' / ' 구분)
+    `updated_at`  DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (`user_id`, `study_date`),
+    FOREIGN KEY (`user_id`) REFERENCES `users`(`id`) ON DELETE CASCADE
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
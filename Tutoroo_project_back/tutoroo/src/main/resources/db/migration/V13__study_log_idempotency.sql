@@ -0,0 +1,42 @@
+-- =====================================================
+-- [V13] 학습 로그 멱등 저장
+-- 1. study_plans.last_day_count: 플랜의 N일차 카운터 (UPDATE 한 번으로 원자적으로 증가)
+-- 2. study_plans.last_log_key: 마지막으로 저장한 로그 요청의 멱등 키 (직전 요청 재시도 판별)
+-- 3. study_logs.idempotency_key + (plan_id, day_count), (plan_id, idempotency_key) 유니크
+-- 4. 유니크 키를 막는 중복 N일차 로그는 지우지 않고 study_logs_duplicates로 옮김 (점수/AI 피드백 보존)
+-- =====================================================
+
+ALTER TABLE `study_plans`
+    ADD COLUMN `last_day_count` INT NOT NULL DEFAULT 0 COMMENT '마지막으로 기록한 N일차' AFTER `progress_rate`,
+    ADD COLUMN `last_log_key`   VARCHAR(64) NULL COMMENT '마지막 학습 로그 요청의 멱등 키' AFTER `last_day_count`;
+
+ALTER TABLE `study_logs` ADD COLUMN `idempotency_key` VARCHAR(64) NULL AFTER `day_count`;
+
+-- 동시 제출로 같은 N일차가 두 번 기록된 로그 보관 (먼저 저장된 로그만 study_logs에 남김)
+-- 같은 컬럼 구조 + 플랜 삭제 시 함께 삭제, 회원 영구 삭제 시 user_id로 정리
+CREATE TABLE IF NOT EXISTS `study_logs_duplicates` LIKE `study_logs`;
+ALTER TABLE `study_logs_duplicates`
+    ADD COLUMN `archived_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    ADD CONSTRAINT `fk_study_logs_duplicates_plan` FOREIGN KEY (`plan_id`) REFERENCES `study_plans`(`id`) ON DELETE CASCADE;
+
+INSERT INTO `study_logs_duplicates`
+SELECT l.*, NOW() FROM `study_logs` l
+WHERE EXISTS (SELECT 1 FROM `study_logs` earlier
+              WHERE earlier.`plan_id` = l.`plan_id`
+                AND earlier.`day_count` = l.`day_count`
+                AND earlier.`id` < l.`id`);
+
+DELETE l FROM `study_logs` l
+    JOIN `study_logs_duplicates` d ON d.`id` = l.`id`;
+
+-- 카운터 초기값 = 플랜의 마지막 N일차
+UPDATE `study_plans` p
+    JOIN (SELECT `plan_id`, MAX(`day_count`) AS `max_day` FROM `study_logs` GROUP BY `plan_id`) l
+      ON l.`plan_id` = p.`id`
+SET p.`last_day_count` = l.`max_day`;
+
+-- 기존 (plan_id, day_count) 인덱스는 유니크 키로 대체 (plan_id FK 인덱스 역할도 그대로 수행)
+ALTER TABLE `study_logs`
+    ADD UNIQUE KEY `uk_study_logs_plan_day` (`plan_id`, `day_count`),
+    ADD UNIQUE KEY `uk_study_logs_plan_idempotency` (`plan_id`, `idempotency_key`),
+    DROP INDEX `idx_study_logs_plan_day`;
@@ -0,0 +1,33 @@
+-- =====================================================
+-- [V14] 로드맵 일자별 커리큘럼 분리
+-- study_plans.roadmap_json의 detailedCurriculum(로드맵 용량 대부분)을 일자별 행으로 분리
+-- - 수업/테스트는 (plan_id, day) PK로 그날 주제만 조회
+--   day = 커리큘럼 안의 순서 (1부터): AI가 주차마다 "1일차"부터 다시 세도 N번째 수업과 일치하고 행이 겹치지 않음
+-- - 원래 일차 표기/주차/내용은 길이 제한 없이 그대로 보관 (상세 화면에서 생성 당시와 같은 로드맵을 다시 조립)
+-- - roadmap_json에는 요약/목차/시험 일정만 남김 (기존 데이터 이관은 V15 Java 마이그레이션)
+-- - 누락돼 있던 study_plans.custom_option 컬럼 보강
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS `roadmap_days` (
+                                              `plan_id`   BIGINT NOT NULL,
+                                              `day`       INT NOT NULL,                 -- N번째 수업 (커리큘럼 순서)
+                                              `day_label` TEXT NULL,                    -- 원래 일차 표기 ("1일차")
+                                              `week`      TEXT NOT NULL,                -- "1주차" (detailedCurriculum의 키)
+                                              `topic`     TEXT NULL,
+                                              `method`    TEXT NULL,
+                                              `material`  TEXT NULL,
+
+    PRIMARY KEY (`plan_id`, `day`),
+    FOREIGN KEY (`plan_id`) REFERENCES `study_plans`(`id`) ON DELETE CASCADE
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 플랜 조회가 명시 컬럼 목록으로 바뀌면서 custom_option이 필수가 됨
+-- (매퍼는 이미 읽고 쓰지만 V1에 빠져 있던 컬럼: 수동으로 추가한 DB가 있을 수 있어 없을 때만 추가)
+SET @add_custom_option = IF(
+    (SELECT COUNT(*) FROM information_schema.COLUMNS
+     WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'study_plans' AND COLUMN_NAME = 'custom_option') = 0,
+    'ALTER TABLE `study_plans` ADD COLUMN `custom_option` TEXT NULL COMMENT ''수업 커스텀 요청 (예: 사투리로 설명해줘)'' AFTER `custom_tutor_name`',
+    'DO 0');
+PREPARE add_custom_option FROM @add_custom_option;
+EXECUTE add_custom_option;
+DEALLOCATE PREPARE add_custom_option;
@@ -0,0 +1,16 @@
+-- =====================================================
+-- [V16] 참조 데이터 버전
+-- pet_growth_rule, pet_skills, prompts는 각 서버가 기동 시 메모리에 올려두고 조회 없이 사용
+-- - 서버는 이 버전만 주기적으로 확인하다가 값이 바뀌면 세 테이블을 다시 읽음
+-- - 참조 데이터를 바꾸는 마이그레이션/수동 SQL은 같은 트랜잭션에서 버전을 올릴 것
+--   UPDATE reference_data_version SET version = version + 1 WHERE id = 1;
+--   (관리자 API POST /api/admin/reference-data/reload 도 버전을 올림)
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS `reference_data_version` (
+                                                        `id`          TINYINT PRIMARY KEY,        -- 항상 1 (단일 행)
+                                                        `version`     BIGINT NOT NULL,
+                                                        `updated_at`  DATETIME NOT NULL
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT IGNORE INTO `reference_data_version` (`id`, `version`, `updated_at`) VALUES (1, 1, NOW());
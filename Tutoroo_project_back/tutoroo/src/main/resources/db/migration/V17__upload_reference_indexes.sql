@@ -0,0 +1,10 @@
+-- =====================================================
+-- [V17] 업로드 파일 고아 정리 배치
+-- 업로드 폴더의 파일을 묶음으로 읽어 "아직 참조하는 행이 있는지" IN 조회로 확인하기 위한 인덱스
+-- (참조 컬럼: users.profile_image, pet_info.custom_image_url, tts_cache.audio_path, practice_questions.image_url)
+-- =====================================================
+
+CREATE INDEX `idx_users_profile_image` ON `users` (`profile_image`);
+CREATE INDEX `idx_pet_info_custom_image_url` ON `pet_info` (`custom_image_url`);
+CREATE INDEX `idx_tts_cache_audio_path` ON `tts_cache` (`audio_path`);
+CREATE INDEX `idx_practice_questions_image_url` ON `practice_questions` (`image_url`);
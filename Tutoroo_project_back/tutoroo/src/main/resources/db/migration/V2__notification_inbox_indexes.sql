@@ -0,0 +1,34 @@
+-- =====================================================
+-- [V2] 알림 보관함 성능 개선
+-- 1. 키셋 페이지네이션용 (user_id, id) 인덱스
+-- 2. 아카이빙 대상 조회용 created_at 인덱스
+-- 3. 오래된 알림을 옮겨둘 아카이브 테이블
+-- =====================================================
+
+-- (user_id, id DESC): WHERE user_id = ? AND id < ? ORDER BY id DESC LIMIT n 을 인덱스 범위 스캔으로 처리
+CREATE INDEX `idx_noti_user_id` ON `notifications` (`user_id`, `id` DESC);
+
+-- (user_id, is_read, id): 안 읽은 알림 COUNT / 청크 단위 읽음 처리가 인덱스만으로 끝나도록 커버링
+CREATE INDEX `idx_noti_user_read_id` ON `notifications` (`user_id`, `is_read`, `id`);
+DROP INDEX `idx_noti_user_read` ON `notifications`;
+
+-- 아카이빙 잡이 보존 기간이 지난 행을 찾을 때 사용
+CREATE INDEX `idx_noti_created` ON `notifications` (`created_at`);
+
+-- -----------------------------------------------------
+-- 알림 아카이브 (Notifications Archive)
+-- [용도]: 보존 기간이 지난 알림을 hot 테이블에서 분리 보관
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `notifications_archive` (
+                                                       `id`            BIGINT PRIMARY KEY,
+                                                       `user_id`       BIGINT NOT NULL,
+                                                       `title`         VARCHAR(100),
+    `message`       TEXT NOT NULL,
+    `type`          VARCHAR(20) DEFAULT 'INFO',
+    `is_read`       BOOLEAN DEFAULT FALSE,
+    `related_url`   VARCHAR(255),
+    `created_at`    DATETIME,
+    `archived_at`   DATETIME DEFAULT CURRENT_TIMESTAMP,
+
+    INDEX `idx_noti_archive_user` (`user_id`, `id`)
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
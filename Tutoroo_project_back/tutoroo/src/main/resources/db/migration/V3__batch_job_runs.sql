@@ -0,0 +1,30 @@
+-- =====================================================
+-- [V3] 배치 작업 실행 기록 + 미드나잇 다이어리 조회 인덱스
+-- 1. 작업 실행별 진행 상황(체크포인트)과 결과 요약 저장
+-- 2. 활성 펫 보유 유저를 user_id 순서로 끊어 읽기 위한 인덱스
+-- 3. 재실행 시 이미 쓴 일기를 건너뛰기 위한 (pet_id, date) 인덱스
+-- =====================================================
+
+-- -----------------------------------------------------
+-- 배치 작업 실행 기록 (Batch Job Runs)
+-- [용도]: 작업 재개 지점(checkpoint_id) 및 실행 결과 요약
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `batch_job_runs` (
+                                                `id`              BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                                `job_name`        VARCHAR(50) NOT NULL,
+                                                `run_key`         VARCHAR(50) NOT NULL,  -- 같은 작업의 실행 구분자 (예: 대상 날짜)
+                                                `status`          VARCHAR(20) NOT NULL,  -- RUNNING, COMPLETED, FAILED
+    `checkpoint_id`   BIGINT DEFAULT 0,                -- 여기까지 처리 완료 (다음 실행은 이 ID 이후부터)
+    `total_count`     INT DEFAULT 0,
+    `succeeded_count` INT DEFAULT 0,
+    `failed_count`    INT DEFAULT 0,
+    `started_at`      DATETIME,
+    `finished_at`     DATETIME,
+    `duration_ms`     BIGINT,
+    `error_message`   VARCHAR(500),
+
+    UNIQUE KEY `uk_job_run` (`job_name`, `run_key`)
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE INDEX `idx_pet_status_user` ON `pet_info` (`status`, `user_id`);
+CREATE INDEX `idx_diary_pet_date` ON `pet_diary` (`pet_id`, `date`);
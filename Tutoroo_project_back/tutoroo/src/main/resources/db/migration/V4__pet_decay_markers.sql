@@ -0,0 +1,8 @@
+-- =====================================================
+-- [V4] 펫 가출 배치를 집합 기반 UPDATE로 처리하기 위한 컬럼
+-- 1. decay_applied_at: 여기까지의 시간은 fullness/intimacy에 이미 반영됨 (중복 차감 방지)
+-- 2. ran_away_at: 가출 처리된 시각 (배치가 이번 실행에서 가출시킨 유저를 다시 찾는 표식)
+-- =====================================================
+ALTER TABLE `pet_info`
+    ADD COLUMN `decay_applied_at` DATETIME NULL AFTER `last_slept_at`,
+    ADD COLUMN `ran_away_at`      DATETIME NULL AFTER `decay_applied_at`;
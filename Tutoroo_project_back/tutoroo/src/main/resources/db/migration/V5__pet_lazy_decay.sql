@@ -0,0 +1,22 @@
+-- =====================================================
+-- [V5] 펫 스탯 지연 계산(Lazy Decay) 모델
+-- - fullness/intimacy는 decay_applied_at 시점의 기준값, 현재 값은 조회 시 경과 시간으로 계산
+-- - runaway_at: 이대로 방치하면 친밀도가 가출 기준 이하로 떨어지는 시각 (쓰기 시점에 미리 계산)
+-- - 가출 배치는 (status, runaway_at) 인덱스 범위 조회만으로 대상 선별
+-- =====================================================
+ALTER TABLE `pet_info`
+    ADD COLUMN `runaway_at` DATETIME NULL AFTER `decay_applied_at`;
+
+-- 기존 데이터: 저장된 값을 현재 시점 기준값으로 간주
+UPDATE `pet_info`
+SET `decay_applied_at` = NOW()
+WHERE `decay_applied_at` IS NULL;
+
+-- 가출 기준(20) / 시간당 친밀도 감소(3)는 PetService 상수와 동일
+UPDATE `pet_info`
+SET `runaway_at` = IF(`intimacy` <= 20,
+                      `decay_applied_at`,
+                      DATE_ADD(`decay_applied_at`, INTERVAL CEIL((`intimacy` - 20) / 3) HOUR));
+
+CREATE INDEX `idx_pet_status_runaway` ON `pet_info` (`status`, `runaway_at`);
+CREATE INDEX `idx_pet_ran_away` ON `pet_info` (`ran_away_at`);
@@ -0,0 +1,7 @@
+-- =====================================================
+-- [V6] 배치 실행 기록에 fencing token 추가
+-- - 분산 잠금을 잡을 때 받은 번호를 기록하고, 진행 상황 저장 시 번호가 같을 때만 반영
+-- - 임대를 잃은 이전 소유자가 늦게 쓰는 체크포인트/결과를 거절
+-- =====================================================
+ALTER TABLE `batch_job_runs`
+    ADD COLUMN `fencing_token` BIGINT NOT NULL DEFAULT 0 AFTER `status`;
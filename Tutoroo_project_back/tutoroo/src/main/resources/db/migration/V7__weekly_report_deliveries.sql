@@ -0,0 +1,27 @@
+-- =====================================================
+-- [V7] 주간 학부모 리포트 파이프라인
+-- 1. 학생별/주차별 발송 기록 (재실행 시 중복 발송 방지)
+-- 2. 주간 로그 집계용 (plan_id, study_date) 인덱스
+-- =====================================================
+
+-- -----------------------------------------------------
+-- 주간 리포트 발송 기록 (Weekly Report Deliveries)
+-- [용도]: 이미 처리된 학생 건너뛰기 + 발송 당시 통계 보관
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `weekly_report_deliveries` (
+                                                          `id`          BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                                          `user_id`     BIGINT NOT NULL,
+                                                          `week_start`  DATE NOT NULL,          -- 리포트 대상 주의 월요일
+                                                          `status`      VARCHAR(20) NOT NULL,   -- SENT, SKIPPED
+    `log_count`   INT DEFAULT 0,
+    `study_days`  INT DEFAULT 0,
+    `avg_score`   INT NULL,
+    `message`     TEXT,
+    `created_at`  DATETIME DEFAULT CURRENT_TIMESTAMP,
+
+    UNIQUE KEY `uk_weekly_report` (`user_id`, `week_start`),
+    FOREIGN KEY (`user_id`) REFERENCES `users`(`id`) ON DELETE CASCADE
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- WHERE plan_id = ? AND study_date >= ? AND study_date < ? 를 인덱스 범위 스캔으로 처리
+CREATE INDEX `idx_study_logs_plan_date` ON `study_logs` (`plan_id`, `study_date`);
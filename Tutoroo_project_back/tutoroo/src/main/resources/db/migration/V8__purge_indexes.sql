@@ -0,0 +1,6 @@
+-- =====================================================
+-- [V8] 탈퇴 회원 영구 삭제 배치
+-- 삭제 대상(WITHDRAWN) 회원을 id 순으로 끊어 읽기 위한 인덱스
+-- =====================================================
+
+CREATE INDEX `idx_users_status_id` ON `users` (`status`, `id`);
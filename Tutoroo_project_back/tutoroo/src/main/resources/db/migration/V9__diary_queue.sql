@@ -0,0 +1,18 @@
+-- =====================================================
+-- [V9] 다이어리 시간 분산 큐
+-- - 자정에 몰리던 일기 생성을 밤 시간대 슬롯으로 나눠 처리
+-- - 적재 시점에 슬롯이 정해지므로 서버가 재시작돼도 같은 순서로 이어서 처리
+-- =====================================================
+
+-- -----------------------------------------------------
+-- 다이어리 대기열 (Diary Queue)
+-- [용도]: 날짜별/슬롯별 일기 작성 대상 회원
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `diary_queue` (
+                                             `diary_date`  DATE NOT NULL,     -- 일기 대상 날짜
+                                             `slot`        INT NOT NULL,      -- 처리 시간대 (0 ~ slots-1)
+                                             `user_id`     BIGINT NOT NULL,
+                                             `created_at`  DATETIME DEFAULT CURRENT_TIMESTAMP,
+
+                                             PRIMARY KEY (`diary_date`, `slot`, `user_id`)
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
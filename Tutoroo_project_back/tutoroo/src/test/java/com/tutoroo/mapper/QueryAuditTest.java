@@ -0,0 +1,237 @@
+package com.tutoroo.mapper;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.reflection.DefaultReflectorFactory;
+import org.apache.ibatis.reflection.MetaClass;
+import org.apache.ibatis.reflection.ReflectorFactory;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 매퍼 SELECT 컬럼 감사 테스트 (DB 불필요).
+ * 모든 매퍼 XML의 select가 가져오는 컬럼을 펼쳐서
+ * 1. SELECT * / 별칭.* 이 없는지, 2. password는 인증 경로에서만 읽는지,
+ * 3. src/test/resources/query-audit/select-columns.txt 스냅샷과 같은지,
+ * 4. 엔티티로 자동 매핑하는 select의 컬럼이 모두 엔티티 속성으로 들어가는지 확인합니다.
+ * 조회 컬럼을 의도적으로 바꿨다면 -Dquery-audit.update=true 로 한 번 실행해 스냅샷을 갱신하고 함께 커밋합니다.
+ */
+class QueryAuditTest {
+
+    private static final Path SNAPSHOT = Path.of("src/test/resources/query-audit/select-columns.txt");
+
+    // 비밀번호 해시는 로그인, 비밀번호 변경/찾기 경로만 읽음
+    private static final Set<String> PASSWORD_READERS = Set.of(
+            "UserMapper.findById",
+            "UserMapper.findByUsername",
+            "UserMapper.findByNameAndEmailAndPhone",
+            "UserMapper.findByUsernameAndEmail");
+
+    private static final Pattern PROPERTY = Pattern.compile("\\$\\{(\\w+)}");
+    private static final Pattern ALIAS = Pattern.compile("(?is).*\\s+AS\\s+`?(\\w+)`?$");
+    private static final Pattern PLAIN_COLUMN = Pattern.compile("(?:\\w+\\.)?`?(\\w+)`?");
+
+    private static Resource[] mappers;
+    private static Map<String, List<String>> projections;
+    private static Map<String, String> resultTypes;
+
+    @BeforeAll
+    static void readMappers() throws Exception {
+        mappers = new PathMatchingResourcePatternResolver().getResources("classpath:mapper/*.xml");
+        projections = new TreeMap<>();
+        resultTypes = new TreeMap<>();
+        for (Resource mapper : mappers) {
+            try (InputStream in = mapper.getInputStream()) {
+                projections.putAll(selectProjections(in, resultTypes));
+            }
+        }
+    }
+
+    @Test
+    void 모든_resultMap이_엔티티와_맞는다() throws Exception {
+        // resultMap의 property, constructor 인자가 클래스에 없으면 파싱 단계에서 예외
+        Configuration configuration = new Configuration();
+        configuration.setMapUnderscoreToCamelCase(true);
+        configuration.getTypeAliasRegistry().registerAliases("com.tutoroo.entity");
+        for (Resource mapper : mappers) {
+            try (InputStream in = mapper.getInputStream()) {
+                new XMLMapperBuilder(in, configuration, mapper.getDescription(), configuration.getSqlFragments()).parse();
+            }
+        }
+        assertThat(configuration.getIncompleteResultMaps()).isEmpty();
+        assertThat(configuration.getIncompleteStatements()).isEmpty();
+    }
+
+    @Test
+    void 자동_매핑_컬럼이_엔티티_속성과_맞는다() throws Exception {
+        // resultType 자동 매핑은 맞는 속성이 없는 컬럼을 조용히 버리므로 (값이 null로 남음) 여기서 잡음
+        ReflectorFactory reflectorFactory = new DefaultReflectorFactory();
+        for (Map.Entry<String, String> entry : resultTypes.entrySet()) {
+            if (!entry.getValue().startsWith("com.tutoroo.entity.")) continue;
+            MetaClass metaClass = MetaClass.forClass(Class.forName(entry.getValue()), reflectorFactory);
+            for (String column : projections.get(entry.getKey())) {
+                // MyBatis와 같은 규칙: 밑줄 제거 후 대소문자 무시
+                String property = metaClass.findProperty(column, true);
+                assertThat(property != null && metaClass.hasSetter(property))
+                        .as("%s: %s 컬럼에 맞는 %s 속성이 없음", entry.getKey(), column, entry.getValue())
+                        .isTrue();
+            }
+        }
+    }
+
+    @Test
+    void SELECT_별표를_쓰지_않는다() {
+        projections.forEach((statement, columns) -> assertThat(columns)
+                .as(statement)
+                .noneMatch(column -> column.equals("*") || column.endsWith(".*")));
+    }
+
+    @Test
+    void 비밀번호는_인증_경로에서만_읽는다() {
+        projections.forEach((statement, columns) -> {
+            if (!PASSWORD_READERS.contains(statement)) {
+                assertThat(columns).as(statement).doesNotContain("password");
+            }
+        });
+    }
+
+    @Test
+    void 조회_컬럼이_스냅샷과_같다() throws Exception {
+        StringBuilder actual = new StringBuilder();
+        projections.forEach((statement, columns) ->
+                actual.append(statement).append(": ").append(String.join(", ", columns)).append('\n'));
+
+        if (Boolean.getBoolean("query-audit.update")) {
+            Files.createDirectories(SNAPSHOT.getParent());
+            Files.writeString(SNAPSHOT, actual, StandardCharsets.UTF_8);
+        }
+        assertThat(actual.toString()).isEqualTo(Files.readString(SNAPSHOT, StandardCharsets.UTF_8));
+    }
+
+    // --- 내부 메서드 ---
+
+    // 매퍼 한 파일의 select id -> 조회 컬럼(별칭이 있으면 별칭), resultType이 있으면 resultTypes에도 기록
+    private static Map<String, List<String>> selectProjections(InputStream in, Map<String, String> resultTypes) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+        DocumentBuilder builder = factory.newDocumentBuilder();
+        Document document = builder.parse(in);
+
+        Element root = document.getDocumentElement();
+        String namespace = root.getAttribute("namespace");
+        String mapperName = namespace.substring(namespace.lastIndexOf('.') + 1);
+
+        Map<String, Element> fragments = new HashMap<>();
+        NodeList sqls = root.getElementsByTagName("sql");
+        for (int i = 0; i < sqls.getLength(); i++) {
+            Element sql = (Element) sqls.item(i);
+            fragments.put(sql.getAttribute("id"), sql);
+        }
+
+        Map<String, List<String>> result = new HashMap<>();
+        NodeList selects = root.getElementsByTagName("select");
+        for (int i = 0; i < selects.getLength(); i++) {
+            Element select = (Element) selects.item(i);
+            String sql = expand(select, fragments, Map.of());
+            String statement = mapperName + "." + select.getAttribute("id");
+            result.put(statement, projection(sql));
+            if (select.hasAttribute("resultType")) {
+                resultTypes.put(statement, select.getAttribute("resultType"));
+            }
+        }
+        return result;
+    }
+
+    // <include>를 펼치고 동적 태그(<if>, <foreach> 등)는 본문 텍스트만 이어 붙임
+    private static String expand(Node node, Map<String, Element> fragments, Map<String, String> properties) {
+        StringBuilder sql = new StringBuilder();
+        NodeList children = node.getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            Node child = children.item(i);
+            if (child.getNodeType() == Node.TEXT_NODE || child.getNodeType() == Node.CDATA_SECTION_NODE) {
+                sql.append(substitute(child.getNodeValue(), properties));
+            } else if (child instanceof Element element && element.getTagName().equals("include")) {
+                Map<String, String> scoped = new HashMap<>(properties);
+                NodeList props = element.getElementsByTagName("property");
+                for (int j = 0; j < props.getLength(); j++) {
+                    Element prop = (Element) props.item(j);
+                    scoped.put(prop.getAttribute("name"), prop.getAttribute("value"));
+                }
+                Element fragment = fragments.get(element.getAttribute("refid"));
+                assertThat(fragment).as("sql fragment %s", element.getAttribute("refid")).isNotNull();
+                sql.append(' ').append(expand(fragment, fragments, scoped)).append(' ');
+            } else if (child instanceof Element element) {
+                sql.append(' ').append(expand(element, fragments, properties)).append(' ');
+            }
+        }
+        return sql.toString();
+    }
+
+    private static String substitute(String text, Map<String, String> properties) {
+        Matcher matcher = PROPERTY.matcher(text);
+        StringBuilder out = new StringBuilder();
+        while (matcher.find()) {
+            String value = properties.getOrDefault(matcher.group(1), matcher.group());
+            matcher.appendReplacement(out, Matcher.quoteReplacement(value));
+        }
+        matcher.appendTail(out);
+        return out.toString();
+    }
+
+    // 첫 SELECT부터 같은 괄호 깊이의 FROM 전까지를 최상위 콤마로 나눔
+    private static List<String> projection(String sql) {
+        String text = sql.replaceAll("--[^\\n]*", " ").replaceAll("\\s+", " ").trim();
+        Matcher select = Pattern.compile("(?i)\\bSELECT\\s+(DISTINCT\\s+)?").matcher(text);
+        if (!select.find()) return List.of();
+
+        List<String> columns = new ArrayList<>();
+        int depth = 0;
+        int start = select.end();
+        int i = start;
+        for (; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '(') depth++;
+            else if (c == ')') depth--;
+            else if (depth == 0 && c == ',') {
+                columns.add(column(text.substring(start, i)));
+                start = i + 1;
+            } else if (depth == 0 && text.regionMatches(true, i, " FROM ", 0, 6)) {
+                break;
+            }
+        }
+        columns.add(column(text.substring(start, i)));
+        return columns;
+    }
+
+    // 별칭이 있으면 별칭, 단순 컬럼이면 테이블 별칭을 뗀 이름, 그 밖의 식은 그대로
+    private static String column(String item) {
+        String trimmed = item.trim();
+        Matcher alias = ALIAS.matcher(trimmed);
+        if (alias.matches()) return alias.group(1);
+        Matcher plain = PLAIN_COLUMN.matcher(trimmed);
+        return plain.matches() ? plain.group(1) : trimmed;
+    }
+}
@@ -0,0 +1,108 @@
+package com.tutoroo.mapper;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * study_logs 조회 경로의 실행 계획 회귀 테스트.
+ * 매퍼 XML의 SQL을 그대로 EXPLAIN 해서 study_logs를 풀 스캔(type = ALL)하거나 인덱스 없이 읽으면 실패합니다.
+ * Flyway 마이그레이션이 적용된 MySQL이 필요하므로 TUTOROO_EXPLAIN_DB_URL이 있을 때만 실행됩니다.
+ * (예: TUTOROO_EXPLAIN_DB_URL=jdbc:mysql://localhost:3306/tutoroo TUTOROO_EXPLAIN_DB_USER=root TUTOROO_EXPLAIN_DB_PASSWORD=... mvn test)
+ */
+@EnabledIfEnvironmentVariable(named = "TUTOROO_EXPLAIN_DB_URL", matches = ".+")
+class StudyLogQueryPlanTest {
+
+    private static final String[] MAPPERS = {"mapper/StudyMapper.xml", "mapper/ReportMapper.xml", "mapper/StudySummaryMapper.xml"};
+
+    private static Configuration configuration;
+
+    @BeforeAll
+    static void parseMappers() throws Exception {
+        configuration = new Configuration();
+        configuration.setMapUnderscoreToCamelCase(true);
+        configuration.getTypeAliasRegistry().registerAliases("com.tutoroo.entity");
+        for (String resource : MAPPERS) {
+            try (InputStream in = StudyLogQueryPlanTest.class.getClassLoader().getResourceAsStream(resource)) {
+                new XMLMapperBuilder(in, configuration, resource, configuration.getSqlFragments()).parse();
+            }
+        }
+    }
+
+    static Stream<Arguments> accessPaths() {
+        LocalDate today = LocalDate.now();
+        return Stream.of(
+                Arguments.of("StudyMapper.findLogsByUserIdAndDate", Map.of("userId", 1L, "date", today)),
+                Arguments.of("StudySummaryMapper.findByUserIdBetween", Map.of("userId", 1L, "from", today.withDayOfMonth(1), "to", today.withDayOfMonth(1).plusMonths(1))),
+                Arguments.of("StudyMapper.findLatestLogByPlanId", Map.of("planId", 1L)),
+                Arguments.of("StudyMapper.findRecentScoresByPlanId", Map.of("planId", 1L, "limit", 7)),
+                Arguments.of("ReportMapper.aggregateWeek", Map.of("userId", 1L, "from", today.minusDays(7), "to", today)),
+                Arguments.of("ReportMapper.findWeekFeedbacks", Map.of("userId", 1L, "from", today.minusDays(7), "to", today, "limit", 5))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("accessPaths")
+    void study_logs를_인덱스로_읽는다(String statement, Map<String, Object> params) throws Exception {
+        List<Map<String, String>> plan = explain("com.tutoroo.mapper." + statement, new HashMap<>(params));
+
+        List<Map<String, String>> studyLogRows = plan.stream()
+                .filter(row -> row.get("table") != null && !row.get("table").startsWith("<")) // 파생 테이블 결과는 제외
+                .toList();
+        assertThat(studyLogRows).as("EXPLAIN %s", statement).isNotEmpty();
+
+        for (Map<String, String> row : studyLogRows) {
+            assertThat(row.get("type")).as("%s 접근 방식 %s", statement, row).isNotEqualTo("ALL");
+            assertThat(row.get("key")).as("%s 사용 인덱스 %s", statement, row).isNotNull();
+        }
+    }
+
+    // --- 내부 메서드 ---
+
+    private List<Map<String, String>> explain(String statementId, Object params) throws Exception {
+        MappedStatement ms = configuration.getMappedStatement(statementId);
+        BoundSql boundSql = ms.getBoundSql(params);
+
+        try (Connection con = DriverManager.getConnection(
+                System.getenv("TUTOROO_EXPLAIN_DB_URL"),
+                System.getenv("TUTOROO_EXPLAIN_DB_USER"),
+                System.getenv("TUTOROO_EXPLAIN_DB_PASSWORD"));
+             PreparedStatement ps = con.prepareStatement("EXPLAIN " + boundSql.getSql())) {
+            new DefaultParameterHandler(ms, params, boundSql).setParameters(ps);
+
+            List<Map<String, String>> rows = new ArrayList<>();
+            try (ResultSet rs = ps.executeQuery()) {
+                int columns = rs.getMetaData().getColumnCount();
+                while (rs.next()) {
+                    Map<String, String> row = new HashMap<>();
+                    for (int i = 1; i <= columns; i++) {
+                        row.put(rs.getMetaData().getColumnLabel(i), rs.getString(i));
+                    }
+                    rows.add(row);
+                }
+            }
+            return rows;
+        }
+    }
+}
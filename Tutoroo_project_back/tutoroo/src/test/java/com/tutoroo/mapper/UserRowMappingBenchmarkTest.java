@@ -0,0 +1,223 @@
+package com.tutoroo.mapper;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.executor.resultset.DefaultResultSetHandler;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * users 행 매핑 벤치마크.
+ * DB 없이 가짜 ResultSet을 MyBatis DefaultResultSetHandler에 그대로 넣어 행 1건당 매핑 시간과 할당 바이트를 비교합니다.
+ * 1. legacy: 예전 SELECT * + resultType 자동 매핑 (27개 컬럼)
+ * 2. entity: 명시 컬럼 + resultType 자동 매핑 (27개 컬럼)
+ * 3. summary: 랭킹용 UserSummary 생성자 매핑 (5개 컬럼)
+ * 측정용이라 -Dtutoroo.benchmark=true 일 때만 실행됩니다. (예: mvn test -Dtest=UserRowMappingBenchmarkTest -Dtutoroo.benchmark=true)
+ */
+@EnabledIfSystemProperty(named = "tutoroo.benchmark", matches = "true")
+class UserRowMappingBenchmarkTest {
+
+    private static final int ROWS = 10_000;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 50;
+
+    // SELECT * 시절 매핑 경로를 그대로 재현하기 위한 매퍼
+    private static final String LEGACY_MAPPER = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <!DOCTYPE mapper PUBLIC "-//mybatis.org//DTD Mapper 3.0//EN" "http://mybatis.org/dtd/mybatis-3-mapper.dtd">
+            <mapper namespace="legacy">
+                <select id="findAll" resultType="com.tutoroo.entity.UserEntity">SELECT * FROM users</select>
+            </mapper>
+            """;
+
+    private static final Map<String, Object> USER_ROW = new LinkedHashMap<>();
+
+    static {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 9, 0);
+        USER_ROW.put("id", 1L);
+        USER_ROW.put("username", "tutor@tutoroo.com");
+        USER_ROW.put("password", "$2a$10$abcdefghijklmnopqrstuv");
+        USER_ROW.put("name", "홍길동");
+        USER_ROW.put("gender", "M");
+        USER_ROW.put("age", 24);
+        USER_ROW.put("phone", "010-1234-5678");
+        USER_ROW.put("email", "tutor@tutoroo.com");
+        USER_ROW.put("profile_image", "/uploads/profile.png");
+        USER_ROW.put("parent_phone", null);
+        USER_ROW.put("provider", null);
+        USER_ROW.put("provider_id", null);
+        USER_ROW.put("role", "ROLE_USER");
+        USER_ROW.put("status", "ACTIVE");
+        USER_ROW.put("withdrawal_reason", null);
+        USER_ROW.put("deleted_at", null);
+        USER_ROW.put("membership_tier", "BASIC");
+        USER_ROW.put("total_point", 1200);
+        USER_ROW.put("point_balance", 300);
+        USER_ROW.put("daily_rank", 17);
+        USER_ROW.put("level", 3);
+        USER_ROW.put("exp", 250);
+        USER_ROW.put("current_streak", 5);
+        USER_ROW.put("last_study_date", LocalDate.of(2026, 1, 1));
+        USER_ROW.put("rival_id", 2L);
+        USER_ROW.put("created_at", now);
+        USER_ROW.put("updated_at", now);
+    }
+
+    private static final List<String> SUMMARY_COLUMNS = List.of("id", "name", "profile_image", "total_point", "age");
+
+    private static Configuration configuration;
+
+    @BeforeAll
+    static void parseMappers() throws Exception {
+        // application.yml의 mybatis.configuration과 같은 설정
+        configuration = new Configuration();
+        configuration.setMapUnderscoreToCamelCase(true);
+        configuration.setCallSettersOnNulls(true);
+        configuration.getTypeAliasRegistry().registerAliases("com.tutoroo.entity");
+
+        try (InputStream in = UserRowMappingBenchmarkTest.class.getClassLoader().getResourceAsStream("mapper/UserMapper.xml")) {
+            new XMLMapperBuilder(in, configuration, "mapper/UserMapper.xml", configuration.getSqlFragments()).parse();
+        }
+        try (InputStream in = new ByteArrayInputStream(LEGACY_MAPPER.getBytes(StandardCharsets.UTF_8))) {
+            new XMLMapperBuilder(in, configuration, "legacy", configuration.getSqlFragments()).parse();
+        }
+    }
+
+    @Test
+    void 행_매핑_비용을_비교한다() throws Exception {
+        Result legacy = measure("legacy.findAll", List.copyOf(USER_ROW.keySet()));
+        Result entity = measure("com.tutoroo.mapper.UserMapper.findById", List.copyOf(USER_ROW.keySet()));
+        Result summary = measure("com.tutoroo.mapper.UserMapper.getRankingList", SUMMARY_COLUMNS);
+
+        System.out.printf("%-8s %10s %12s%n", "path", "ns/row", "bytes/row");
+        System.out.printf("%-8s %10.1f %12.1f%n", "legacy", legacy.nanosPerRow(), legacy.bytesPerRow());
+        System.out.printf("%-8s %10.1f %12.1f%n", "entity", entity.nanosPerRow(), entity.bytesPerRow());
+        System.out.printf("%-8s %10.1f %12.1f%n", "summary", summary.nanosPerRow(), summary.bytesPerRow());
+
+        assertThat(summary.bytesPerRow()).isLessThan(legacy.bytesPerRow());
+    }
+
+    // --- 내부 메서드 ---
+
+    private record Result(double nanosPerRow, double bytesPerRow) {}
+
+    private Result measure(String statementId, List<String> columns) throws Exception {
+        MappedStatement ms = configuration.getMappedStatement(statementId);
+        for (int i = 0; i < WARMUP; i++) {
+            mapRows(ms, columns);
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertThat(mapRows(ms, columns)).hasSize(ROWS);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        double rows = (double) ROWS * ITERATIONS;
+        return new Result(elapsed / rows, allocated / rows);
+    }
+
+    private List<Object> mapRows(MappedStatement ms, List<String> columns) throws Exception {
+        DefaultResultSetHandler handler = new DefaultResultSetHandler(
+                null, ms, null, null, ms.getBoundSql(new HashMap<>()), RowBounds.DEFAULT);
+        return handler.handleResultSets(statement(resultSet(columns)));
+    }
+
+    // 같은 행을 ROWS번 돌려주는 ResultSet (MyBatis 타입 핸들러가 부르는 메서드만 구현)
+    private static ResultSet resultSet(List<String> columns) {
+        ResultSetMetaData metaData = metaData(columns);
+        int[] cursor = {0};
+        Object[] last = {null};
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "next" -> ++cursor[0] <= ROWS;
+                    case "getMetaData" -> metaData;
+                    case "getType" -> ResultSet.TYPE_FORWARD_ONLY;
+                    case "isClosed" -> false;
+                    case "close" -> null;
+                    case "wasNull" -> last[0] == null;
+                    case "getString", "getInt", "getLong", "getObject", "getTimestamp" -> {
+                        Object value = USER_ROW.get((String) args[0]);
+                        last[0] = value;
+                        yield convert(method.getName(), value);
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static Object convert(String getter, Object value) {
+        return switch (getter) {
+            case "getString" -> value == null ? null : value.toString();
+            case "getInt" -> value == null ? 0 : ((Number) value).intValue();
+            case "getLong" -> value == null ? 0L : ((Number) value).longValue();
+            case "getTimestamp" -> value == null ? null : Timestamp.valueOf((LocalDateTime) value);
+            default -> value;
+        };
+    }
+
+    private static ResultSetMetaData metaData(List<String> columns) {
+        return (ResultSetMetaData) Proxy.newProxyInstance(ResultSetMetaData.class.getClassLoader(), new Class<?>[]{ResultSetMetaData.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getColumnCount" -> columns.size();
+                    case "getColumnLabel", "getColumnName" -> columns.get((Integer) args[0] - 1);
+                    case "getColumnClassName" -> columnClass(columns.get((Integer) args[0] - 1)).getName();
+                    case "getColumnType" -> sqlType(columnClass(columns.get((Integer) args[0] - 1)));
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static Class<?> columnClass(String column) {
+        return switch (column) {
+            case "id", "rival_id" -> Long.class;
+            case "age", "total_point", "point_balance", "daily_rank", "level", "exp", "current_streak" -> Integer.class;
+            case "last_study_date" -> LocalDate.class;
+            case "deleted_at", "created_at", "updated_at" -> LocalDateTime.class;
+            default -> String.class;
+        };
+    }
+
+    private static int sqlType(Class<?> type) {
+        if (type == Long.class) return Types.BIGINT;
+        if (type == Integer.class) return Types.INTEGER;
+        if (type == LocalDate.class) return Types.DATE;
+        if (type == LocalDateTime.class) return Types.TIMESTAMP;
+        return Types.VARCHAR;
+    }
+
+    private static Statement statement(ResultSet resultSet) {
+        return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{Statement.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getResultSet" -> resultSet;
+                    case "getMoreResults" -> false;
+                    case "getUpdateCount" -> -1;
+                    case "getConnection" -> null; // 다중 결과셋 확인은 예외를 무시하고 종료
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,138 @@
+package com.tutoroo.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 AI를 호출하지 않고, 정해진 응답을 돌려주는 StubChatModel로 묶음 생성/검증/단건 대체를 확인합니다.
+ */
+class BatchPromptGeneratorTest {
+
+    private static final String INSTRUCTION = "각 항목에 대해 한 줄 인사말을 써줘.";
+
+    @Test
+    void 묶음_응답이_올바르면_한_번만_호출한다() {
+        StubChatModel chatModel = new StubChatModel(prompt ->
+                "```json\n[{\"id\": 1, \"text\": \"안녕 A\"}, {\"id\": 2, \"text\": \"안녕 B\"}]\n```");
+
+        Map<Long, String> results = generator(chatModel).generate(INSTRUCTION, inputs(1L, 2L), id -> "single-" + id);
+
+        assertThat(results).containsExactly(Map.entry(1L, "안녕 A"), Map.entry(2L, "안녕 B"));
+        assertThat(chatModel.prompts).hasSize(1);
+        assertThat(chatModel.prompts.get(0)).contains(INSTRUCTION).contains("\"id\":1").contains("\"id\":2");
+    }
+
+    @Test
+    void 빠지거나_모르는_id는_단건으로_다시_생성한다() {
+        StubChatModel chatModel = new StubChatModel(prompt -> prompt.startsWith("single-")
+                ? "단건 " + prompt
+                : "[{\"id\": 1, \"text\": \"안녕 A\"}, {\"id\": 99, \"text\": \"엉뚱한 항목\"}, {\"id\": 3, \"text\": \"  \"}]");
+
+        Map<Long, String> results = generator(chatModel).generate(INSTRUCTION, inputs(1L, 2L, 3L), id -> "single-" + id);
+
+        assertThat(results).containsOnly(
+                Map.entry(1L, "안녕 A"),
+                Map.entry(2L, "단건 single-2"),
+                Map.entry(3L, "단건 single-3"));
+        assertThat(chatModel.prompts).containsExactly(chatModel.prompts.get(0), "single-2", "single-3");
+    }
+
+    @Test
+    void 같은_id가_두_번_오면_둘_다_버린다() {
+        StubChatModel chatModel = new StubChatModel(prompt -> prompt.startsWith("single-")
+                ? "단건"
+                : "[{\"id\": 1, \"text\": \"첫 번째\"}, {\"id\": 1, \"text\": \"두 번째\"}, {\"id\": 2, \"text\": \"안녕 B\"}]");
+
+        Map<Long, String> results = generator(chatModel).generate(INSTRUCTION, inputs(1L, 2L), id -> "single-" + id);
+
+        assertThat(results).containsOnly(Map.entry(1L, "단건"), Map.entry(2L, "안녕 B"));
+    }
+
+    @Test
+    void 같은_id가_세_번_와도_모두_버린다() {
+        StubChatModel chatModel = new StubChatModel(prompt -> prompt.startsWith("single-")
+                ? "단건"
+                : "[{\"id\": 1, \"text\": \"첫 번째\"}, {\"id\": 1, \"text\": \"두 번째\"}, {\"id\": 1, \"text\": \"세 번째\"}]");
+
+        Map<Long, String> results = generator(chatModel).generate(INSTRUCTION, inputs(1L, 2L), id -> "single-" + id);
+
+        assertThat(results).containsOnly(Map.entry(1L, "단건"), Map.entry(2L, "단건"));
+    }
+
+    @Test
+    void JSON이_아니면_모두_단건으로_생성한다() {
+        StubChatModel chatModel = new StubChatModel(prompt -> prompt.startsWith("single-")
+                ? "단건"
+                : "죄송하지만 요청을 처리할 수 없습니다.");
+
+        Map<Long, String> results = generator(chatModel).generate(INSTRUCTION, inputs(1L, 2L), id -> "single-" + id);
+
+        assertThat(results).containsOnlyKeys(1L, 2L);
+        assertThat(chatModel.prompts).hasSize(3);
+    }
+
+    @Test
+    void 단건_생성까지_실패한_항목은_결과에서_빠진다() {
+        StubChatModel chatModel = new StubChatModel(prompt -> {
+            if (prompt.equals("single-2")) throw new IllegalStateException("API 오류");
+            return "[{\"id\": 1, \"text\": \"안녕 A\"}]";
+        });
+
+        Map<Long, String> results = generator(chatModel).generate(INSTRUCTION, inputs(1L, 2L), id -> "single-" + id);
+
+        assertThat(results).containsOnlyKeys(1L);
+    }
+
+    @Test
+    void 한_건이면_묶지_않고_단건으로_호출한다() {
+        StubChatModel chatModel = new StubChatModel(prompt -> "단건");
+
+        Map<Long, String> results = generator(chatModel).generate(INSTRUCTION, inputs(7L), id -> "single-" + id);
+
+        assertThat(results).containsExactly(Map.entry(7L, "단건"));
+        assertThat(chatModel.prompts).containsExactly("single-7");
+    }
+
+    // --- Helper ---
+
+    private BatchPromptGenerator generator(ChatModel chatModel) {
+        return new BatchPromptGenerator(chatModel, new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    private Map<Long, String> inputs(Long... ids) {
+        Map<Long, String> inputs = new LinkedHashMap<>();
+        for (Long id : ids) inputs.put(id, "학생 " + id);
+        return inputs;
+    }
+
+    // 프롬프트를 기록하고 정해진 응답을 돌려주는 가짜 ChatModel
+    private static class StubChatModel implements ChatModel {
+        private final Function<String, String> responder;
+        private final List<String> prompts = new ArrayList<>();
+
+        StubChatModel(Function<String, String> responder) {
+            this.responder = responder;
+        }
+
+        @Override
+        public ChatResponse call(Prompt prompt) {
+            String text = prompt.getContents();
+            prompts.add(text);
+            return new ChatResponse(List.of(new Generation(new AssistantMessage(responder.apply(text)))));
+        }
+    }
+}
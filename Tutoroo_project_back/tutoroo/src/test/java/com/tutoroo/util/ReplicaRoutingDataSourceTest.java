@@ -0,0 +1,141 @@
+package com.tutoroo.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 2-DataSource 구성으로 라우팅을 확인합니다.
+ * primary/replica 자리에 커넥션을 연 횟수만 기록하는 StubDataSource를 두고,
+ * 실제 운영과 같은 LazyConnectionDataSourceProxy + DataSourceTransactionManager 조합으로 SQL을 실행합니다.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private final List<String> opened = new ArrayList<>();
+    private final AtomicBoolean replicaAvailable = new AtomicBoolean(true);
+    private final ReadYourWritesTracker tracker = new ReadYourWritesTracker(new RedisTemplate<>());
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                stubDataSource("primary"), stubDataSource("replica"),
+                replicaAvailable::get, tracker::isPinned, new SimpleMeterRegistry());
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        // 기본값을 지정해 두면 프록시가 기본값 확인용 커넥션을 따로 열지 않음 (기록에서 제외)
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void readOnly_트랜잭션은_복제본으로_보낸다() {
+        readOnly.executeWithoutResult(status -> jdbcTemplate.execute("SELECT 1"));
+
+        assertThat(opened).containsExactly("replica");
+    }
+
+    @Test
+    void 쓰기_트랜잭션과_트랜잭션_밖_호출은_primary로_보낸다() {
+        readWrite.executeWithoutResult(status -> jdbcTemplate.execute("UPDATE users SET level = level"));
+        jdbcTemplate.execute("SELECT 1");
+
+        assertThat(opened).containsExactly("primary", "primary");
+    }
+
+    @Test
+    void 복제_지연이_한도를_넘으면_primary로_읽는다() {
+        replicaAvailable.set(false);
+
+        readOnly.executeWithoutResult(status -> jdbcTemplate.execute("SELECT 1"));
+
+        assertThat(opened).containsExactly("primary");
+    }
+
+    @Test
+    void 같은_요청에서_쓴_뒤의_읽기는_primary로_보낸다() {
+        readOnly.executeWithoutResult(status -> jdbcTemplate.execute("SELECT 1"));
+        readWrite.executeWithoutResult(status -> {
+            tracker.recordWrite(); // ReadYourWritesInterceptor가 쓰기 SQL마다 호출
+            jdbcTemplate.execute("UPDATE users SET level = level");
+        });
+        readOnly.executeWithoutResult(status -> jdbcTemplate.execute("SELECT 1"));
+
+        assertThat(opened).containsExactly("replica", "primary", "primary");
+    }
+
+    @Test
+    void 요청_밖에서는_고정하지_않는다() {
+        RequestContextHolder.resetRequestAttributes();
+        tracker.recordWrite();
+
+        readOnly.executeWithoutResult(status -> jdbcTemplate.execute("SELECT 1"));
+
+        assertThat(opened).containsExactly("replica");
+    }
+
+    // --- 내부 메서드 ---
+
+    // 커넥션을 열면 이름을 기록하고, 모든 JDBC 호출은 기본값으로 응답
+    private DataSource stubDataSource(String name) {
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[]{DataSource.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getConnection")) {
+                        opened.add(name);
+                        return stub(Connection.class);
+                    }
+                    return defaultValue(method.getReturnType());
+                });
+    }
+
+    private static <T> T stub(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "createStatement" -> stub(Statement.class);
+                    case "getAutoCommit" -> true;
+                    case "getTransactionIsolation" -> Connection.TRANSACTION_REPEATABLE_READ;
+                    default -> defaultValue(method.getReturnType());
+                }));
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        return null;
+    }
+}